@@ -0,0 +1,50 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede Bet.increaseMultiplier ao longo de uma rodada completa:
+ * cada invocação reinicia a aposta e aplica um aumento por casa segura.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BetBenchmark {
+    private static final int STEPS = 100;
+
+    @Param({"1", "10", "50"})
+    public int mines;
+
+    private Bet bet;
+
+    @Setup
+    public void setup() {
+        bet = new Bet(1.0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public double increaseMultiplier() {
+        bet.reset(1.0);
+        for (int safe = STEPS - 1; safe >= 0; safe--) {
+            bet.increaseMultiplier(safe, mines);
+        }
+        return bet.getCurrentPayout();
+    }
+}
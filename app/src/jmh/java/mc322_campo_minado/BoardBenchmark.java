@@ -0,0 +1,57 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede Board.generateBoard (limpeza + posicionamento das minas) por
+ * tamanho de tabuleiro, densidade e forma de armazenamento. newBoard mede
+ * a criação do tabuleiro: com -prof gc, o gc.alloc.rate.norm é o heap de
+ * um Board em cada formato (PACKED deve ficar muitas vezes abaixo de OBJECTS).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    @Param({"16", "128", "1024"})
+    public int size;
+
+    @Param({"0.10", "0.50"})
+    public double density;
+
+    @Param({"OBJECTS", "PACKED"})
+    public Board.StorageType storage;
+
+    private Board board;
+
+    @Setup
+    public void setup() {
+        int mines = Math.min((int) (size * size * density), size * size - 1);
+        board = new Board(size, size, mines, new FloydMineGenerationStrategy(42L), storage);
+    }
+
+    @Benchmark
+    public Board newBoard() {
+        return new Board(size, size, 0, new FloydMineGenerationStrategy(42L), storage);
+    }
+
+    @Benchmark
+    public int generateBoard() {
+        board.generateBoard();
+        return board.getRemainingSafeCells();
+    }
+}
@@ -0,0 +1,70 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de quadro do BoardPanel: revelação em massa (cascata sobre o
+ * tabuleiro inteiro, como no fim de jogo ou num replay), cópia do estado
+ * para o painel (BoardView, como o engine faz a cada jogada), flush da
+ * região suja e pintura de uma janela de 800x600.
+ * Roda sem tela (java.awt.headless), pintando numa imagem em memória.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BoardPanelBenchmark {
+    @Param({"100", "1000"})
+    public int size;
+
+    private Board board;
+    private BoardPanel panel;
+    private BufferedImage frame;
+
+    @Setup
+    public void setup() {
+        board = new Board(size, size, 0, new FloydMineGenerationStrategy(42L), Board.StorageType.PACKED);
+        panel = new BoardPanel();
+        panel.buildBoard(board, (r, c) -> { });
+        panel.setSize(panel.getPreferredSize());
+        frame = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Setup(Level.Invocation)
+    public void newRound() {
+        board.generateBoard(42L);
+        panel.show(BoardView.of(board));
+        panel.drainDirtyPixels();
+    }
+
+    /** Revela todas as células e pinta o quadro resultante. */
+    @Benchmark
+    public Rectangle massRevealFrame() {
+        board.revealCascade(0, 0);
+        panel.show(BoardView.of(board));
+        Rectangle dirty = panel.drainDirtyPixels();
+        Graphics2D g = frame.createGraphics();
+        g.setClip(0, 0, frame.getWidth(), frame.getHeight());
+        panel.paint(g);
+        g.dispose();
+        return dirty;
+    }
+}
@@ -0,0 +1,69 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo de uma jogada segura em Game.revealCell.
+ * As casas seguras da rodada são reveladas em ordem; quando acabam,
+ * uma nova rodada é iniciada (custo amortizado entre as jogadas).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    @Param({"8", "64", "512"})
+    public int size;
+
+    @Param({"0.10", "0.50"})
+    public double density;
+
+    @Param({"OBJECTS", "PACKED"})
+    public Board.StorageType storage;
+
+    private Game game;
+    private int cursor; // próxima posição linear a tentar
+
+    @Setup
+    public void setup() {
+        int mines = Math.min((int) (size * size * density), size * size - 1);
+        Board board = new Board(size, size, mines, new FloydMineGenerationStrategy(42L), storage);
+        game = new Game(board, new Player(1e15));
+        newRound();
+    }
+
+    private void newRound() {
+        game.startGame(1.0);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public boolean revealCell() {
+        Board board = game.getBoard();
+        int cols = board.getCols();
+        if (game.checkGameOver()) {
+            newRound();
+        }
+        // avança até a próxima casa segura ainda oculta
+        while (board.hasMine(cursor / cols, cursor % cols)) {
+            cursor++;
+        }
+        boolean safe = game.revealCell(cursor / cols, cursor % cols);
+        cursor++;
+        return safe;
+    }
+}
@@ -0,0 +1,68 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rodada completa (início, 256 revelações e saque) num tabuleiro 16x16
+ * sem minas, com e sem journal. A diferença de gc.alloc.rate.norm entre
+ * os dois casos é o que a thread do jogo aloca para registrar os eventos:
+ * deve ficar perto de zero, já que ela só copia campos para o anel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+    @Param({"false", "true"})
+    public boolean journaled;
+
+    private Path file;
+    private RoundJournal journal;
+    private Game game;
+
+    @Setup
+    public void setup() throws IOException {
+        game = new Game(new Board(16, 16, 0), new Player(1e15));
+        if (journaled) {
+            file = Files.createTempFile("rounds", ".cmj");
+            Files.delete(file);
+            journal = new RoundJournal(file);
+            game.setJournal(journal);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public double playRound() {
+        game.startGame(1.0);
+        for (int cell = 0; cell < 256; cell++) {
+            game.revealCell(cell / 16, cell % 16);
+        }
+        return game.cashOut();
+    }
+}
@@ -0,0 +1,53 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o custo de gerar um tabuleiro com cada MineGenerationStrategy
+ * em densidades de minas de 10%, 50% e 99%.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MineGenerationBenchmark {
+    @Param({"random", "floyd"})
+    public String strategy;
+
+    @Param({"0.10", "0.50", "0.99"})
+    public double density;
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private Board board;
+
+    @Setup
+    public void setup() {
+        int mines = Math.min((int) (size * size * density), size * size - 1);
+        MineGenerationStrategy s = strategy.equals("floyd")
+            ? new FloydMineGenerationStrategy()
+            : new RandomMineGenerationStrategy();
+        board = new Board(size, size, mines, s, Board.StorageType.PACKED);
+    }
+
+    @Benchmark
+    public int generateBoard() {
+        board.generateBoard();
+        return board.getRemainingMines();
+    }
+}
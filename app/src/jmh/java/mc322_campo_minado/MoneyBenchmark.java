@@ -0,0 +1,71 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a vazão do ciclo de carteira (aposta, payout com multiplicador,
+ * taxa de dica e saque) em double e em centavos com Money.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private static final int OPS = 1024;
+
+    private final double[] multipliers = new double[OPS];
+    private double doubleBalance;
+    private long minorBalance;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < OPS; i++) {
+            multipliers[i] = 0.4 * (1.0 + i % 37 / 10.0);
+        }
+        doubleBalance = 1e9;
+        minorBalance = Money.toMinor(1e9);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public double doubleLedger() {
+        double bet = 1.25;
+        for (int i = 0; i < OPS; i++) {
+            doubleBalance -= bet;
+            double payout = bet * multipliers[i];
+            double fee = payout * Bet.HINT_FEE_RATE;
+            doubleBalance += payout - fee;
+        }
+        return doubleBalance;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public long fixedPointLedger() {
+        long bet = 125;
+        for (int i = 0; i < OPS; i++) {
+            minorBalance = Money.subtract(minorBalance, bet);
+            long payout = Money.multiply(bet, multipliers[i], RoundingMode.HALF_EVEN);
+            long remaining = Money.multiply(bet, multipliers[i] * (1.0 - Bet.HINT_FEE_RATE),
+                RoundingMode.HALF_EVEN);
+            long fee = payout - remaining;
+            minorBalance = Money.add(minorBalance, payout - fee);
+        }
+        return minorBalance;
+    }
+}
@@ -0,0 +1,79 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de manter as probabilidades de mina atualizadas durante o jogo:
+ * uma revelação seguida da consulta à célula revelada ao lado, num
+ * tabuleiro com várias cascatas já abertas (fronteira grande).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProbabilityBenchmark {
+    @Param({"100", "1000"})
+    public int size;
+
+    private Board board;
+    private MineProbabilitySolver solver;
+    private Random random;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        board = new Board(size, size, size * size / 10, new FloydMineGenerationStrategy(3L),
+            Board.StorageType.PACKED);
+        solver = new MineProbabilitySolver(board);
+        random = new Random(1);
+        newRound();
+    }
+
+    /** Nova rodada com algumas cascatas abertas e as probabilidades já calculadas. */
+    private void newRound() {
+        board.generateBoard(random.nextLong());
+        for (int index = 0; index < size * size; index += 997) {
+            if (!board.hasMineAt(index) && board.adjacentMinesAt(index) == 0) {
+                board.revealCascade(index / size, index % size);
+            }
+        }
+        solver.solve();
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() {
+        solver.close();
+    }
+
+    /** Revela uma casa segura qualquer e consulta a probabilidade ao lado. */
+    @Benchmark
+    public double revealAndQuery() {
+        if (board.getRemainingSafeCells() < size * size / 10) {
+            newRound(); // tabuleiro quase todo aberto (acontece só no menor tamanho)
+        }
+        int cells = size * size;
+        int index;
+        do {
+            index = random.nextInt(cells);
+        } while (board.hasMineAt(index) || board.isRevealedAt(index));
+        board.revealAt(index);
+        int neighbor = index + 1 < cells ? index + 1 : index - 1;
+        return solver.getMineProbability(neighbor / size, neighbor % size);
+    }
+}
@@ -0,0 +1,58 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede rodadas completas (início, jogadas pela política e saque)
+ * por tamanho de tabuleiro, densidade e quantidade de casas reveladas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+    @Param({"5", "16", "64"})
+    public int size;
+
+    @Param({"0.10", "0.30"})
+    public double density;
+
+    @Param({"3", "10"})
+    public int reveal;
+
+    private Game game;
+    private PlayerPolicy policy;
+    private SplittableRandom random;
+
+    @Setup
+    public void setup() {
+        int mines = Math.max(1, (int) (size * size * density));
+        Board board = new Board(size, size, mines, new FloydMineGenerationStrategy(42L),
+            Board.StorageType.PACKED);
+        game = new Game(board, new Player(1e15));
+        policy = new RevealThenCashOutPolicy(reveal, false);
+        random = new SplittableRandom(7L);
+    }
+
+    @Benchmark
+    public double playRound() {
+        game.startGame(1.0);
+        policy.play(game, random);
+        return game.isLost() ? 0.0 : game.cashOut();
+    }
+}
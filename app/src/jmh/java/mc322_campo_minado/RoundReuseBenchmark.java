@@ -0,0 +1,54 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rodada curta num tabuleiro 16x16 reaproveitando o mesmo Game ou criando
+ * Game, Board e Player novos a cada rodada. A alocação por rodada sai no
+ * gc.alloc.rate.norm do profiler gc (ativo no bloco jmh do build):
+ * reaproveitando, deve ficar perto de zero.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundReuseBenchmark {
+    @Param({"true", "false"})
+    public boolean reuse;
+
+    private Game game;
+    private int round;
+
+    @Setup
+    public void setup() {
+        game = new Game(new Board(16, 16, 40), new Player(1e12));
+    }
+
+    @Benchmark
+    public boolean playRound() {
+        if (!reuse) {
+            game = new Game(new Board(16, 16, 40), new Player(1e12));
+        }
+        int row = round++ % 16;
+        game.startGame(1.0);
+        for (int c = 0; c < 4 && game.revealCell(row, c); c++) { }
+        if (!game.checkGameOver()) {
+            game.cashOut();
+        }
+        return game.isLost();
+    }
+}
@@ -0,0 +1,53 @@
+package mc322_campo_minado;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava e restaura o snapshot de um jogo em andamento num buffer direto
+ * reaproveitado. O gc.alloc.rate.norm do profiler gc deve ficar
+ * constante (perto de zero) qualquer que seja o tamanho do tabuleiro.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+    @Param({"64", "512"})
+    public int size;
+
+    private Game game;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        game = new Game(new Board(size, size, size * size / 9, new FloydMineGenerationStrategy(1L),
+            Board.StorageType.PACKED), new Player(100.0));
+        game.startGame(1.0);
+        game.revealCell(0, 0);
+        buffer = ByteBuffer.allocateDirect(game.snapshotSize());
+    }
+
+    @Benchmark
+    public boolean writeAndRestore() {
+        buffer.clear();
+        game.writeSnapshot(buffer);
+        buffer.flip();
+        game.restoreSnapshot(buffer);
+        return game.isLost();
+    }
+}
@@ -1,13 +1,30 @@
 package mc322_campo_minado;
 
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
 /**
  * Representa uma aposta genérica, armazenando o valor inicial
  * e um multiplicador que cresce conforme o jogador revela células seguras.
  * Inclui método para cálculo de taxa de dica (hint) com 75% do payout.
+ * Quando criada com a configuração do tabuleiro, usa uma MultiplierTable
+ * e obtém o multiplicador por consulta direta, sem multiplicações acumuladas.
+ * Valores monetários são guardados em centavos (ver Money); os métodos em
+ * double convertem apenas na fronteira. A taxa de dica é a diferença exata
+ * entre o payout antes e depois dela, então taxa + payout restante sempre fecham.
  */
 public class Bet {
-    private double initialBet;        // valor apostado inicialmente
-    private double currentMultiplier; // multiplicador atual de payout
+    static final double INITIAL_MULTIPLIER = 0.4; // início em 0.4x para reduzir ganhos fáceis
+    static final double HINT_FEE_RATE = 0.75;     // fração do payout cobrada pela dica
+
+    /** Arredondamento do payout (multiplicador × aposta) para centavos. */
+    public static final RoundingMode PAYOUT_ROUNDING = RoundingMode.HALF_EVEN;
+
+    private long initialBet;          // valor apostado inicialmente, em centavos
+    private double multiplier;        // multiplicador de payout, sem as taxas de dica
+    private final MultiplierTable table; // tabela da configuração (null no modo genérico)
+    private int safeReveals;          // casas seguras reveladas (modo tabela)
+    private double feeScale;          // fator restante após taxas de dica (potência exata de 0.25)
 
     /**
      * Construtor: define o valor inicial da aposta e inicializa multiplicador em 0.4x.
@@ -15,11 +32,52 @@ public class Bet {
      * @param initialBet valor apostado
      */
     public Bet(double initialBet) {
+        this(initialBet, null);
+    }
+
+    /**
+     * Construtor para uma configuração de tabuleiro conhecida: o multiplicador
+     * passa a ser lido da MultiplierTable de (cells, mines).
+     *
+     * @param initialBet valor apostado
+     * @param cells      total de células do tabuleiro
+     * @param mines      quantidade de minas
+     */
+    public Bet(double initialBet, int cells, int mines) {
+        this(initialBet, MultiplierTable.of(cells, mines));
+    }
+
+    private Bet(double initialBet, MultiplierTable table) {
+        this.table = table;
+        reset(initialBet);
+    }
+
+    /**
+     * Reinicia a aposta para uma nova rodada, reaproveitando o objeto:
+     * define o novo valor apostado e volta o multiplicador para 0.4x.
+     *
+     * @param initialBet valor apostado
+     * @throws IllegalArgumentException se o valor não for positivo
+     */
+    public void reset(double initialBet) {
+        if (initialBet <= 0) {
+            throw new IllegalArgumentException("Valor de aposta deve ser maior que zero");
+        }
+        resetMinor(Money.toMinor(initialBet));
+    }
+
+    /**
+     * Reinicia a aposta para uma nova rodada com o valor em centavos.
+     *
+     * @param initialBet valor apostado, em centavos
+     * @throws IllegalArgumentException se o valor não for positivo
+     */
+    public void resetMinor(long initialBet) {
         if (initialBet <= 0) {
             throw new IllegalArgumentException("Valor de aposta deve ser maior que zero");
         }
         this.initialBet = initialBet;
-        this.currentMultiplier = 0.4;  // início em 0.4x para reduzir ganhos fáceis
+        resetMultiplier();
     }
 
     /**
@@ -33,30 +91,59 @@ public class Bet {
      * @param remainingMines número de minas ainda não reveladas
      */
     public void increaseMultiplier(int safeCells, int remainingMines) {
+        if (usesTable(remainingMines)) {
+            setSafeReveals(table.getSafeCells() - safeCells);
+            return;
+        }
         if (safeCells <= 0) {
             return; // nada a multiplicar se não restam casas seguras
         }
         int totalUnknown = safeCells + remainingMines;
         double factor = (double) totalUnknown / safeCells;
-        this.currentMultiplier *= factor;
+        this.multiplier *= factor;
+    }
+
+    /**
+     * Aplica de uma vez o aumento correspondente a várias casas seguras
+     * reveladas em sequência (por exemplo, numa cascata).
+     * Equivale a chamar increaseMultiplier para cada casa, com safeCells
+     * decrescendo até o valor final, mas multiplica o acumulado uma única vez.
+     * No modo tabela, é uma consulta O(1).
+     *
+     * @param revealedCells  quantidade de casas seguras reveladas no lote
+     * @param safeCells      casas sem mina ainda não reveladas após o lote
+     * @param remainingMines número de minas ainda não reveladas
+     */
+    public void increaseMultiplier(int revealedCells, int safeCells, int remainingMines) {
+        if (usesTable(remainingMines)) {
+            setSafeReveals(table.getSafeCells() - safeCells);
+            return;
+        }
+        double factor = 1.0;
+        for (int remaining = safeCells + revealedCells - 1; remaining >= safeCells; remaining--) {
+            if (remaining > 0) {
+                factor *= (double) (remaining + remainingMines) / remaining;
+            }
+        }
+        this.multiplier *= factor;
     }
 
     /**
      * Aplica a taxa de dica (hint fee) ao payout atual.
      * Deduz 75% do payout atual (initialBet * currentMultiplier) como taxa de dica.
+     * O fator restante (0.25) é potência de dois, então a escala é exata em double.
      */
     public void applyHintFee() {
-        double fee = getHintFee();
-        double payout = getCurrentPayout();
-        double newPayout = payout - fee;
-        this.currentMultiplier = newPayout / initialBet;
+        feeScale *= 1.0 - HINT_FEE_RATE;
     }
 
     /**
      * Redefine o multiplicador para 0.4x (útil para reiniciar entre rodadas).
      */
     public void resetMultiplier() {
-        this.currentMultiplier = 0.4;
+        this.multiplier = INITIAL_MULTIPLIER;
+        this.safeReveals = 0;
+        this.feeScale = 1.0;
     }
 
     /**
@@ -65,7 +152,32 @@ public class Bet {
      * @return valor de payout atual
      */
     public double getCurrentPayout() {
-        return initialBet * currentMultiplier;
+        return Money.toMajor(getCurrentPayoutMinor());
+    }
+
+    /**
+     * Retorna o payout atual em centavos, arredondado com PAYOUT_ROUNDING.
+     *
+     * @return valor de payout atual, em centavos
+     */
+    public long getCurrentPayoutMinor() {
+        return Money.multiply(initialBet, getCurrentMultiplier(), PAYOUT_ROUNDING);
+    }
+
+    /**
+     * Retorna, em O(1), o payout que seria obtido após mais algumas casas
+     * seguras, considerando as taxas de dica já pagas.
+     *
+     * @param moreReveals casas seguras adicionais
+     * @return payout projetado
+     * @throws IllegalStateException se a aposta não tiver MultiplierTable
+     */
+    public double getPayoutAfter(int moreReveals) {
+        if (table == null) {
+            throw new IllegalStateException("Projeção de payout exige a configuração do tabuleiro");
+        }
+        double projected = table.multiplier(safeReveals + moreReveals) * feeScale;
+        return Money.toMajor(Money.multiply(initialBet, projected, PAYOUT_ROUNDING));
     }
 
     /**
@@ -74,16 +186,25 @@ public class Bet {
      * @return aposta inicial
      */
     public double getInitialBet() {
+        return Money.toMajor(initialBet);
+    }
+
+    /**
+     * Retorna o valor originalmente apostado, em centavos.
+     *
+     * @return aposta inicial em centavos
+     */
+    public long getInitialBetMinor() {
         return initialBet;
     }
 
     /**
      * Retorna o multiplicador atual.
      *
-     * @return multiplicador acumulado
+     * @return multiplicador acumulado, já descontadas as taxas de dica
      */
     public double getCurrentMultiplier() {
-        return currentMultiplier;
+        return multiplier * feeScale;
     }
 
     /**
@@ -92,6 +213,89 @@ public class Bet {
      * @return valor da taxa de hint
      */
     public double getHintFee() {
-        return getCurrentPayout() * 0.75;
+        return Money.toMajor(getHintFeeMinor());
+    }
+
+    /**
+     * Calcula a taxa de dica em centavos: payout atual menos o payout que
+     * restaria após a dica, ambos já arredondados.
+     *
+     * @return valor da taxa de hint, em centavos
+     */
+    public long getHintFeeMinor() {
+        double afterFee = getCurrentMultiplier() * (1.0 - HINT_FEE_RATE);
+        return getCurrentPayoutMinor() - Money.multiply(initialBet, afterFee, PAYOUT_ROUNDING);
+    }
+
+    /**
+     * Grava o estado da aposta (valor, multiplicador, taxa de dica e
+     * casas reveladas) para um snapshot: 8 + 8 + 8 + 4 bytes.
+     *
+     * @param buffer destino
+     */
+    void writeState(ByteBuffer buffer) {
+        buffer.putLong(initialBet).putDouble(multiplier).putDouble(feeScale).putInt(safeReveals);
+    }
+
+    /**
+     * Restaura o estado gravado por writeState.
+     *
+     * @param buffer origem
+     * @throws IllegalArgumentException se o estado for inválido (ver validateState); nada é alterado
+     */
+    void readState(ByteBuffer buffer) {
+        validateState(buffer, buffer.position(), Integer.MAX_VALUE);
+        this.initialBet = buffer.getLong();
+        this.multiplier = buffer.getDouble();
+        this.feeScale = buffer.getDouble();
+        this.safeReveals = buffer.getInt();
+    }
+
+    /**
+     * Confere, sem alterar a aposta nem a posição do buffer, um estado
+     * gravado por writeState: valor positivo, multiplicador finito e não
+     * negativo, escala de taxa que seja potência exata de 0.25 (nenhuma ou
+     * mais dicas) e casas reveladas entre 0 e maxReveals.
+     *
+     * @param buffer     origem
+     * @param position   posição absoluta do estado no buffer
+     * @param maxReveals máximo de casas seguras da configuração
+     * @throws IllegalArgumentException se algum campo estiver fora da faixa
+     */
+    static void validateState(ByteBuffer buffer, int position, int maxReveals) {
+        if (buffer.getLong(position) <= 0) {
+            throw new IllegalArgumentException("Valor de aposta inválido no snapshot");
+        }
+        double multiplier = buffer.getDouble(position + 8);
+        if (!(multiplier >= 0) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("Multiplicador inválido no snapshot");
+        }
+        double scale = buffer.getDouble(position + 16);
+        int exponent = Math.getExponent(scale);
+        if (!(scale > 0 && scale <= 1.0) || scale != Math.scalb(1.0, exponent) || (exponent & 1) != 0) {
+            throw new IllegalArgumentException("Escala de taxa de dica inválida no snapshot");
+        }
+        int reveals = buffer.getInt(position + 24);
+        if (reveals < 0 || reveals > maxReveals) {
+            throw new IllegalArgumentException("Casas reveladas inválidas no snapshot");
+        }
+    }
+
+    /**
+     * Indica se o aumento pode ser lido da tabela: só vale enquanto
+     * nenhuma mina foi revelada (minas restantes = minas da configuração).
+     */
+    private boolean usesTable(int remainingMines) {
+        return table != null && remainingMines == table.getMines();
+    }
+
+    /**
+     * Atualiza o multiplicador a partir da tabela.
+     *
+     * @param reveals casas seguras reveladas desde o início da rodada
+     */
+    private void setSafeReveals(int reveals) {
+        this.safeReveals = reveals;
+        this.multiplier = table.multiplier(reveals);
     }
 }
@@ -1,26 +1,52 @@
 package mc322_campo_minado;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 /**
- * Representa o tabuleiro do jogo, contendo uma matriz de Cells,
+ * Representa o tabuleiro do jogo, contendo as células,
  * o número total de minas e a estratégia de posicionamento.
+ * O estado das células fica em um CellStorage, escolhido via StorageType.
  */
 public class Board {
+    /**
+     * Formas de armazenamento das células do tabuleiro.
+     */
+    public enum StorageType {
+        /** Um objeto Cell por posição (padrão). */
+        OBJECTS,
+        /** Bitsets compactos; objetos Cell criados apenas sob demanda. */
+        PACKED
+    }
+
     private final int rows;                 // número de linhas
     private final int cols;                 // número de colunas
     private final int totalMines;           // quantidade de minas
-    private final Cell[][] cells;           // matriz de células
+    private final CellStorage storage;      // estado das células
+    private final byte[] adjacentMines;     // minas na 8-vizinhança de cada célula (índice linear)
+    private final IntQueue frontier = new IntQueue(64); // fronteira reaproveitada da revelação em cascata
     private final MineGenerationStrategy strategy; // estratégia de distribuição de minas
+    private long seed;                      // semente usada na rodada atual
+    private int startIndex = -1;            // célula inicial suposta na geração (-1: minas fixas)
+    private int remainingSafeCells;         // células seguras ainda não reveladas
+    private int remainingMines;             // minas ainda não reveladas
+    private final ObserverRegistry observerRegistry = new ObserverRegistry(); // observadores por célula
+    private volatile CellObserver[] cellObservers = new CellObserver[0]; // observadores do tabuleiro (copy-on-write)
+    private boolean freeIndexEnabled;       // manter o índice de células livres a cada rodada
+    private int[] freeCells;                // células sem mina, em qualquer ordem
+    private int freeCount = -1;             // tamanho do índice; -1 se desatualizado
 
     /**
-     * Construtor padrão: usa RandomMineGenerationStrategy para posicionar minas.
+     * Construtor padrão: usa FloydMineGenerationStrategy para posicionar minas,
+     * que tem custo O(totalMines) mesmo em tabuleiros quase cheios.
      *
      * @param rows       número de linhas
      * @param cols       número de colunas
      * @param totalMines quantidade de minas
      */
     public Board(int rows, int cols, int totalMines) {
-        this(rows, cols, totalMines, new RandomMineGenerationStrategy());
+        this(rows, cols, totalMines, new FloydMineGenerationStrategy());
     }
 
     /**
@@ -32,8 +58,24 @@ public class Board {
      * @param strategy   implementação de MineGenerationStrategy
      */
     public Board(int rows, int cols, int totalMines, MineGenerationStrategy strategy) {
+        this(rows, cols, totalMines, strategy, StorageType.OBJECTS);
+    }
+
+    /**
+     * Construtor completo: recebe a estratégia de minas e o tipo de armazenamento.
+     *
+     * @param rows        número de linhas
+     * @param cols        número de colunas
+     * @param totalMines  quantidade de minas
+     * @param strategy    implementação de MineGenerationStrategy
+     * @param storageType forma de armazenamento das células
+     */
+    public Board(int rows, int cols, int totalMines, MineGenerationStrategy strategy,
+                 StorageType storageType) {
         if (rows < 1 || cols < 1)
             throw new IllegalArgumentException("Tabuleiro deve ter ao menos 1 linha e 1 coluna");
+        if ((long) rows * cols > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Tabuleiro grande demais");
         if (totalMines < 0 || totalMines >= rows * cols)
             throw new IllegalArgumentException("Quantidade de minas inválida para o tamanho do tabuleiro");
 
@@ -43,27 +85,80 @@ public class Board {
         this.strategy = strategy;
 
         // inicializa todas as células
-        cells = new Cell[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                cells[r][c] = new Cell();
-            }
-        }
+        this.storage = (storageType == StorageType.PACKED)
+            ? new PackedCellStorage(this, rows * cols)
+            : new ObjectCellStorage(this, rows * cols);
+        this.adjacentMines = new byte[rows * cols];
+        resetCounters();
     }
 
     /**
      * Gera o tabuleiro posicionando minas conforme a estratégia escolhida
      * e reseta todas as células não reveladas.
+     * As células existentes são reaproveitadas: o estado de mina, revelação
+     * e observadores é limpo no lugar, sem novas alocações.
      */
     public void generateBoard() {
+        generateBoard(strategy.nextSeed(rows, cols, totalMines));
+    }
+
+    /**
+     * Gera o tabuleiro a partir de uma semente conhecida.
+     * Com estratégias aleatórias, a mesma semente reproduz exatamente
+     * o mesmo tabuleiro para as mesmas dimensões e quantidade de minas.
+     *
+     * @param seed semente da rodada
+     */
+    public void generateBoard(long seed) {
+        this.seed = seed;
+        this.startIndex = strategy.startIndex(rows, cols);
         // limpa todas as células
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                cells[r][c] = new Cell();
-            }
+        storage.clear();
+        observerRegistry.clear();
+        Arrays.fill(adjacentMines, (byte) 0);
+        resetCounters();
+        // distribui as minas (cada setMine atualiza contadores e vizinhança)
+        strategy.generate(this, totalMines, seed);
+        if (freeIndexEnabled) {
+            buildFreeIndex();
+        }
+        notifyBoardChanged();
+    }
+
+    /**
+     * Gera de novo as minas da rodada, com a mesma semente, para que ela
+     * comece na célula informada. Só tem efeito com estratégias que dependem
+     * da primeira revelação (ver MineGenerationStrategy.startIndex) e quando
+     * a célula difere da suposta na geração; deve ser chamado antes de
+     * qualquer revelação. Se a estratégia não tiver tabuleiro para a célula,
+     * volta ao tabuleiro gerado no início da rodada. Os observadores das
+     * células são mantidos, já que a rodada é a mesma.
+     *
+     * @param index posição linear da primeira célula revelada
+     */
+    void generateFrom(int index) {
+        if (startIndex < 0 || startIndex == index) {
+            return;
+        }
+        startIndex = -1; // a rodada já tem célula inicial
+        clearMines();
+        try {
+            strategy.generate(this, totalMines, seed, index);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            clearMines();
+            strategy.generate(this, totalMines, seed);
         }
-        // distribui as minas
-        strategy.generate(cells, totalMines);
+        if (freeIndexEnabled) {
+            buildFreeIndex();
+        }
+        notifyBoardChanged();
+    }
+
+    /** Limpa minas, revelações, vizinhança e contadores, mantendo os observadores. */
+    private void clearMines() {
+        storage.clear();
+        Arrays.fill(adjacentMines, (byte) 0);
+        resetCounters();
     }
 
     /**
@@ -74,43 +169,137 @@ public class Board {
      * @return instância de Cell
      */
     public Cell getCell(int row, int col) {
-        if (row < 0 || row >= rows || col < 0 || col >= cols)
-            throw new IndexOutOfBoundsException("Coordenada fora do tabuleiro");
-        return cells[row][col];
+        return storage.cell(indexOf(row, col));
     }
 
     /**
-     * Conta quantas células seguras (sem mina) ainda não foram reveladas.
+     * Indica se a posição contém mina, sem materializar uma Cell.
      *
-     * @return número de células seguras restantes
+     * @param row índice da linha
+     * @param col índice da coluna
+     * @return true se há mina
      */
-    public int getRemainingSafeCells() {
-        int count = 0;
-        for (Cell[] row : cells) {
-            for (Cell cell : row) {
-                if (!cell.hasMine() && !cell.isRevealed()) {
-                    count++;
+    public boolean hasMine(int row, int col) {
+        return storage.hasMine(indexOf(row, col));
+    }
+
+    /**
+     * Indica se a posição já foi revelada, sem materializar uma Cell.
+     *
+     * @param row índice da linha
+     * @param col índice da coluna
+     * @return true se revelada
+     */
+    public boolean isRevealed(int row, int col) {
+        return storage.isRevealed(indexOf(row, col));
+    }
+
+    /**
+     * Retorna quantas minas existem nas até 8 células vizinhas da posição.
+     * O valor é mantido a cada mina colocada ou retirada, em tempo constante.
+     *
+     * @param row índice da linha
+     * @param col índice da coluna
+     * @return número de minas adjacentes (0 a 8)
+     */
+    public int getAdjacentMines(int row, int col) {
+        return adjacentMines[indexOf(row, col)];
+    }
+
+    /**
+     * Coloca ou retira uma mina da posição, atualizando os contadores.
+     *
+     * @param row  índice da linha
+     * @param col  índice da coluna
+     * @param mine true para ter mina, false caso contrário
+     */
+    public void setMine(int row, int col, boolean mine) {
+        setMineAt(indexOf(row, col), mine);
+    }
+
+    /**
+     * Revela a posição, atualizando os contadores e notificando observadores.
+     * Se já estiver revelada, não faz nada.
+     *
+     * @param row índice da linha
+     * @param col índice da coluna
+     */
+    public void reveal(int row, int col) {
+        revealAt(indexOf(row, col));
+    }
+
+    /**
+     * Revela a posição e, se ela não tiver minas vizinhas, toda a região
+     * conectada de células sem minas vizinhas, junto com sua borda numerada
+     * (cascata do campo minado clássico).
+     * A busca é iterativa, em largura, sobre uma fila de inteiros primitivos:
+     * não há recursão nem um objeto por célula, mesmo em tabuleiros enormes.
+     *
+     * @param row índice da linha (não deve conter mina)
+     * @param col índice da coluna (não deve conter mina)
+     * @return número de células seguras reveladas por esta chamada
+     */
+    public int revealCascade(int row, int col) {
+        return revealCascadeAt(indexOf(row, col));
+    }
+
+    /**
+     * Revelação em cascata pelo índice linear.
+     *
+     * @param start posição linear da célula inicial
+     * @return número de células seguras reveladas
+     */
+    int revealCascadeAt(int start) {
+        if (storage.isRevealed(start) || storage.hasMine(start)) {
+            return 0;
+        }
+        revealAt(start);
+        int revealed = 1;
+        if (adjacentMines[start] != 0) {
+            return revealed;
+        }
+
+        frontier.clear();
+        frontier.add(start);
+        while (!frontier.isEmpty()) {
+            int index = frontier.poll();
+            int r = index / cols;
+            int c = index % cols;
+            for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+                for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                    int neighbor = rr * cols + cc;
+                    // vizinhos de uma célula zero nunca têm mina
+                    if (!storage.isRevealed(neighbor)) {
+                        revealAt(neighbor);
+                        revealed++;
+                        if (adjacentMines[neighbor] == 0) {
+                            frontier.add(neighbor);
+                        }
+                    }
                 }
             }
         }
-        return count;
+        return revealed;
+    }
+
+    /**
+     * Retorna quantas células seguras (sem mina) ainda não foram reveladas.
+     * O valor é mantido incrementalmente, sem percorrer a matriz.
+     *
+     * @return número de células seguras restantes
+     */
+    public int getRemainingSafeCells() {
+        return remainingSafeCells;
     }
 
     /**
-     * Conta quantas minas ainda não foram reveladas.
+     * Retorna quantas minas ainda não foram reveladas.
+     * O valor é mantido incrementalmente, sem percorrer a matriz.
      *
      * @return número de minas restantes não reveladas
      */
     public int getRemainingMines() {
-        int count = 0;
-        for (Cell[] row : cells) {
-            for (Cell cell : row) {
-                if (cell.hasMine() && !cell.isRevealed()) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return remainingMines;
     }
 
     /** @return número de linhas do tabuleiro */
@@ -122,4 +311,372 @@ public class Board {
     public int getCols() {
         return cols;
     }
+
+    /** @return semente usada para gerar a rodada atual */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Fixa as minas atuais da rodada: generateFrom deixa de gerá-las de
+     * novo até a próxima geração. Usado quando o jogador já recebeu
+     * informação sobre elas antes da primeira revelação.
+     */
+    void keepLayout() {
+        startIndex = -1;
+    }
+
+    /** @return célula inicial suposta na geração atual, ou -1 se as minas já estão fixas (para medição e testes) */
+    int getStartIndex() {
+        return startIndex;
+    }
+
+    /** @return estratégia de geração de minas do tabuleiro */
+    MineGenerationStrategy getStrategy() {
+        return strategy;
+    }
+
+    /** @return quantidade de minas configurada */
+    public int getTotalMines() {
+        return totalMines;
+    }
+
+    /**
+     * Converte (row, col) em índice linear, validando os limites.
+     *
+     * @param row índice da linha
+     * @param col índice da coluna
+     * @return row * cols + col
+     */
+    int indexOf(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols)
+            throw new IndexOutOfBoundsException("Coordenada fora do tabuleiro");
+        return row * cols + col;
+    }
+
+    /**
+     * Valida um índice linear.
+     *
+     * @param index posição linear
+     * @return o próprio índice
+     */
+    int checkIndex(int index) {
+        if (index < 0 || index >= rows * cols)
+            throw new IndexOutOfBoundsException("Índice fora do tabuleiro");
+        return index;
+    }
+
+    /**
+     * @param index posição linear da célula
+     * @return true se há mina
+     */
+    boolean hasMineAt(int index) {
+        return storage.hasMine(index);
+    }
+
+    /**
+     * @param index posição linear da célula
+     * @return true se revelada
+     */
+    boolean isRevealedAt(int index) {
+        return storage.isRevealed(index);
+    }
+
+    /**
+     * @return quantidade de palavras de 64 bits em cada bitset de estado
+     */
+    int stateWords() {
+        return (rows * cols + 63) >>> 6;
+    }
+
+    /**
+     * Grava o bitset de minas e depois o de revelações, stateWords()
+     * longs cada, na posição atual do buffer.
+     *
+     * @param buffer destino, com espaço para 2 * stateWords() longs
+     */
+    void writeState(ByteBuffer buffer) {
+        int words = stateWords();
+        for (int w = 0; w < words; w++) {
+            buffer.putLong(storage.mineWord(w));
+        }
+        for (int w = 0; w < words; w++) {
+            buffer.putLong(storage.revealedWord(w));
+        }
+    }
+
+    /**
+     * Copia os bitsets de minas e de revelações para os arrays informados,
+     * com stateWords() posições cada (usado por BoardView).
+     *
+     * @param mines    destino do bitset de minas
+     * @param revealed destino do bitset de revelações
+     */
+    void copyState(long[] mines, long[] revealed) {
+        int words = stateWords();
+        for (int w = 0; w < words; w++) {
+            mines[w] = storage.mineWord(w);
+            revealed[w] = storage.revealedWord(w);
+        }
+    }
+
+    /**
+     * Recarrega minas e revelações gravadas por writeState, refazendo
+     * contadores e vizinhança como em generateBoard, sem alocar.
+     * Observadores das células são descartados, como numa nova rodada.
+     * Os bits são validados antes de qualquer alteração.
+     *
+     * @param buffer origem, posicionada no início dos bitsets
+     * @param seed   semente registrada para a rodada
+     * @throws IllegalArgumentException se os bits não formarem um tabuleiro válido
+     */
+    void readState(ByteBuffer buffer, long seed) {
+        validateState(buffer);
+        this.seed = seed;
+        this.startIndex = strategy.startIndex(rows, cols);
+        storage.clear();
+        observerRegistry.clear();
+        Arrays.fill(adjacentMines, (byte) 0);
+        resetCounters();
+        int words = stateWords();
+        for (int w = 0; w < words; w++) {
+            for (long bits = buffer.getLong(); bits != 0; bits &= bits - 1) {
+                setMineAt((w << 6) + Long.numberOfTrailingZeros(bits), true);
+            }
+        }
+        if (freeIndexEnabled) {
+            buildFreeIndex();
+        }
+        for (int w = 0; w < words; w++) {
+            for (long bits = buffer.getLong(); bits != 0; bits &= bits - 1) {
+                revealAt((w << 6) + Long.numberOfTrailingZeros(bits));
+            }
+        }
+        notifyBoardChanged();
+    }
+
+    /**
+     * Confere, sem alterar o tabuleiro nem a posição do buffer, se os bitsets
+     * cabem no tabuleiro e têm exatamente totalMines minas.
+     */
+    private void validateState(ByteBuffer buffer) {
+        int words = stateWords();
+        int position = buffer.position();
+        if (buffer.remaining() < 16 * words) {
+            throw new IllegalArgumentException("Snapshot incompleto");
+        }
+        int tail = rows * cols & 63;
+        long outside = tail == 0 ? 0 : -1L << tail; // bits além da última célula
+        int mines = 0;
+        for (int w = 0; w < words; w++) {
+            long mineBits = buffer.getLong(position + 8 * w);
+            long revealedBits = buffer.getLong(position + 8 * (words + w));
+            if (w == words - 1 && ((mineBits | revealedBits) & outside) != 0) {
+                throw new IllegalArgumentException("Célula fora do tabuleiro no snapshot");
+            }
+            mines += Long.bitCount(mineBits);
+        }
+        if (mines != totalMines) {
+            throw new IllegalArgumentException("Snapshot com " + mines + " minas, esperado " + totalMines);
+        }
+    }
+
+    /**
+     * Zera os contadores para um tabuleiro sem minas e sem células reveladas.
+     */
+    private void resetCounters() {
+        remainingSafeCells = rows * cols;
+        remainingMines = 0;
+    }
+
+    /**
+     * Coloca ou retira uma mina pelo índice linear.
+     *
+     * @param index posição linear da célula
+     * @param mine  true para ter mina
+     */
+    void setMineAt(int index, boolean mine) {
+        if (storage.hasMine(index) == mine) {
+            return;
+        }
+        freeCount = -1; // mudança fora de relocateMine: o índice de livres é refeito se preciso
+        storage.setMine(index, mine);
+        adjustNeighbors(index, mine ? 1 : -1);
+        if (!storage.isRevealed(index)) {
+            // células reveladas não entram nos contadores
+            int delta = mine ? 1 : -1;
+            remainingMines += delta;
+            remainingSafeCells -= delta;
+        }
+    }
+
+    /**
+     * Ativa ou desativa o índice plano de células livres (sem mina), usado
+     * por relocateMine. Ativo, o índice é montado em cada generateBoard,
+     * junto com a limpeza do tabuleiro; inativo, não ocupa memória.
+     *
+     * @param enabled true para manter o índice
+     */
+    void setFreeCellIndex(boolean enabled) {
+        freeIndexEnabled = enabled;
+        if (!enabled) {
+            freeCells = null;
+            freeCount = -1;
+        }
+    }
+
+    /**
+     * Move a mina da célula para uma célula livre sorteada, em tempo
+     * constante: o destino sai de uma posição aleatória do índice de
+     * livres, que passa a guardar a célula de origem. As contagens de minas
+     * adjacentes são corrigidas só ao redor das duas células.
+     * Pensado para a primeira jogada: o destino pode ser qualquer célula
+     * livre, mesmo já revelada.
+     * Se o índice estiver desatualizado (índice desativado ou setMine
+     * depois da geração), ele é refeito antes, em O(rows * cols).
+     *
+     * @param index  posição linear de uma célula com mina
+     * @param random gerador usado no sorteio do destino
+     * @return posição linear que recebeu a mina
+     * @throws IllegalStateException se a célula não tiver mina
+     */
+    int relocateMine(int index, SplittableRandom random) {
+        if (!storage.hasMine(index))
+            throw new IllegalStateException("Célula sem mina para mover");
+        if (freeCount < 0) {
+            buildFreeIndex();
+        }
+        int count = freeCount;
+        if (count == 0)
+            throw new IllegalStateException("Nenhuma célula livre para receber a mina");
+        int slot = random.nextInt(count);
+        int target = freeCells[slot];
+        setMineAt(index, false);
+        setMineAt(target, true);
+        freeCells[slot] = index;
+        freeCount = count;
+        return target;
+    }
+
+    /**
+     * Monta o índice de células livres a partir do bitset de minas,
+     * 64 células por palavra.
+     */
+    private void buildFreeIndex() {
+        int n = rows * cols;
+        if (freeCells == null || freeCells.length != n - totalMines) {
+            freeCells = new int[n - totalMines];
+        }
+        int count = 0;
+        int words = stateWords();
+        for (int w = 0; w < words; w++) {
+            long free = ~storage.mineWord(w);
+            if (w == words - 1 && (n & 63) != 0) {
+                free &= (1L << (n & 63)) - 1; // bits além da última célula
+            }
+            for (; free != 0 && count < freeCells.length; free &= free - 1) {
+                freeCells[count++] = (w << 6) + Long.numberOfTrailingZeros(free);
+            }
+        }
+        freeCount = count;
+    }
+
+    /**
+     * Soma delta à contagem de minas adjacentes de cada vizinho da célula.
+     *
+     * @param index posição linear da célula cuja mina mudou
+     * @param delta +1 se ganhou mina, -1 se perdeu
+     */
+    private void adjustNeighbors(int index, int delta) {
+        int r = index / cols;
+        int c = index % cols;
+        for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+            for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                if (rr != r || cc != c) {
+                    int neighbor = rr * cols + cc;
+                    adjacentMines[neighbor] = (byte) (adjacentMines[neighbor] + delta);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna a contagem de minas adjacentes pelo índice linear.
+     *
+     * @param index posição linear da célula
+     * @return número de minas adjacentes
+     */
+    int adjacentMinesAt(int index) {
+        return adjacentMines[index];
+    }
+
+    /**
+     * Revela uma célula pelo índice linear.
+     *
+     * @param index posição linear da célula
+     */
+    void revealAt(int index) {
+        if (storage.isRevealed(index)) {
+            return;
+        }
+        storage.setRevealed(index, true);
+        if (storage.hasMine(index)) {
+            remainingMines--;
+        } else {
+            remainingSafeCells--;
+        }
+        observerRegistry.notifyCell(index);
+        CellObserver[] current = cellObservers;
+        for (int i = 0; i < current.length; i++) {
+            current[i].cellChanged(index);
+        }
+    }
+
+    /**
+     * Registro dos observadores de células individuais (Cell.addObserver).
+     *
+     * @return registro do tabuleiro
+     */
+    ObserverRegistry observerRegistry() {
+        return observerRegistry;
+    }
+
+    /**
+     * Registra um observador de todas as células do tabuleiro.
+     *
+     * @param observer objeto notificado a cada célula revelada e a cada nova rodada
+     */
+    public synchronized void addCellObserver(CellObserver observer) {
+        CellObserver[] updated = Arrays.copyOf(cellObservers, cellObservers.length + 1);
+        updated[updated.length - 1] = observer;
+        cellObservers = updated;
+    }
+
+    /**
+     * Remove um observador registrado com addCellObserver.
+     *
+     * @param observer observador a remover
+     */
+    public synchronized void removeCellObserver(CellObserver observer) {
+        CellObserver[] current = cellObservers;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == observer) {
+                CellObserver[] updated = new CellObserver[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                cellObservers = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Avisa os observadores de tabuleiro que todas as células podem ter mudado.
+     */
+    private void notifyBoardChanged() {
+        CellObserver[] current = cellObservers;
+        for (int i = 0; i < current.length; i++) {
+            current[i].boardChanged();
+        }
+    }
 }
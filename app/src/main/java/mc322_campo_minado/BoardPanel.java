@@ -2,77 +2,386 @@ package mc322_campo_minado;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
 
 /**
- * Painel que renderiza o tabuleiro do jogo usando CellButton para cada célula.
- * Usa CellButtonFactory para criar e configurar os botões e expõe acesso ao array
- * de botões para funcionalidades como hint.
+ * Componente único que desenha o tabuleiro com Graphics2D, sem um
+ * componente Swing por célula. Só a região visível (clip) é desenhada,
+ * então o custo de layout e de repaint não depende do tamanho do tabuleiro.
+ * Deve ser colocado em um JScrollPane: em tabuleiros pequenos as células
+ * crescem para ocupar a janela; em tabuleiros grandes ficam com o tamanho
+ * mínimo e o painel rola.
+ * O painel nunca lê o Board, que é alterado pela thread do engine e não é
+ * thread-safe: pinta a partir da última BoardView (cópia imutável feita
+ * pelo engine) entregue em show. As células que mudaram entre duas cópias
+ * entram numa DirtyRegion, e a região acumulada é repintada uma vez por
+ * quadro na EDT. Uma revelação em massa (fim de jogo, cascata, replay)
+ * vira um único repaint.
  */
-public class BoardPanel extends JPanel {
-    private CellButton[][] cellButtons; // matriz de botões que representam as células do tabuleiro
+public class BoardPanel extends JComponent implements Scrollable {
+    private static final Color BG_DEFAULT  = Color.decode("#1E2230");
+    private static final Color BG_REVEALED = Color.decode("#151821");
+    private static final Color BG_MINE     = Color.decode("#B71C1C");
+    private static final Color BG_HINT     = Color.decode("#2E7D32");
+
+    /** Tamanho mínimo de uma célula, em pixels (sem o espaçamento). */
+    private static final int MIN_CELL = 24;
+    /** Espaçamento entre células, em pixels. */
+    private static final int GAP = 4;
+    private static final int MIN_PITCH = MIN_CELL + GAP;
+    /** Intervalo entre quadros, em ms (~60 quadros por segundo). */
+    private static final int FRAME_MS = 16;
+
+    private final DirtyRegion dirty = new DirtyRegion(); // células alteradas desde o último quadro
+    private final Timer frameTimer;     // dispara o flush da região suja na EDT
+    private long frames;                // quadros efetivamente repintados (para medição)
+
+    private Board board;                // mesa desenhada; só as dimensões (finais) são lidas
+    private BoardView view;             // último estado publicado pelo engine (null: tudo oculto)
+    private CellClickListener listener; // callback atual de clique
+    private boolean minesRevealed;      // fim de rodada: mostra todas as minas e bloqueia cliques
+    private int explodedIndex = -1;     // célula da explosão, ou -1
+    private int[] hinted = new int[0];  // células destacadas pela dica
+    private boolean[] hintedMine = new boolean[0]; // estado de mina informado pela dica
+    private int hintedCount;
+
+    // Imagens do cache compartilhado no tamanho atual das células
+    private int iconSize = -1;
+    private Image gemImage, mineImage, explosionImage;
 
     /**
-     * Construtor padrão.
+     * Construtor padrão: registra o mapeamento de cliques para (linha, coluna).
      */
     public BoardPanel() {
         super();
+        setOpaque(true);
+        setBackground(UIManager.getColor("Panel.background"));
+        frameTimer = new Timer(FRAME_MS, e -> flushDirty());
+        frameTimer.setRepeats(false);
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                if (!SwingUtilities.isLeftMouseButton(e) || !contains(e.getPoint())) return;
+                int index = cellAt(e.getX(), e.getY());
+                if (index >= 0 && isClickable(index)) {
+                    listener.onCellClick(index / board.getCols(), index % board.getCols());
+                }
+            }
+        });
     }
 
     /**
-     * Monta o tabuleiro de acordo com o objeto Board fornecido.
-     * Para cada célula, delega a criação ao CellButtonFactory.
+     * Associa o tabuleiro da nova rodada ao painel e limpa os destaques e o
+     * estado da rodada anterior: todas as células aparecem ocultas até o
+     * primeiro show. Do tabuleiro só são lidas as dimensões. Não cria
+     * componentes: o custo é O(1) em qualquer tamanho de tabuleiro.
      *
      * @param board    objeto Board com as células do jogo
-     * @param listener callback chamado em cada clique, recebendo (row, col, button)
+     * @param listener callback chamado em cada clique, recebendo (row, col)
      */
     public void buildBoard(Board board, CellClickListener listener) {
-        int rows = board.getRows();
-        int cols = board.getCols();
-        removeAll(); // Remove componentes anteriores
-        setLayout(new GridLayout(rows, cols, 4, 4)); // grid com espaçamento
-
-        cellButtons = new CellButton[rows][cols];
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                // Cria e configura o botão via fábrica
-                CellButton btn = CellButtonFactory.create(r, c, listener);
-                btn.reset();                 // garante estado inicial
-                cellButtons[r][c] = btn;     // armazena para acesso futuro
-                add(btn);                    // adiciona ao painel
+        Board previous = this.board;
+        boolean resized = previous == null
+            || previous.getRows() != board.getRows() || previous.getCols() != board.getCols();
+        this.board = board;
+        this.view = null;
+        this.listener = listener;
+        this.minesRevealed = false;
+        this.explodedIndex = -1;
+        this.hintedCount = 0;
+
+        if (resized) {
+            revalidate();
+        }
+        markAllDirty();
+    }
+
+    /**
+     * Passa a desenhar o estado copiado pelo engine. Só as células que
+     * mudaram desde a cópia anterior entram na região suja. Cópias de
+     * outro tabuleiro (eventos atrasados de uma mesa anterior) são ignoradas.
+     *
+     * @param next cópia feita pela thread que altera o Board
+     */
+    void show(BoardView next) {
+        if (next.getSource() != board) return;
+        BoardView previous = view;
+        view = next;
+        if (previous == null) {
+            markAllDirty();
+            return;
+        }
+        int cols = next.getCols();
+        int minRow = Integer.MAX_VALUE, maxRow = -1, minCol = Integer.MAX_VALUE, maxCol = -1;
+        for (int w = 0; w < next.words(); w++) {
+            for (long bits = next.changedWord(previous, w); bits != 0; bits &= bits - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(bits);
+                int r = index / cols, c = index % cols;
+                minRow = Math.min(minRow, r);
+                maxRow = Math.max(maxRow, r);
+                minCol = Math.min(minCol, c);
+                maxCol = Math.max(maxCol, c);
             }
         }
+        if (maxRow >= 0) {
+            // os dois cantos bastam: a região guarda o retângulo envolvente
+            markDirty(minRow, minCol);
+            markDirty(maxRow, maxCol);
+        }
+    }
 
-        revalidate();
-        repaint();
+    /**
+     * Revela todas as minas do tabuleiro exibido e bloqueia novos cliques.
+     */
+    public void revealAllMines() {
+        this.minesRevealed = true;
+        markAllDirty();
     }
 
     /**
-     * Revela todas as minas no tabuleiro: exibe o ícone de mina e desabilita botões.
+     * Marca a célula onde a mina foi detonada.
      *
-     * @param board objeto Board para consultar localização das minas
+     * @param row linha da célula
+     * @param col coluna da célula
      */
-    public void revealAllMines(Board board) {
-        int rows = board.getRows();
-        int cols = board.getCols();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                CellButton btn = cellButtons[r][c];
-                if (board.getCell(r, c).hasMine()) {
-                    btn.showMine();
-                }
-                btn.setEnabled(false);
-            }
+    public void showExplosion(int row, int col) {
+        explodedIndex = row * board.getCols() + col;
+        markDirty(row, col);
+    }
+
+    /**
+     * Destaca temporariamente uma célula oculta (dica): minas aparecem com
+     * o ícone de mina e células seguras só com o fundo verde. O estado de
+     * mina vem do resultado da dica (Game.useHint), não do Board.
+     * Células destacadas não recebem cliques até clearHints.
+     *
+     * @param row  linha da célula
+     * @param col  coluna da célula
+     * @param mine true se a dica indicou mina na célula
+     */
+    public void showHint(int row, int col, boolean mine) {
+        if (hintedCount == hinted.length) {
+            hinted = Arrays.copyOf(hinted, Math.max(4, hintedCount * 2));
+            hintedMine = Arrays.copyOf(hintedMine, hinted.length);
+        }
+        hintedMine[hintedCount] = mine;
+        hinted[hintedCount++] = row * board.getCols() + col;
+        markDirty(row, col);
+    }
+
+    /** Remove os destaques da dica. */
+    public void clearHints() {
+        for (int i = 0; i < hintedCount; i++) {
+            markDirty(hinted[i] / board.getCols(), hinted[i] % board.getCols());
+        }
+        hintedCount = 0;
+    }
+
+    /** Todo o tabuleiro entra na região suja do próximo quadro. */
+    private void markAllDirty() {
+        if (dirty.markAll(board.getRows(), board.getCols())) {
+            frameTimer.restart();
+        }
+    }
+
+    /**
+     * Marca uma célula para o próximo quadro; só a primeira marcação
+     * depois de um flush agenda o timer.
+     */
+    private void markDirty(int row, int col) {
+        if (dirty.mark(row, col)) {
+            frameTimer.restart();
         }
     }
 
     /**
-     * Retorna a matriz de botões do tabuleiro.
+     * Drena a região suja e a converte em pixels, recortada à parte visível.
      *
-     * @return matriz de CellButton
+     * @return retângulo a repintar, ou null se não há nada visível para atualizar
      */
-    public CellButton[][] getCellButtons() {
-        return cellButtons;
+    Rectangle drainDirtyPixels() {
+        Rectangle cells = dirty.drain();
+        if (cells == null || board == null) return null;
+        int pitch = pitch();
+        Rectangle pixels = new Rectangle(originX(pitch) + cells.x * pitch, originY(pitch) + cells.y * pitch,
+            cells.width * pitch, cells.height * pitch).intersection(getVisibleRect());
+        return pixels.isEmpty() ? null : pixels;
+    }
+
+    /** Executado pelo timer na EDT: um repaint por quadro para tudo o que mudou. */
+    private void flushDirty() {
+        Rectangle pixels = drainDirtyPixels();
+        if (pixels != null) {
+            frames++;
+            repaint(pixels);
+        }
+    }
+
+    /** @return quantos quadros com alterações visíveis foram repintados */
+    long getFrameCount() {
+        return frames;
+    }
+
+    /**
+     * Converte uma posição do painel no índice linear da célula.
+     *
+     * @param x coordenada x, em pixels
+     * @param y coordenada y, em pixels
+     * @return índice da célula, ou -1 se a posição cair fora do tabuleiro ou no espaçamento
+     */
+    int cellAt(int x, int y) {
+        if (board == null) return -1;
+        int pitch = pitch();
+        int px = x - originX(pitch);
+        int py = y - originY(pitch);
+        if (px < 0 || py < 0) return -1;
+        int col = px / pitch;
+        int row = py / pitch;
+        if (row >= board.getRows() || col >= board.getCols()
+                || px % pitch >= pitch - GAP || py % pitch >= pitch - GAP) {
+            return -1;
+        }
+        return row * board.getCols() + col;
+    }
+
+    private boolean isClickable(int index) {
+        if (minesRevealed || listener == null || view == null) return false;
+        if (view.isRevealed(index)) return false;
+        for (int i = 0; i < hintedCount; i++) {
+            if (hinted[i] == index) return false;
+        }
+        return true;
+    }
+
+    /** @return posição da célula entre as destacadas pela dica, ou -1 */
+    private int hintSlot(int index) {
+        for (int i = 0; i < hintedCount; i++) {
+            if (hinted[i] == index) return i;
+        }
+        return -1;
+    }
+
+    /** @return distância entre o início de duas células vizinhas, em pixels */
+    private int pitch() {
+        if (board == null) return MIN_PITCH;
+        int fit = Math.min(getWidth() / board.getCols(), getHeight() / board.getRows());
+        return Math.max(MIN_PITCH, fit);
+    }
+
+    private int originX(int pitch) {
+        return Math.max(0, (getWidth() - board.getCols() * pitch) / 2);
+    }
+
+    private int originY(int pitch) {
+        return Math.max(0, (getHeight() - board.getRows() * pitch) / 2);
+    }
+
+    /**
+     * Pinta apenas as células que intersectam a região de clip.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (board == null) return;
+
+        Graphics2D g2 = (Graphics2D) g;
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int pitch = pitch();
+        int size = pitch - GAP;
+        int ox = originX(pitch);
+        int oy = originY(pitch);
+        if (size != iconSize) {
+            iconSize = size;
+            gemImage = CellImages.gem(size);
+            mineImage = CellImages.mine(size);
+            explosionImage = CellImages.explosion(size);
+        }
+
+        int firstCol = Math.max(0, (clip.x - ox) / pitch);
+        int lastCol  = Math.min(cols - 1, (clip.x + clip.width - 1 - ox) / pitch);
+        int firstRow = Math.max(0, (clip.y - oy) / pitch);
+        int lastRow  = Math.min(rows - 1, (clip.y + clip.height - 1 - oy) / pitch);
+
+        for (int r = firstRow; r <= lastRow; r++) {
+            int y = oy + r * pitch;
+            for (int c = firstCol; c <= lastCol; c++) {
+                paintCell(g2, r, c, ox + c * pitch, y, size);
+            }
+        }
+    }
+
+    private void paintCell(Graphics2D g2, int r, int c, int x, int y, int size) {
+        int index = r * board.getCols() + c;
+        BoardView state = view;
+        boolean revealed = state != null && state.isRevealed(index);
+        int slot = !revealed && hintedCount > 0 ? hintSlot(index) : -1;
+        boolean hint = slot >= 0;
+        boolean mine = hint ? hintedMine[slot] : state != null && state.hasMine(index);
+        Image icon = null;
+        Color bg = BG_DEFAULT;
+
+        if (revealed || (mine && (minesRevealed || hint))) {
+            if (mine) {
+                bg = BG_MINE;
+                icon = index == explodedIndex ? explosionImage : mineImage;
+            } else {
+                bg = BG_REVEALED;
+                icon = gemImage;
+            }
+        } else if (hint) {
+            bg = BG_HINT;
+        }
+
+        g2.setColor(bg);
+        g2.fillRect(x, y, size, size);
+        if (icon != null) {
+            g2.drawImage(icon, x, y, null); // já no tamanho da célula
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if (board == null) return new Dimension(MIN_PITCH * 8, MIN_PITCH * 8);
+        return new Dimension(board.getCols() * MIN_PITCH, board.getRows() * MIN_PITCH);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension pref = getPreferredSize();
+        return new Dimension(Math.min(pref.width, 560), Math.min(pref.height, 560));
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return MIN_PITCH;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+        return Math.max(MIN_PITCH, extent - MIN_PITCH);
+    }
+
+    /** Ocupa a largura da janela enquanto o tabuleiro couber nela. */
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        Container parent = SwingUtilities.getUnwrappedParent(this);
+        return parent instanceof JViewport && parent.getWidth() >= getPreferredSize().width;
+    }
+
+    /** Ocupa a altura da janela enquanto o tabuleiro couber nela. */
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        Container parent = SwingUtilities.getUnwrappedParent(this);
+        return parent instanceof JViewport && parent.getHeight() >= getPreferredSize().height;
     }
 
     /**
@@ -80,12 +389,11 @@ public class BoardPanel extends JPanel {
      */
     public interface CellClickListener {
         /**
-         * Invocado quando o usuário clica em uma célula.
+         * Invocado quando o usuário clica em uma célula oculta.
          *
-         * @param row    linha da célula clicada
-         * @param col    coluna da célula clicada
-         * @param button instância de CellButton que recebeu o clique
+         * @param row linha da célula clicada
+         * @param col coluna da célula clicada
          */
-        void onCellClick(int row, int col, CellButton button);
+        void onCellClick(int row, int col);
     }
 }
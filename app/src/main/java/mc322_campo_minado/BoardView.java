@@ -0,0 +1,80 @@
+package mc322_campo_minado;
+
+/**
+ * Cópia imutável do estado das células de um Board (minas e revelações em
+ * bitsets), feita pela thread que altera o tabuleiro e publicada para ser
+ * lida em outra, como a EDT. O Board não é thread-safe; a cópia é: seus
+ * campos são finais e nunca mudam depois da construção.
+ */
+final class BoardView {
+    private final Board source;     // tabuleiro de origem (só para identificar a mesa)
+    private final int rows;
+    private final int cols;
+    private final long[] mines;     // bit i = célula i tem mina
+    private final long[] revealed;  // bit i = célula i revelada
+
+    /**
+     * Copia o estado atual do tabuleiro. Deve rodar na thread dona do Board.
+     *
+     * @param board tabuleiro de origem
+     * @return cópia do estado
+     */
+    static BoardView of(Board board) {
+        return new BoardView(board);
+    }
+
+    private BoardView(Board board) {
+        this.source = board;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        int words = board.stateWords();
+        this.mines = new long[words];
+        this.revealed = new long[words];
+        board.copyState(mines, revealed);
+    }
+
+    /** @return tabuleiro de onde a cópia foi feita */
+    Board getSource() {
+        return source;
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getCols() {
+        return cols;
+    }
+
+    /**
+     * @param index posição linear da célula
+     * @return true se a célula tinha mina no momento da cópia
+     */
+    boolean hasMine(int index) {
+        return (mines[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * @param index posição linear da célula
+     * @return true se a célula estava revelada no momento da cópia
+     */
+    boolean isRevealed(int index) {
+        return (revealed[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Palavra de células que diferem entre as duas cópias (mina ou revelação).
+     *
+     * @param other cópia do mesmo tabuleiro
+     * @param word  índice da palavra
+     * @return bits das células alteradas
+     */
+    long changedWord(BoardView other, int word) {
+        return (mines[word] ^ other.mines[word]) | (revealed[word] ^ other.revealed[word]);
+    }
+
+    /** @return palavras de 64 bits em cada bitset */
+    int words() {
+        return mines.length;
+    }
+}
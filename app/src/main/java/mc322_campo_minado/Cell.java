@@ -1,24 +1,49 @@
 package mc322_campo_minado;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Representa uma célula do tabuleiro: pode conter mina e manter estado revelado.
- * Notifica observadores quando seu estado muda.
+ * Notifica observadores quando seu estado muda. Os observadores de células
+ * de um tabuleiro ficam no ObserverRegistry do Board (por referência fraca),
+ * não na própria célula: uma célula sem observadores não aloca nada.
  */
 public class Cell {
     private boolean hasMine = false;    // indica se há mina nesta célula
     private boolean isRevealed = false; // indica se a célula já foi revelada
 
-    private final List<Observer> observers = new ArrayList<>();
+    private ObserverRegistry ownObservers; // só para células avulsas; criado no primeiro addObserver
+
+    private final Board owner;          // tabuleiro dono da célula (null se avulsa)
+    private final int index;            // posição linear no tabuleiro (row * cols + col)
+
+    /**
+     * Construtor padrão: cria uma célula avulsa, sem tabuleiro associado.
+     */
+    public Cell() {
+        this(null, -1);
+    }
+
+    /**
+     * Construtor usado pelo Board: alterações de mina e revelações passam
+     * pelo tabuleiro, que mantém seus contadores em dia.
+     *
+     * @param owner tabuleiro ao qual a célula pertence
+     * @param index posição linear da célula no tabuleiro
+     */
+    Cell(Board owner, int index) {
+        this.owner = owner;
+        this.index = index;
+    }
 
     /**
      * Marca esta célula como contendo mina.
      * @param mine true para ter mina, false caso contrário
      */
     public void setMine(boolean mine) {
-        this.hasMine = mine;
+        if (owner != null) {
+            owner.setMineAt(index, mine);
+        } else {
+            this.hasMine = mine;
+        }
     }
 
     /**
@@ -34,7 +59,9 @@ public class Cell {
      * Se já estiver revelada, não faz nada.
      */
     public void reveal() {
-        if (!isRevealed) {
+        if (owner != null) {
+            owner.revealAt(index);
+        } else if (!isRevealed) {
             isRevealed = true;
             notifyObservers();
         }
@@ -50,10 +77,12 @@ public class Cell {
 
     /**
      * Registra um observador para ser notificado quando o estado mudar.
+     * O observador é guardado por referência fraca: quem registra deve
+     * mantê-lo vivo enquanto quiser receber notificações.
      * @param observer instância que implementa Observer
      */
     public void addObserver(Observer observer) {
-        observers.add(observer);
+        registry().add(index, observer);
     }
 
     /**
@@ -61,15 +90,55 @@ public class Cell {
      * @param observer instância previamente registrada
      */
     public void removeObserver(Observer observer) {
-        observers.remove(observer);
+        registry().remove(index, observer);
+    }
+
+    /**
+     * Registro onde ficam os observadores desta célula: o do tabuleiro
+     * ou, para células avulsas, um registro próprio.
+     */
+    private ObserverRegistry registry() {
+        if (owner != null) {
+            return owner.observerRegistry();
+        }
+        if (ownObservers == null) {
+            ownObservers = new ObserverRegistry();
+        }
+        return ownObservers;
+    }
+
+    /**
+     * Grava o estado de mina sem passar pelo tabuleiro (uso do ObjectCellStorage).
+     * @param mine novo estado de mina
+     */
+    void storeMine(boolean mine) {
+        this.hasMine = mine;
+    }
+
+    /**
+     * Grava o estado revelado sem passar pelo tabuleiro (uso do ObjectCellStorage).
+     * @param revealed novo estado revelado
+     */
+    void storeRevealed(boolean revealed) {
+        this.isRevealed = revealed;
+    }
+
+    /**
+     * Volta a célula ao estado inicial (sem mina, não revelada),
+     * reaproveitando o próprio objeto entre rodadas. Os observadores das
+     * células de um tabuleiro são descartados pelo próprio Board.
+     */
+    void resetState() {
+        hasMine = false;
+        isRevealed = false;
     }
 
     /**
-     * Notifica todos os observadores sobre mudança de estado.
+     * Notifica os observadores de uma célula avulsa sobre mudança de estado.
      */
     private void notifyObservers() {
-        for (Observer o : observers) {
-            o.update();
+        if (ownObservers != null) {
+            ownObservers.notifyCell(index);
         }
     }
 }
@@ -0,0 +1,90 @@
+package mc322_campo_minado;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+/**
+ * Imagens das células (gema com tom verde-neon, mina e explosão),
+ * carregadas uma vez e redimensionadas sob demanda. Cada imagem tem um
+ * ScaledIconCache próprio, então o redimensionamento acontece uma vez por
+ * tamanho e é compartilhado por todo o tabuleiro.
+ */
+final class CellImages {
+    /** Tamanhos distintos guardados por imagem; cobre vários tabuleiros e zooms. */
+    private static final int ICON_CACHE_SIZES = 32;
+
+    // Versões redimensionadas (null se os recursos faltarem)
+    private static ScaledIconCache gemIcons;
+    private static ScaledIconCache mineIcons;
+    private static ScaledIconCache explosionIcons;
+
+    static {
+        try {
+            ClassLoader cl = CellImages.class.getClassLoader();
+            // Carrega gema original
+            BufferedImage origGem = ImageIO.read(cl.getResourceAsStream("assets/gem_medium.png"));
+            // Cria versão tintada em verde-neon
+            int w = origGem.getWidth(), h = origGem.getHeight();
+            BufferedImage tintGem = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = tintGem.createGraphics();
+            g2.drawImage(origGem, 0, 0, null);
+            g2.setComposite(AlphaComposite.SrcAtop);
+            g2.setColor(new Color(57, 255, 20, 200)); // verde-neon semi-transparente
+            g2.fillRect(0, 0, w, h);
+            g2.dispose();
+
+            gemIcons       = new ScaledIconCache(tintGem, ICON_CACHE_SIZES);
+            mineIcons      = new ScaledIconCache(
+                ImageIO.read(cl.getResourceAsStream("assets/mine.png")), ICON_CACHE_SIZES);
+            explosionIcons = new ScaledIconCache(
+                ImageIO.read(cl.getResourceAsStream("assets/explosion.png")), ICON_CACHE_SIZES);
+        } catch (Exception e) {
+            System.err.println("Erro ao carregar ícones das células:");
+            e.printStackTrace();
+            gemIcons = mineIcons = explosionIcons = null;
+        }
+    }
+
+    private CellImages() {
+    }
+
+    /**
+     * Imagem da gema já redimensionada.
+     *
+     * @param size largura/altura em pixels
+     * @return imagem em cache, ou null se os recursos não carregaram
+     */
+    static Image gem(int size) {
+        return image(gemIcons, size);
+    }
+
+    /**
+     * Imagem da mina já redimensionada.
+     *
+     * @param size largura/altura em pixels
+     * @return imagem em cache, ou null se os recursos não carregaram
+     */
+    static Image mine(int size) {
+        return image(mineIcons, size);
+    }
+
+    /**
+     * Imagem da explosão já redimensionada.
+     *
+     * @param size largura/altura em pixels
+     * @return imagem em cache, ou null se os recursos não carregaram
+     */
+    static Image explosion(int size) {
+        return image(explosionIcons, size);
+    }
+
+    private static Image image(ScaledIconCache icons, int size) {
+        ImageIcon icon = (icons != null) ? icons.get(size) : null;
+        return (icon != null) ? icon.getImage() : null;
+    }
+}
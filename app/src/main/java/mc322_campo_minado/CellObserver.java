@@ -0,0 +1,22 @@
+package mc322_campo_minado;
+
+/**
+ * Observador de todas as células de um tabuleiro, registrado uma única vez
+ * no Board em vez de um Observer por Cell. Recebe o índice linear da célula
+ * alterada, então não exige materializar células no armazenamento compacto.
+ * As notificações chegam na thread que alterou o tabuleiro.
+ */
+public interface CellObserver {
+    /**
+     * Invocado quando uma célula muda de estado (por exemplo, é revelada).
+     *
+     * @param index posição linear da célula (row * cols + col)
+     */
+    void cellChanged(int index);
+
+    /**
+     * Invocado quando o tabuleiro inteiro é refeito (nova rodada ou
+     * restauração de snapshot); qualquer célula pode ter mudado.
+     */
+    void boardChanged();
+}
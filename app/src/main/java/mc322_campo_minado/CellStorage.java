@@ -0,0 +1,64 @@
+package mc322_campo_minado;
+
+/**
+ * Interface Strategy para o armazenamento do estado das células de um Board.
+ * As células são endereçadas por índice linear (row * cols + col).
+ * O Board controla contadores e regras; a implementação apenas guarda os bits.
+ */
+interface CellStorage {
+    /**
+     * @param index posição linear da célula
+     * @return true se a célula contém mina
+     */
+    boolean hasMine(int index);
+
+    /**
+     * @param index posição linear da célula
+     * @param mine  novo estado de mina
+     */
+    void setMine(int index, boolean mine);
+
+    /**
+     * @param index posição linear da célula
+     * @return true se a célula já foi revelada
+     */
+    boolean isRevealed(int index);
+
+    /**
+     * @param index    posição linear da célula
+     * @param revealed novo estado revelado
+     */
+    void setRevealed(int index, boolean revealed);
+
+    /**
+     * Retorna a Cell que representa a posição, criando-a se necessário.
+     *
+     * @param index posição linear da célula
+     * @return instância de Cell ligada ao tabuleiro
+     */
+    Cell cell(int index);
+
+    /**
+     * Retorna 64 posições de mina como bits (bit i = célula word * 64 + i).
+     * Bits além do fim do tabuleiro são zero.
+     *
+     * @param word índice da palavra
+     * @return bits de mina da palavra
+     */
+    long mineWord(int word);
+
+    /**
+     * Retorna 64 estados de revelação como bits (bit i = célula word * 64 + i).
+     * Bits além do fim do tabuleiro são zero.
+     *
+     * @param word índice da palavra
+     * @return bits de revelação da palavra
+     */
+    long revealedWord(int word);
+
+    /**
+     * Descarta todo o estado, deixando as células sem mina, não reveladas
+     * e sem observadores. Não deve alocar memória.
+     */
+    void clear();
+}
@@ -0,0 +1,70 @@
+package mc322_campo_minado;
+
+import java.awt.Rectangle;
+
+/**
+ * Acumula as células alteradas entre dois quadros como um retângulo em
+ * coordenadas de célula (x = coluna, y = linha). Marcar é O(1) e pode
+ * ser feito de qualquer thread; o painel drena a região uma vez por
+ * quadro na EDT e faz um único repaint, em vez de um por célula.
+ * O Swing já junta pedidos de repaint no retângulo envolvente, então
+ * guardar só o envolvente não pinta nada a mais do que o RepaintManager.
+ */
+class DirtyRegion {
+    private int minRow = Integer.MAX_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxRow = -1;
+    private int maxCol = -1;
+    private long marks; // marcações desde a última drenagem (para medição)
+
+    /**
+     * Marca uma célula como alterada.
+     *
+     * @param row linha da célula
+     * @param col coluna da célula
+     * @return true se a região estava vazia (quem marca deve agendar o próximo quadro)
+     */
+    synchronized boolean mark(int row, int col) {
+        boolean wasEmpty = maxRow < 0;
+        if (row < minRow) minRow = row;
+        if (row > maxRow) maxRow = row;
+        if (col < minCol) minCol = col;
+        if (col > maxCol) maxCol = col;
+        marks++;
+        return wasEmpty;
+    }
+
+    /**
+     * Marca todas as células de um tabuleiro rows x cols.
+     *
+     * @return true se a região estava vazia
+     */
+    synchronized boolean markAll(int rows, int cols) {
+        boolean wasEmpty = maxRow < 0;
+        minRow = 0;
+        minCol = 0;
+        maxRow = Math.max(maxRow, rows - 1);
+        maxCol = Math.max(maxCol, cols - 1);
+        marks++;
+        return wasEmpty;
+    }
+
+    /**
+     * Retorna a região acumulada e a esvazia.
+     *
+     * @return retângulo em células (x = coluna, y = linha), ou null se nada mudou
+     */
+    synchronized Rectangle drain() {
+        if (maxRow < 0) return null;
+        Rectangle cells = new Rectangle(minCol, minRow, maxCol - minCol + 1, maxRow - minRow + 1);
+        minRow = minCol = Integer.MAX_VALUE;
+        maxRow = maxCol = -1;
+        marks = 0;
+        return cells;
+    }
+
+    /** @return quantas marcações foram juntadas desde a última drenagem */
+    synchronized long pendingMarks() {
+        return marks;
+    }
+}
@@ -22,11 +22,11 @@ public class FixedMineGenerationStrategy implements MineGenerationStrategy {
      * Se o número de posições fixas for diferente de totalMines,
      * posiciona apenas até o mínimo entre os dois.
      *
-     * @param cells      matriz de Cell a receber minas
+     * @param board      tabuleiro a receber minas
      * @param totalMines quantidade exata de minas a posicionar
      */
     @Override
-    public void generate(Cell[][] cells, int totalMines) {
+    public void generate(Board board, int totalMines) {
         // determina quantas minas efetivamente colocar
         int toPlace = Math.min(totalMines, minePositions.length);
 
@@ -34,8 +34,8 @@ public class FixedMineGenerationStrategy implements MineGenerationStrategy {
             int r = minePositions[i][0];
             int c = minePositions[i][1];
             // valida índices
-            if (r >= 0 && r < cells.length && c >= 0 && c < cells[0].length) {
-                cells[r][c].setMine(true);
+            if (r >= 0 && r < board.getRows() && c >= 0 && c < board.getCols()) {
+                board.setMine(r, c, true);
             } else {
                 throw new IllegalArgumentException(
                     String.format("Posição de mina fixa inválida: [%d, %d]", r, c));
@@ -0,0 +1,78 @@
+package mc322_campo_minado;
+
+import java.util.SplittableRandom;
+
+/**
+ * Estratégia de geração aleatória de minas pelo algoritmo de amostragem de Floyd.
+ * Sorteia exatamente totalMines posições distintas entre rows * cols índices
+ * lineares em tempo O(totalMines), sem repetições, qualquer que seja a densidade.
+ * O próprio tabuleiro serve de conjunto de posições já escolhidas.
+ * Usa SplittableRandom: cada instância tem seu próprio gerador (sem disputa
+ * entre threads) e split() cria instâncias independentes para uso paralelo.
+ */
+public class FloydMineGenerationStrategy implements MineGenerationStrategy {
+    private final SplittableRandom random;
+
+    /**
+     * Construtor padrão: semente escolhida automaticamente.
+     */
+    public FloydMineGenerationStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Construtor com semente fixa, para sequências reprodutíveis.
+     *
+     * @param seed semente do gerador
+     */
+    public FloydMineGenerationStrategy(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private FloydMineGenerationStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Cria uma nova estratégia com gerador independente deste,
+     * para ser usada por outra thread.
+     *
+     * @return estratégia com gerador dividido
+     */
+    public FloydMineGenerationStrategy split() {
+        return new FloydMineGenerationStrategy(random.split());
+    }
+
+    @Override
+    public void generate(Board board, int totalMines) {
+        generate(board, totalMines, nextSeed());
+    }
+
+    @Override
+    public long nextSeed() {
+        return random.nextLong();
+    }
+
+    @Override
+    public void generate(Board board, int totalMines, long seed) {
+        place(board, totalMines, new SplittableRandom(seed));
+    }
+
+    /**
+     * Para cada j de n - totalMines até n - 1, sorteia t em [0, j];
+     * se t já tiver mina, usa j (que ainda não pode ter sido escolhido).
+     * Cada subconjunto de totalMines posições tem a mesma probabilidade.
+     */
+    private static void place(Board board, int totalMines, SplittableRandom random) {
+        int cols = board.getCols();
+        int n = board.getRows() * cols;
+
+        for (int j = n - totalMines; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            if (board.hasMine(t / cols, t % cols)) {
+                t = j;
+            }
+            board.setMine(t / cols, t % cols, true);
+        }
+    }
+}
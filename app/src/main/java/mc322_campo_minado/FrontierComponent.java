@@ -0,0 +1,250 @@
+package mc322_campo_minado;
+
+import java.util.Arrays;
+
+/**
+ * Componente independente da fronteira: células ocultas ligadas entre si
+ * por restrições (células reveladas com contagem de minas vizinhas).
+ * A forma do componente (quantidade de células e, por restrição, o valor
+ * e as posições das células) é a chave de igualdade: componentes com a
+ * mesma forma em qualquer lugar do tabuleiro têm o mesmo resultado e
+ * compartilham uma única enumeração.
+ * O resultado separa as soluções por quantidade total de minas k:
+ * weight[k] é o número de atribuições válidas com k minas e
+ * cellWeight[i][k] em quantas delas a célula i tem mina (ambos divididos
+ * pelo maior weight, o que se cancela nas probabilidades).
+ * Componentes com mais de MAX_CELLS células não são enumerados: o solver
+ * os divide em pedaços (parts), cada um resolvido como um componente.
+ */
+final class FrontierComponent {
+    /** Maior componente enumerado exatamente. */
+    static final int MAX_CELLS = 64;
+    /** Limite de nós da busca; acima dele o componente é tratado como não restrito. */
+    static final int MAX_NODES = 1 << 22;
+
+    private final int[] key;        // forma: tamanho, depois (valor, tamanho, posições) por restrição
+    private final int hash;
+    final int[] cells;              // índices lineares das células, em ordem crescente
+    final int[] sources;            // células reveladas que formam as restrições, em ordem crescente
+    private final int[] values;     // minas esperadas em cada restrição
+    private final int[][] members;  // posições (em cells) das células de cada restrição
+
+    double[] weight;                // soluções por quantidade de minas (normalizado)
+    double[][] cellWeight;          // soluções com mina em cada célula, por quantidade de minas
+    boolean approximate;            // grande demais para enumerar: células contam como não restritas
+    int slot;                       // posição na lista de componentes do solver
+    double[] probability;           // probabilidade por célula na última combinação (sob demanda)
+    FrontierComponent[] parts;      // componente grande demais: pedaços enumerados no lugar dele
+    int[] partOf;                   // pedaço de cada célula, ou -1 se ficou sem restrição
+
+    /**
+     * @param cells   células do componente, em ordem crescente
+     * @param sources células reveladas das restrições, em ordem crescente
+     * @param values  minas esperadas em cada restrição (na ordem de sources)
+     * @param members posições das células de cada restrição
+     */
+    FrontierComponent(int[] cells, int[] sources, int[] values, int[][] members) {
+        this.cells = cells;
+        this.sources = sources;
+        this.values = values;
+        this.members = members;
+        int length = 1;
+        for (int[] m : members) {
+            length += 2 + m.length;
+        }
+        int[] data = new int[length];
+        data[0] = cells.length;
+        int at = 1;
+        for (int c = 0; c < members.length; c++) {
+            data[at++] = values[c];
+            data[at++] = members[c].length;
+            System.arraycopy(members[c], 0, data, at, members[c].length);
+            at += members[c].length;
+        }
+        this.key = data;
+        this.hash = Arrays.hashCode(data);
+    }
+
+    /** @return minas esperadas em cada restrição, na ordem de sources */
+    int[] values() {
+        return values;
+    }
+
+    /** @return posições (em cells) das células de cada restrição, na ordem de sources */
+    int[][] members() {
+        return members;
+    }
+
+    /**
+     * Posição da célula no componente.
+     *
+     * @param cell índice linear
+     * @return posição em cells, ou negativo se não pertence
+     */
+    int positionOf(int cell) {
+        return Arrays.binarySearch(cells, cell);
+    }
+
+    /** @return true se já foi enumerado (ou marcado como aproximado) */
+    boolean isSolved() {
+        return weight != null || approximate;
+    }
+
+    /** Copia o resultado de um componente de mesma forma resolvido antes. */
+    void reuse(FrontierComponent solved) {
+        this.weight = solved.weight;
+        this.cellWeight = solved.cellWeight;
+        this.approximate = solved.approximate;
+    }
+
+    /**
+     * Enumera por backtracking todas as atribuições válidas, cortando
+     * ramos em que alguma restrição já não pode ser satisfeita.
+     */
+    void solve() {
+        int n = cells.length;
+        if (n > MAX_CELLS) {
+            approximate = true;
+            return;
+        }
+        Search search = new Search();
+        if (!search.run()) {
+            approximate = true;
+            return;
+        }
+        double max = 0;
+        for (double w : search.weight) {
+            max = Math.max(max, w);
+        }
+        if (max == 0) {
+            // restrições contraditórias (não acontece num tabuleiro real)
+            approximate = true;
+            return;
+        }
+        for (int k = 0; k <= n; k++) {
+            search.weight[k] /= max;
+            for (int i = 0; i < n; i++) {
+                search.cellWeight[i][k] /= max;
+            }
+        }
+        this.weight = search.weight;
+        this.cellWeight = search.cellWeight;
+    }
+
+    /**
+     * Estado da busca em profundidade. As células são visitadas em
+     * largura a partir da primeira, para que as restrições fechem cedo.
+     */
+    private final class Search {
+        final double[] weight = new double[cells.length + 1];
+        final double[][] cellWeight = new double[cells.length][cells.length + 1];
+        final int[][] cellConstraints = new int[cells.length][];
+        final int[] order = new int[cells.length];
+        final boolean[] mine = new boolean[cells.length];
+        final int[] mines = new int[values.length];       // minas já atribuídas por restrição
+        final int[] open = new int[values.length];        // células ainda sem valor por restrição
+        long nodes;
+
+        Search() {
+            int n = cells.length;
+            int[] count = new int[n];
+            for (int[] m : members) {
+                for (int p : m) {
+                    count[p]++;
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                cellConstraints[i] = new int[count[i]];
+            }
+            Arrays.fill(count, 0);
+            for (int c = 0; c < members.length; c++) {
+                open[c] = members[c].length;
+                for (int p : members[c]) {
+                    cellConstraints[p][count[p]++] = c;
+                }
+            }
+            // ordem em largura pelas restrições
+            boolean[] seen = new boolean[n];
+            boolean[] used = new boolean[members.length];
+            int head = 0, tail = 0;
+            for (int start = 0; start < n; start++) {
+                if (seen[start]) continue;
+                seen[start] = true;
+                order[tail++] = start;
+                while (head < tail) {
+                    int cell = order[head++];
+                    for (int c : cellConstraints[cell]) {
+                        if (used[c]) continue;
+                        used[c] = true;
+                        for (int p : members[c]) {
+                            if (!seen[p]) {
+                                seen[p] = true;
+                                order[tail++] = p;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        /** @return false se a busca estourou MAX_NODES */
+        boolean run() {
+            return visit(0, 0);
+        }
+
+        private boolean visit(int depth, int total) {
+            if (++nodes > MAX_NODES) {
+                return false;
+            }
+            if (depth == order.length) {
+                weight[total]++;
+                for (int i = 0; i < mine.length; i++) {
+                    if (mine[i]) {
+                        cellWeight[i][total]++;
+                    }
+                }
+                return true;
+            }
+            int cell = order[depth];
+            for (int v = 0; v <= 1; v++) {
+                if (!fits(cell, v)) continue;
+                assign(cell, v, -1);
+                boolean ok = visit(depth + 1, total + v);
+                assign(cell, v, +1);
+                if (!ok) return false;
+            }
+            return true;
+        }
+
+        /** A célula pode receber v sem violar nenhuma de suas restrições? */
+        private boolean fits(int cell, int v) {
+            for (int c : cellConstraints[cell]) {
+                int m = mines[c] + v;
+                if (m > values[c] || m + open[c] - 1 < values[c]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Aplica (sign = -1) ou desfaz (sign = +1) a atribuição de v à célula. */
+        private void assign(int cell, int v, int sign) {
+            mine[cell] = v == 1 && sign < 0;
+            for (int c : cellConstraints[cell]) {
+                mines[c] -= sign * v;
+                open[c] += sign;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FrontierComponent && hash == ((FrontierComponent) o).hash
+            && Arrays.equals(key, ((FrontierComponent) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -1,15 +1,43 @@
 package mc322_campo_minado;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
 /**
  * Gerencia o fluxo do jogo, orquestrando Board, Player e Bet.
+ * Notifica observadores uma vez por mudança da rodada: início,
+ * jogada (simples ou em lote) e saque.
  */
 public class Game {
+    static final int SNAPSHOT_MAGIC = 0x434D5331; // "CMS1"
+    static final int SNAPSHOT_VERSION = 1;
+    static final int SNAPSHOT_HEADER_SIZE = 72;
+    private static final int SNAPSHOT_GAME_OVER = 1;
+    private static final int SNAPSHOT_LOST = 2;
+    private static final int SNAPSHOT_HINT = 4;
+    private static final int SNAPSHOT_CASCADE = 8;
+    private static final int SNAPSHOT_BET = 16;
+    private static final int SNAPSHOT_SAFE_FIRST = 32;
+    private static final int SNAPSHOT_CASHED_OUT = 64;
+
     private final Board board;        // tabuleiro do jogo
     private final Player player;      // jogador com saldo para apostas
     private Bet bet;                  // aposta atual da rodada
     private boolean isGameOver;       // flag indicando fim de rodada
+    private boolean isLost;           // flag indicando que a rodada terminou em mina
+    private boolean cashedOut;        // flag indicando que a rodada terminou em saque
     private boolean hintUsed;         // flag indicando se dica paga foi usada
     private int safeCellsRevealed;    // contador de jogadas seguras
+    private boolean cascadeEnabled;   // revela automaticamente regiões sem minas vizinhas
+    private boolean firstClickSafe;   // a primeira revelação da rodada nunca é mina
+    private RoundJournal journal;     // journal de eventos (null se desativado)
+    private long journalRound;        // identificador da rodada atual no journal
+    private final List<Observer> observers = new ArrayList<>(); // interessados em mudanças da rodada
 
 
     /**
@@ -20,8 +48,19 @@ public class Game {
      * @param mineCount quantidade de minas
      */
     public Game(int rows, int cols, int mineCount) {
-        this.board = new Board(rows, cols, mineCount);
-        this.player = new Player(1000.0);  // define saldo inicial padrão
+        this(new Board(rows, cols, mineCount), new Player(1000.0));  // define saldo inicial padrão
+    }
+
+    /**
+     * Construtor que recebe um tabuleiro e um jogador já configurados
+     * (por exemplo, com outra estratégia de minas ou outro armazenamento).
+     *
+     * @param board  tabuleiro a ser usado em todas as rodadas
+     * @param player jogador que fará as apostas
+     */
+    public Game(Board board, Player player) {
+        this.board = board;
+        this.player = player;
         this.isGameOver = false;
         this.hintUsed = false;
         this.safeCellsRevealed = 0; // inicia contador de células seguras reveladas
@@ -31,6 +70,7 @@ public class Game {
      * Inicia uma nova rodada de jogo com o valor de aposta informado.
      * A chamada a placeBet valida se o jogador tem saldo suficiente,
      * mas não deduz nada de imediato. A dedução ocorre em caso de perda.
+     * O mesmo Board e o mesmo Bet são reaproveitados entre rodadas.
      *
      * @param betAmount valor apostado pelo jogador
      * @throws IllegalArgumentException se valor de aposta for inválido
@@ -40,10 +80,45 @@ public class Game {
         player.placeBet(betAmount);
         // gera novo tabuleiro com minas
         board.generateBoard();
-        // inicializa o objeto Bet para controlar multiplicador e payout
-        this.bet = new Bet(betAmount);
-        // reseta a flag de fim de jogo
+        resetRound(betAmount);
+    }
+
+    /**
+     * Inicia uma nova rodada com tabuleiro gerado a partir de uma semente,
+     * permitindo reproduzir exatamente uma rodada anterior.
+     *
+     * @param betAmount valor apostado pelo jogador
+     * @param seed      semente usada na geração do tabuleiro
+     * @throws IllegalArgumentException se valor de aposta for inválido
+     */
+    public void startGame(double betAmount, long seed) {
+        player.placeBet(betAmount);
+        board.generateBoard(seed);
+        resetRound(betAmount);
+    }
+
+    /**
+     * Prepara Bet e flags para uma nova rodada.
+     *
+     * @param betAmount valor apostado pelo jogador
+     */
+    private void resetRound(double betAmount) {
+        // inicializa (ou reaproveita) o objeto Bet para controlar multiplicador e payout
+        if (bet == null) {
+            this.bet = new Bet(betAmount, board.getRows() * board.getCols(), board.getTotalMines());
+        } else {
+            bet.reset(betAmount);
+        }
+        // reseta o estado da rodada
         this.isGameOver = false;
+        this.isLost = false;
+        this.cashedOut = false;
+        this.hintUsed = false;
+        this.safeCellsRevealed = 0;
+        if (journal != null) {
+            journalRound = journal.recordStart(board, bet.getInitialBetMinor(), cascadeEnabled, firstClickSafe);
+        }
+        notifyObservers();
     }
 
     /**
@@ -55,34 +130,159 @@ public class Game {
      *         false se for mina (roda terminará)
      */
     public boolean revealCell(int r, int c) {
-        Cell cell = board.getCell(r, c);
+        int index = board.indexOf(r, c);
 
         // ignora cliques em células já reveladas ou após fim de jogo
-        if (cell.isRevealed() || isGameOver) {
+        if (board.isRevealedAt(index) || isGameOver) {
             return true;
         }
+        protectFirstReveal(index);
 
-        // marca a célula como revelada
-        cell.reveal();
-
-        if (cell.hasMine()) {
-            // ao clicar em mina, encerra o jogo
+        boolean safe = !board.hasMineAt(index);
+        journalReveal(index, safe);
+        if (safe) {
+            // célula segura: atualiza multiplicador de uma vez para todas as reveladas
+            applySafeReveals(revealSafe(index));
+        } else {
+            // ao clicar em mina, revela e encerra o jogo
+            board.revealAt(index);
             isGameOver = true;
-            return false;
+            isLost = true;
         }
+        notifyObservers();
+        return safe;
+    }
 
-        safeCellsRevealed++;
+    /**
+     * Revela várias células numa única jogada, na ordem informada.
+     * O multiplicador é atualizado uma só vez para todas as casas seguras,
+     * o lote para na primeira mina (ou quando não restam casas seguras)
+     * e os observadores do jogo recebem uma única notificação.
+     *
+     * @param rows índices de linha das células
+     * @param cols índices de coluna das células (mesmo tamanho de rows)
+     * @return false se alguma célula do lote tinha mina, true caso contrário
+     * @throws IllegalArgumentException se os arrays tiverem tamanhos diferentes
+     * @throws IndexOutOfBoundsException se alguma coordenada estiver fora do tabuleiro
+     */
+    public boolean revealCells(int[] rows, int[] cols) {
+        if (rows.length != cols.length) {
+            throw new IllegalArgumentException("Arrays de linhas e colunas devem ter o mesmo tamanho");
+        }
+        // valida tudo antes de alterar o estado
+        int[] cellIndices = new int[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            cellIndices[i] = board.indexOf(rows[i], cols[i]);
+        }
+        return revealCells(cellIndices);
+    }
 
-        // célula segura: atualiza multiplicador
+    /**
+     * Variante de revealCells com índices lineares (row * cols + col).
+     *
+     * @param cellIndices posições lineares das células
+     * @return false se alguma célula do lote tinha mina, true caso contrário
+     * @throws IndexOutOfBoundsException se algum índice estiver fora do tabuleiro
+     */
+    public boolean revealCells(int[] cellIndices) {
+        for (int index : cellIndices) {
+            board.checkIndex(index);
+        }
+        int total = 0;
+        for (int i = 0; i < cellIndices.length && !isGameOver; i++) {
+            int index = cellIndices[i];
+            if (board.isRevealedAt(index)) {
+                continue;
+            }
+            protectFirstReveal(index);
+            if (board.hasMineAt(index)) {
+                journalReveal(index, false);
+                return loseBatch(total, index);
+            }
+            journalReveal(index, true);
+            total += revealSafe(index);
+            if (board.getRemainingSafeCells() == 0) {
+                break;
+            }
+        }
+        applySafeReveals(total);
+        notifyObservers();
+        return true;
+    }
+
+    /**
+     * Registra uma revelação efetiva no journal, se houver.
+     * Lotes são gravados célula a célula, então o replay com revealCell
+     * individual chega ao mesmo estado.
+     */
+    private void journalReveal(int index, boolean safe) {
+        if (journal != null) {
+            journal.recordReveal(journalRound, index, safe);
+        }
+    }
+
+    /**
+     * Prepara a primeira célula revelada na rodada. Com estratégias que
+     * dependem da célula inicial (como a sem chute), as minas são geradas de
+     * novo a partir dela. No modo de primeira jogada segura, se ainda houver
+     * mina na célula, ela é movida em O(1) para uma célula livre.
+     * A geração e o destino da mina dependem só da semente da rodada e da
+     * célula, então o replay do journal reproduz a mesma mudança.
+     */
+    private void protectFirstReveal(int index) {
+        if (board.getRemainingSafeCells() + board.getRemainingMines() != board.getRows() * board.getCols()) {
+            return; // não é a primeira revelação
+        }
+        board.generateFrom(index);
+        if (firstClickSafe && board.hasMineAt(index)) {
+            board.relocateMine(index, new SplittableRandom(board.getSeed() ^ index));
+        }
+    }
+
+    /**
+     * Encerra um lote que encontrou mina: aplica as casas seguras anteriores
+     * (como numa sequência de jogadas), revela a mina e termina a rodada.
+     */
+    private boolean loseBatch(int safeRevealed, int mineIndex) {
+        applySafeReveals(safeRevealed);
+        board.revealAt(mineIndex);
+        isGameOver = true;
+        isLost = true;
+        notifyObservers();
+        return false;
+    }
+
+    /**
+     * Revela uma célula segura (ou a região em cascata, se ativa).
+     *
+     * @param index posição linear de uma célula sem mina
+     * @return número de casas seguras reveladas
+     */
+    private int revealSafe(int index) {
+        if (cascadeEnabled) {
+            return board.revealCascadeAt(index);
+        }
+        board.revealAt(index);
+        return 1;
+    }
+
+    /**
+     * Contabiliza casas seguras reveladas: contador, multiplicador e vitória.
+     *
+     * @param revealed quantidade de casas seguras reveladas
+     */
+    private void applySafeReveals(int revealed) {
+        if (revealed == 0) {
+            return;
+        }
+        safeCellsRevealed += revealed;
         int safeCells = board.getRemainingSafeCells();
-        bet.increaseMultiplier(safeCells, board.getRemainingMines());
+        bet.increaseMultiplier(revealed, safeCells, board.getRemainingMines());
 
         // se nenhuma célula segura restante, o jogador venceu
         if (safeCells == 0) {
             isGameOver = true;
         }
-
-        return true;
     }
 
     /**
@@ -91,10 +291,25 @@ public class Game {
      * @return valor sacado (initialBet × currentMultiplier)
      */
     public double cashOut() {
-        double payout = bet.getCurrentPayout();
+        return Money.toMajor(cashOutMinor());
+    }
+
+    /**
+     * Igual a cashOut, mas retorna o valor sacado em centavos,
+     * sem conversão para double.
+     *
+     * @return valor sacado, em centavos
+     */
+    public long cashOutMinor() {
+        long payout = bet.getCurrentPayoutMinor();
         // adiciona o valor ganho ao saldo
-        player.addWinnings(payout);
+        player.addWinningsMinor(payout);
+        if (journal != null) {
+            journal.recordCashOut(journalRound, payout);
+        }
         isGameOver = true;
+        cashedOut = true;
+        notifyObservers();
         return payout;
     }
 
@@ -108,6 +323,85 @@ public class Game {
     }
 
 
+    /**
+     * Verifica se a rodada terminou porque o jogador revelou uma mina.
+     *
+     * @return true se perdeu a aposta nesta rodada
+     */
+    public boolean isLost() {
+        return isLost;
+    }
+
+    /**
+     * Verifica se a rodada terminou com saque. Uma rodada vencida (sem
+     * casas seguras restantes) já está encerrada, mas só conta como sacada
+     * depois de cashOut.
+     *
+     * @return true se os ganhos desta rodada já foram sacados
+     */
+    public boolean isCashedOut() {
+        return cashedOut;
+    }
+
+    /**
+     * Compra a dica paga da rodada: desconta a taxa (75% do payout)
+     * e marca a dica como usada. Quem chama decide o que revelar ao jogador.
+     * Comprada antes da primeira revelação, a dica fixa as minas atuais:
+     * o primeiro clique não gera o tabuleiro de novo (ver protectFirstReveal).
+     *
+     * @return valor da taxa cobrada
+     * @throws IllegalStateException se a dica já foi usada ou o payout não cobre a taxa
+     */
+    public double useHint() {
+        if (hintUsed) {
+            throw new IllegalStateException("Dica já usada nesta rodada");
+        }
+        long fee = bet.getHintFeeMinor();
+        if (fee >= bet.getCurrentPayoutMinor()) {
+            throw new IllegalStateException("Payout insuficiente para a dica");
+        }
+        bet.applyHintFee();
+        hintUsed = true;
+        board.keepLayout(); // o jogador já viu informação sobre estas minas
+        if (journal != null) {
+            journal.recordHint(journalRound, fee);
+        }
+        notifyObservers();
+        return Money.toMajor(fee);
+    }
+
+    /**
+     * Compra a dica da rodada para a célula escolhida: cobra a taxa como
+     * useHint() e devolve as células ocultas acima, abaixo, à esquerda e à
+     * direita dela, com o estado de mina de cada uma. Deve rodar na thread
+     * dona do Game; o resultado é uma cópia que pode ir para outra thread.
+     *
+     * @param row linha da célula escolhida
+     * @param col coluna da célula escolhida
+     * @return taxa, payout restante e células destacadas
+     * @throws IndexOutOfBoundsException se a posição estiver fora do tabuleiro (nada é cobrado)
+     * @throws IllegalStateException     se a dica já foi usada ou o payout não cobre a taxa
+     */
+    public Hint useHint(int row, int col) {
+        board.indexOf(row, col); // valida antes de cobrar
+        double fee = useHint();
+        // Direções: cima, baixo, esquerda, direita
+        int[] cells = new int[4];
+        boolean[] mines = new boolean[4];
+        int count = 0;
+        for (int d = 0; d < 4; d++) {
+            int rr = row + (d == 0 ? -1 : d == 1 ? 1 : 0);
+            int cc = col + (d == 2 ? -1 : d == 3 ? 1 : 0);
+            if (rr >= 0 && rr < board.getRows() && cc >= 0 && cc < board.getCols()
+                    && !board.isRevealed(rr, cc)) {
+                cells[count] = rr * board.getCols() + cc;
+                mines[count] = board.hasMine(rr, cc);
+                count++;
+            }
+        }
+        return new Hint(fee, bet.getCurrentPayout(), Arrays.copyOf(cells, count), Arrays.copyOf(mines, count));
+    }
+
     /**
      * Verifica se uma dica paga foi usada nesta rodada.
      *
@@ -126,6 +420,64 @@ public class Game {
         this.hintUsed = used;
     }
 
+    /**
+     * Liga (ou desliga, com null) a gravação dos eventos das rodadas.
+     * Vale a partir da próxima chamada a startGame.
+     *
+     * @param journal journal de destino, possivelmente compartilhado entre jogos
+     */
+    public void setJournal(RoundJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * @return journal em uso, ou null se desativado
+     */
+    public RoundJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Verifica se o modo cascata está ativo.
+     *
+     * @return true se regiões sem minas vizinhas são reveladas automaticamente
+     */
+    public boolean isCascadeEnabled() {
+        return cascadeEnabled;
+    }
+
+    /**
+     * Ativa ou desativa o modo cascata: ao revelar uma célula sem minas
+     * vizinhas, toda a região conectada é aberta de uma só vez.
+     *
+     * @param enabled true para ativar
+     */
+    public void setCascadeEnabled(boolean enabled) {
+        this.cascadeEnabled = enabled;
+    }
+
+    /**
+     * Verifica se o modo de primeira jogada segura está ativo.
+     *
+     * @return true se a primeira célula revelada em cada rodada nunca é mina
+     */
+    public boolean isFirstClickSafe() {
+        return firstClickSafe;
+    }
+
+    /**
+     * Ativa ou desativa a primeira jogada segura: se a primeira célula
+     * revelada na rodada tiver mina, a mina é movida para outra célula livre
+     * antes da revelação, sem gerar o tabuleiro de novo. Vale a partir da
+     * próxima rodada (ou da rodada atual, se nada foi revelado ainda).
+     *
+     * @param enabled true para ativar
+     */
+    public void setFirstClickSafe(boolean enabled) {
+        this.firstClickSafe = enabled;
+        board.setFreeCellIndex(enabled);
+    }
+
     /**
      * Retorna o número de células seguras reveladas nesta rodada.
      * Incrementa a cada revelação de célula segura.
@@ -157,4 +509,172 @@ public class Game {
         return board;
     }
 
+    /**
+     * Retorna o tamanho, em bytes, do snapshot deste jogo:
+     * cabeçalho fixo mais os dois bitsets do tabuleiro.
+     *
+     * @return bytes necessários para writeSnapshot
+     */
+    public int snapshotSize() {
+        return SNAPSHOT_HEADER_SIZE + 16 * board.stateWords();
+    }
+
+    /**
+     * Grava o estado completo da rodada no buffer, a partir da posição atual:
+     * configuração, flags, casas seguras reveladas, semente, saldo, estado
+     * da aposta e os bitsets de minas e revelações (little-endian).
+     * Não aloca objetos, nem por célula; funciona com buffers diretos ou
+     * mapeados. A ordem de bytes do buffer é preservada.
+     *
+     * @param buffer destino com ao menos snapshotSize() bytes restantes
+     * @throws BufferOverflowException se não houver espaço (nada é gravado)
+     */
+    public void writeSnapshot(ByteBuffer buffer) {
+        if (buffer.remaining() < snapshotSize()) {
+            throw new BufferOverflowException();
+        }
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int flags = (isGameOver ? SNAPSHOT_GAME_OVER : 0) | (isLost ? SNAPSHOT_LOST : 0)
+            | (hintUsed ? SNAPSHOT_HINT : 0) | (cascadeEnabled ? SNAPSHOT_CASCADE : 0)
+            | (bet != null ? SNAPSHOT_BET : 0) | (firstClickSafe ? SNAPSHOT_SAFE_FIRST : 0)
+            | (cashedOut ? SNAPSHOT_CASHED_OUT : 0);
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION)
+            .putInt(board.getRows()).putInt(board.getCols()).putInt(board.getTotalMines())
+            .putInt(flags).putInt(safeCellsRevealed)
+            .putLong(board.getSeed()).putLong(player.getBalanceMinor());
+        if (bet != null) {
+            bet.writeState(buffer);
+        } else {
+            buffer.putLong(0).putDouble(0).putDouble(0).putInt(0);
+        }
+        board.writeState(buffer);
+        buffer.order(order);
+    }
+
+    /**
+     * Restaura neste jogo um snapshot gravado por writeSnapshot, reaproveitando
+     * Board e Bet: tabuleiro, aposta, flags e casas seguras reveladas.
+     * O saldo gravado não é aplicado ao Player deste jogo, que pode ser uma
+     * carteira compartilhada com outras mesas; só fromSnapshot, que cria a
+     * própria carteira, o restaura.
+     * O tabuleiro deve ter as mesmas dimensões e quantidade de minas.
+     * Todos os campos (cabeçalho, aposta e bitsets) são validados antes de
+     * alterar o jogo. Observadores são notificados.
+     *
+     * @param buffer origem posicionada no início do snapshot
+     * @throws IllegalArgumentException se o snapshot for inválido ou de outra configuração
+     */
+    public void restoreSnapshot(ByteBuffer buffer) {
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            int start = buffer.position();
+            if (buffer.remaining() < SNAPSHOT_HEADER_SIZE
+                    || buffer.getInt(start) != SNAPSHOT_MAGIC
+                    || buffer.getInt(start + 4) != SNAPSHOT_VERSION) {
+                throw new IllegalArgumentException("Snapshot de jogo inválido");
+            }
+            if (buffer.getInt(start + 8) != board.getRows() || buffer.getInt(start + 12) != board.getCols()
+                    || buffer.getInt(start + 16) != board.getTotalMines()) {
+                throw new IllegalArgumentException("Snapshot de outra configuração de tabuleiro");
+            }
+            int flags = buffer.getInt(start + 20);
+            int safeCells = board.getRows() * board.getCols() - board.getTotalMines();
+            int safeRevealed = buffer.getInt(start + 24);
+            if (safeRevealed < 0 || safeRevealed > safeCells) {
+                throw new IllegalArgumentException("Casas seguras reveladas inválidas no snapshot");
+            }
+            if ((flags & SNAPSHOT_BET) != 0) {
+                Bet.validateState(buffer, start + 44, safeCells);
+            }
+            if (buffer.getLong(start + 36) < 0) {
+                throw new IllegalArgumentException("Saldo negativo no snapshot");
+            }
+            buffer.position(start + SNAPSHOT_HEADER_SIZE);
+            board.readState(buffer, buffer.getLong(start + 28));
+
+            this.safeCellsRevealed = safeRevealed;
+            this.isGameOver = (flags & SNAPSHOT_GAME_OVER) != 0;
+            this.isLost = (flags & SNAPSHOT_LOST) != 0;
+            this.cashedOut = (flags & SNAPSHOT_CASHED_OUT) != 0;
+            this.hintUsed = (flags & SNAPSHOT_HINT) != 0;
+            if (hintUsed) {
+                board.keepLayout();
+            }
+            this.cascadeEnabled = (flags & SNAPSHOT_CASCADE) != 0;
+            setFirstClickSafe((flags & SNAPSHOT_SAFE_FIRST) != 0);
+            if ((flags & SNAPSHOT_BET) != 0) {
+                if (bet == null) {
+                    this.bet = new Bet(1.0, board.getRows() * board.getCols(), board.getTotalMines());
+                }
+                int end = buffer.position();
+                bet.readState(buffer.position(start + 44));
+                buffer.position(end);
+            } else {
+                this.bet = null;
+            }
+        } finally {
+            buffer.order(order);
+        }
+        notifyObservers();
+    }
+
+    /**
+     * Cria um jogo novo (tabuleiro compacto, jogador próprio com o saldo
+     * gravado) a partir de um snapshot. A ordem de bytes do buffer é
+     * preservada mesmo se o snapshot for inválido.
+     *
+     * @param buffer origem posicionada no início do snapshot
+     * @return jogo restaurado
+     * @throws IllegalArgumentException se o snapshot for inválido
+     */
+    public static Game fromSnapshot(ByteBuffer buffer) {
+        ByteOrder order = buffer.order();
+        int start = buffer.position();
+        Board board;
+        long balance;
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (buffer.remaining() < SNAPSHOT_HEADER_SIZE || buffer.getInt(start) != SNAPSHOT_MAGIC) {
+                throw new IllegalArgumentException("Snapshot de jogo inválido");
+            }
+            board = new Board(buffer.getInt(start + 8), buffer.getInt(start + 12), buffer.getInt(start + 16),
+                new FloydMineGenerationStrategy(), Board.StorageType.PACKED);
+            balance = buffer.getLong(start + 36);
+        } finally {
+            buffer.order(order);
+        }
+        Game game = new Game(board, new Player(0.0));
+        game.restoreSnapshot(buffer);
+        game.player.setBalanceMinor(balance); // carteira própria: validada por restoreSnapshot
+        return game;
+    }
+
+    /**
+     * Adiciona um observador notificado a cada mudança da rodada.
+     *
+     * @param observer objeto a ser notificado
+     */
+    public void addObserver(Observer observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Remove um observador do jogo.
+     *
+     * @param observer objeto a ser removido
+     */
+    public void removeObserver(Observer observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Notifica todos os observadores sobre uma mudança da rodada.
+     */
+    private void notifyObservers() {
+        for (int i = 0; i < observers.size(); i++) { // por índice: sem iterador no caminho quente
+            observers.get(i).update();
+        }
+    }
 }
@@ -0,0 +1,176 @@
+package mc322_campo_minado;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Uma mesa hospedada pelo SessionManager: um Game próprio e uma caixa de
+ * mensagens (mailbox) de comandos. Os comandos são executados em ordem,
+ * um de cada vez, por uma tarefa de drenagem no executor; assim o Game
+ * (que não é thread-safe) nunca é acessado por duas threads ao mesmo tempo,
+ * sem travas e sem disputa entre sessões diferentes.
+ */
+class GameSession {
+    /** Comandos executados por drenagem antes de devolver a thread ao executor. */
+    private static final int DRAIN_BATCH = 64;
+
+    private final long id;                    // identificador da sessão
+    private final Game game;                  // jogo da mesa (só tocado pela drenagem)
+    private final Executor executor;          // executor onde a mailbox é drenada
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>(); // comandos pendentes
+    private final AtomicBoolean scheduled = new AtomicBoolean(); // há drenagem agendada ou em curso
+    private boolean roundActive;              // rodada iniciada e ainda não encerrada
+
+    /**
+     * @param id       identificador da sessão
+     * @param game     jogo exclusivo da sessão
+     * @param executor executor que roda as drenagens
+     */
+    GameSession(long id, Game game, Executor executor) {
+        this.id = id;
+        this.game = game;
+        this.executor = executor;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Retorna o jogo da sessão. Só deve ser lido quando não houver comandos
+     * pendentes (por exemplo, em testes, após aguardar os futuros).
+     */
+    Game getGame() {
+        return game;
+    }
+
+    /**
+     * Inicia uma rodada com a aposta informada.
+     */
+    CompletableFuture<Void> start(double bet) {
+        return submit(() -> {
+            game.startGame(bet);
+            roundActive = true;
+            return null;
+        });
+    }
+
+    /**
+     * Revela uma célula; a rodada termina se for mina.
+     *
+     * @return futuro com true se a célula era segura
+     */
+    CompletableFuture<Boolean> reveal(int row, int col) {
+        return submit(() -> {
+            requireActiveRound();
+            boolean safe = game.revealCell(row, col);
+            updateRoundActive();
+            return safe;
+        });
+    }
+
+    /**
+     * Saca o payout atual e encerra a rodada.
+     *
+     * @return futuro com o valor sacado
+     */
+    CompletableFuture<Double> cashOut() {
+        return submit(() -> {
+            requireActiveRound();
+            roundActive = false;
+            return game.cashOut();
+        });
+    }
+
+    /**
+     * Compra a dica da rodada para a célula escolhida. As células
+     * destacadas são calculadas na drenagem, junto com a cobrança.
+     *
+     * @return futuro com a taxa e as células destacadas
+     */
+    CompletableFuture<Hint> hint(int row, int col) {
+        return submit(() -> {
+            requireActiveRound();
+            return game.useHint(row, col);
+        });
+    }
+
+    /**
+     * Executa uma jogada composta sobre o jogo da rodada ativa, com acesso
+     * exclusivo ao Game (por exemplo, revelar e já sacar se não restam casas
+     * seguras, copiando o estado resultante). Como em reveal e cashOut, a
+     * rodada só deixa de estar ativa quando termina em mina ou em saque:
+     * uma jogada que vence sem sacar deixa o payout disponível para cashOut.
+     *
+     * @param move jogada; roda na drenagem da mailbox, nunca na thread que chamou
+     * @return futuro com o resultado da jogada
+     */
+    <T> CompletableFuture<T> play(Function<Game, T> move) {
+        return submit(() -> {
+            requireActiveRound();
+            try {
+                return move.apply(game);
+            } finally {
+                updateRoundActive();
+            }
+        });
+    }
+
+    /** Encerra a rodada se o jogo terminou em mina ou em saque (vitória sem saque continua ativa). */
+    private void updateRoundActive() {
+        if (game.isLost() || game.isCashedOut()) {
+            roundActive = false;
+        }
+    }
+
+    private void requireActiveRound() {
+        if (!roundActive) {
+            throw new IllegalStateException("Nenhuma rodada em andamento na sessão " + id);
+        }
+    }
+
+    /**
+     * Enfileira um comando e garante que haja uma drenagem agendada.
+     * Exceções do comando completam o futuro excepcionalmente.
+     */
+    private <T> CompletableFuture<T> submit(Callable<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        mailbox.add(() -> {
+            try {
+                result.complete(command.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Executa até DRAIN_BATCH comandos em ordem. Se sobrarem comandos
+     * (ou chegarem novos logo após liberar a flag), agenda outra drenagem.
+     */
+    private void drain() {
+        Runnable command;
+        int executed = 0;
+        while (executed < DRAIN_BATCH && (command = mailbox.poll()) != null) {
+            command.run();
+            executed++;
+        }
+        scheduled.set(false);
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+}
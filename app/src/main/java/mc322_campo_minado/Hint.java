@@ -0,0 +1,65 @@
+package mc322_campo_minado;
+
+import java.util.Arrays;
+
+/**
+ * Resultado da compra da dica: a taxa cobrada e as células ocultas acima,
+ * abaixo, à esquerda e à direita da célula escolhida, cada uma com seu
+ * estado de mina. É uma cópia feita por quem executa o Game, então pode
+ * ser lida em qualquer thread (por exemplo, na EDT) sem tocar no Board.
+ */
+public final class Hint {
+    private final double fee;       // taxa cobrada
+    private final double payout;    // payout disponível após a taxa
+    private final int[] cells;      // índices lineares das células destacadas
+    private final boolean[] mines;  // mines[i] = cells[i] tem mina
+
+    /**
+     * @param fee    taxa cobrada
+     * @param payout payout disponível após a taxa
+     * @param cells  índices das células destacadas (o array passa a pertencer à dica)
+     * @param mines  estado de mina de cada célula (o array passa a pertencer à dica)
+     */
+    Hint(double fee, double payout, int[] cells, boolean[] mines) {
+        this.fee = fee;
+        this.payout = payout;
+        this.cells = cells;
+        this.mines = mines;
+    }
+
+    /** @return taxa cobrada */
+    public double getFee() {
+        return fee;
+    }
+
+    /** @return payout disponível após a taxa */
+    public double getPayout() {
+        return payout;
+    }
+
+    /** @return quantidade de células destacadas */
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * @param i posição na dica (0 até getCellCount() - 1)
+     * @return índice linear (row * cols + col) da célula
+     */
+    public int getCell(int i) {
+        return cells[i];
+    }
+
+    /**
+     * @param i posição na dica (0 até getCellCount() - 1)
+     * @return true se a célula tem mina
+     */
+    public boolean isMine(int i) {
+        return mines[i];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("dica -%.2f em %s (minas %s)", fee, Arrays.toString(cells), Arrays.toString(mines));
+    }
+}
@@ -0,0 +1,67 @@
+package mc322_campo_minado;
+
+/**
+ * Fila circular de inteiros primitivos, usada como fronteira de buscas
+ * em largura no tabuleiro sem criar um objeto por elemento.
+ * A capacidade dobra quando necessário e é mantida entre usos.
+ */
+class IntQueue {
+    private int[] items;  // buffer circular
+    private int head;     // posição do próximo elemento a sair
+    private int size;     // quantidade de elementos na fila
+
+    /**
+     * @param initialCapacity capacidade inicial (maior que zero)
+     */
+    IntQueue(int initialCapacity) {
+        this.items = new int[Math.max(1, initialCapacity)];
+    }
+
+    /** @return true se não há elementos */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Remove todos os elementos, mantendo o buffer. */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Insere um valor no fim da fila.
+     *
+     * @param value valor a inserir
+     */
+    void add(int value) {
+        if (size == items.length) {
+            grow();
+        }
+        items[(head + size) % items.length] = value;
+        size++;
+    }
+
+    /**
+     * Remove e retorna o valor do início da fila.
+     *
+     * @return primeiro valor
+     */
+    int poll() {
+        int value = items[head];
+        head = (head + 1) % items.length;
+        size--;
+        return value;
+    }
+
+    /**
+     * Dobra a capacidade, desenrolando o buffer circular.
+     */
+    private void grow() {
+        int[] bigger = new int[items.length * 2];
+        for (int i = 0; i < size; i++) {
+            bigger[i] = items[(head + i) % items.length];
+        }
+        items = bigger;
+        head = 0;
+    }
+}
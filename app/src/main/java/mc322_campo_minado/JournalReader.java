@@ -0,0 +1,247 @@
+package mc322_campo_minado;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Lê um arquivo gravado por RoundJournal e remonta as rodadas.
+ * O arquivo é percorrido em janelas mapeadas em memória, então arquivos
+ * maiores que a memória podem ser lidos em fluxo. Eventos de rodadas
+ * intercaladas (várias mesas) são agrupados pelo identificador da rodada.
+ */
+public class JournalReader implements AutoCloseable {
+    private final FileChannel channel;
+
+    /**
+     * Abre o journal para leitura.
+     *
+     * @param path arquivo do journal
+     * @throws UncheckedIOException se o arquivo não existir ou não for um journal
+     */
+    public JournalReader(Path path) {
+        FileChannel opened = null;
+        try {
+            opened = FileChannel.open(path, StandardOpenOption.READ);
+            new Cursor(opened); // valida o cabeçalho
+        } catch (IOException | RuntimeException e) {
+            if (opened != null) {
+                try {
+                    opened.close(); // cabeçalho inválido: não deixa o canal aberto
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+        }
+        this.channel = opened;
+    }
+
+    /**
+     * Percorre o journal e entrega cada rodada assim que ela termina
+     * (saque ou mina). Rodadas ainda abertas no fim do arquivo são
+     * entregues por último, com status OPEN.
+     *
+     * @param action consumidor das rodadas
+     * @return quantidade de rodadas entregues
+     * @throws UncheckedIOException se a leitura falhar
+     */
+    public long forEachRound(Consumer<RecordedRound> action) {
+        Map<Long, RecordedRound.Builder> open = new HashMap<>();
+        long delivered = 0;
+        try {
+            Cursor cursor = new Cursor(channel);
+            while (cursor.next()) {
+                RecordedRound.Builder round;
+                switch (cursor.type) {
+                    case RoundJournal.START:
+                        open.put(cursor.round, new RecordedRound.Builder(cursor.round, cursor.longA,
+                            cursor.longB, cursor.intA, cursor.intB, cursor.intC, cursor.flags));
+                        break;
+                    case RoundJournal.REVEAL:
+                        round = open.get(cursor.round);
+                        if (round != null) {
+                            round.addReveal(cursor.intA);
+                            if (cursor.flags == 0) {
+                                open.remove(cursor.round);
+                                action.accept(round.build(RecordedRound.Status.LOST, 0));
+                                delivered++;
+                            }
+                        }
+                        break;
+                    case RoundJournal.HINT:
+                        round = open.get(cursor.round);
+                        if (round != null) {
+                            round.addHint(cursor.longA);
+                        }
+                        break;
+                    case RoundJournal.CASH_OUT:
+                        round = open.remove(cursor.round);
+                        if (round != null) {
+                            action.accept(round.build(RecordedRound.Status.CASHED_OUT, cursor.longA));
+                            delivered++;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Long> pending = new ArrayList<>(open.keySet());
+        pending.sort(null);
+        for (Long id : pending) {
+            action.accept(open.get(id).build(RecordedRound.Status.OPEN, 0));
+            delivered++;
+        }
+        return delivered;
+    }
+
+    /**
+     * Lê todas as rodadas para uma lista. Para arquivos grandes prefira forEachRound.
+     *
+     * @return rodadas na ordem em que terminaram
+     */
+    public List<RecordedRound> readRounds() {
+        List<RecordedRound> rounds = new ArrayList<>();
+        forEachRound(rounds::add);
+        return rounds;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fim dos dados válidos e maior identificador de rodada de um journal,
+     * usados pelo RoundJournal para continuar um arquivo existente.
+     */
+    static final class Scan {
+        final long end;
+        final long maxRoundId;
+
+        Scan(long end, long maxRoundId) {
+            this.end = end;
+            this.maxRoundId = maxRoundId;
+        }
+    }
+
+    static Scan scan(FileChannel channel) throws IOException {
+        Cursor cursor = new Cursor(channel);
+        long maxRoundId = 0;
+        while (cursor.next()) {
+            maxRoundId = Math.max(maxRoundId, cursor.round);
+        }
+        return new Scan(cursor.position, maxRoundId);
+    }
+
+    /**
+     * Percorre os registros em janelas mapeadas, expondo os campos do
+     * registro atual. Para no fim do arquivo, num byte de tipo 0 (cauda
+     * zerada de uma janela não truncada) ou num registro incompleto.
+     */
+    private static final class Cursor {
+        private static final long WINDOW = 256L << 20;
+
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowBase;
+        long position;   // posição absoluta do próximo registro
+
+        byte type;
+        long round;
+        long longA;
+        long longB;
+        int intA;
+        int intB;
+        int intC;
+        byte flags;
+
+        Cursor(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            if (size < RoundJournal.HEADER_SIZE) {
+                throw new IOException("Arquivo não é um journal de rodadas");
+            }
+            map(0);
+            if (window.getInt() != RoundJournal.MAGIC || window.getInt() != RoundJournal.VERSION) {
+                throw new IOException("Cabeçalho de journal inválido");
+            }
+            position = RoundJournal.HEADER_SIZE;
+        }
+
+        boolean next() throws IOException {
+            if (position + 1 > size) {
+                return false;
+            }
+            if (position + RoundJournal.MAX_RECORD_SIZE > windowBase + window.limit()
+                    && windowBase + window.limit() < size) {
+                map(position);
+            }
+            int offset = (int) (position - windowBase);
+            byte t = window.get(offset);
+            int length = recordSize(t);
+            if (length == 0 || position + length > size) {
+                return false;
+            }
+            window.position(offset + 1);
+            type = t;
+            round = window.getLong();
+            switch (t) {
+                case RoundJournal.START:
+                    longA = window.getLong();
+                    longB = window.getLong();
+                    intA = window.getInt();
+                    intB = window.getInt();
+                    intC = window.getInt();
+                    flags = window.get();
+                    break;
+                case RoundJournal.REVEAL:
+                    intA = window.getInt();
+                    flags = window.get();
+                    break;
+                default:
+                    longA = window.getLong();
+                    break;
+            }
+            position += length;
+            return true;
+        }
+
+        private static int recordSize(byte type) {
+            switch (type) {
+                case RoundJournal.START:
+                    return RoundJournal.START_SIZE;
+                case RoundJournal.REVEAL:
+                    return RoundJournal.REVEAL_SIZE;
+                case RoundJournal.HINT:
+                case RoundJournal.CASH_OUT:
+                    return RoundJournal.MONEY_EVENT_SIZE;
+                default:
+                    return 0;
+            }
+        }
+
+        private void map(long from) throws IOException {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(WINDOW, size - from));
+            window.order(ByteOrder.LITTLE_ENDIAN);
+            windowBase = from;
+        }
+    }
+}
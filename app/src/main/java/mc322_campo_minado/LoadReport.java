@@ -0,0 +1,81 @@
+package mc322_campo_minado;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de uma carga de SessionLoadGenerator: quantidade de jogadas
+ * e rodadas, vazão e distribuição da latência de cada jogada (do envio
+ * do comando até a conclusão do futuro).
+ */
+public class LoadReport {
+    private final int sessions;          // sessões simultâneas
+    private final long rounds;           // rodadas concluídas
+    private final long[] latencies;      // latência de cada jogada, em ns, ordenada
+    private final long elapsedNanos;     // tempo de parede da carga
+
+    /**
+     * @param sessions     sessões simultâneas
+     * @param rounds       rodadas concluídas
+     * @param latencies    latências das jogadas em ns (o array é ordenado no lugar)
+     * @param elapsedNanos tempo de parede total
+     */
+    LoadReport(int sessions, long rounds, long[] latencies, long elapsedNanos) {
+        Arrays.sort(latencies);
+        this.sessions = sessions;
+        this.rounds = rounds;
+        this.latencies = latencies;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** @return sessões simultâneas */
+    public int getSessions() {
+        return sessions;
+    }
+
+    /** @return rodadas concluídas */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /** @return jogadas executadas (start, reveal, cashOut) */
+    public long getMoves() {
+        return latencies.length;
+    }
+
+    /** @return jogadas por segundo */
+    public double getMovesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : latencies.length * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Retorna a latência no percentil informado (método nearest-rank).
+     *
+     * @param percentile percentil entre 0 e 100
+     * @return latência em nanossegundos (0 se não houve jogadas)
+     */
+    public long getPercentileNanos(double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * latencies.length);
+        return latencies[Math.max(0, Math.min(latencies.length - 1, rank - 1))];
+    }
+
+    /** @return latência mediana, em ns */
+    public long getP50Nanos() {
+        return getPercentileNanos(50);
+    }
+
+    /** @return latência no percentil 99, em ns */
+    public long getP99Nanos() {
+        return getPercentileNanos(99);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Sessions: %d  Rounds: %d  Moves: %d%n", sessions, rounds, getMoves())
+            + String.format("Throughput: %.0f moves/s%n", getMovesPerSecond())
+            + String.format("Latency p50: %.1f us  p99: %.1f us  max: %.1f us%n",
+                getP50Nanos() / 1e3, getP99Nanos() / 1e3, getPercentileNanos(100) / 1e3);
+    }
+}
@@ -6,10 +6,77 @@ package mc322_campo_minado;
  */
 public interface MineGenerationStrategy {
     /**
-     * Posiciona exatamente totalMines minas na matriz de células.
+     * Posiciona exatamente totalMines minas no tabuleiro.
+     * O tabuleiro chega limpo (sem minas e sem células reveladas).
      *
-     * @param cells      matriz de Cell a receber minas
+     * @param board      tabuleiro a receber minas
      * @param totalMines quantidade exata de minas a posicionar
      */
-    void generate(Cell[][] cells, int totalMines);
+    void generate(Board board, int totalMines);
+
+    /**
+     * Posiciona as minas de forma determinística a partir de uma semente:
+     * a mesma tupla (seed, rows, cols, totalMines) gera sempre o mesmo tabuleiro.
+     * Estratégias que não usam aleatoriedade ignoram a semente.
+     *
+     * @param board      tabuleiro a receber minas
+     * @param totalMines quantidade exata de minas a posicionar
+     * @param seed       semente da rodada
+     */
+    default void generate(Board board, int totalMines, long seed) {
+        generate(board, totalMines);
+    }
+
+    /**
+     * Sorteia a semente da próxima rodada a partir do gerador da estratégia.
+     * Estratégias com semente fixa produzem, assim, sempre a mesma sequência de rodadas.
+     *
+     * @return semente para generate(board, totalMines, seed)
+     */
+    default long nextSeed() {
+        return 0L;
+    }
+
+    /**
+     * Sorteia a semente da próxima rodada sabendo a configuração do
+     * tabuleiro, para estratégias que preparam tabuleiros com antecedência.
+     * Por padrão ignora a configuração.
+     *
+     * @param rows       linhas do tabuleiro
+     * @param cols       colunas do tabuleiro
+     * @param totalMines quantidade de minas
+     * @return semente para generate(board, totalMines, seed)
+     */
+    default long nextSeed(int rows, int cols, int totalMines) {
+        return nextSeed();
+    }
+
+    /**
+     * Célula em que a estratégia supõe que a rodada começa, para estratégias
+     * cujo tabuleiro depende da primeira revelação. Nesse caso o Game gera o
+     * tabuleiro de novo no primeiro clique, se ele cair em outra célula, com
+     * generate(board, totalMines, seed, startIndex).
+     *
+     * @param rows linhas do tabuleiro
+     * @param cols colunas do tabuleiro
+     * @return índice linear da célula inicial suposta, ou -1 se a estratégia
+     *         não depende da primeira revelação (padrão)
+     */
+    default int startIndex(int rows, int cols) {
+        return -1;
+    }
+
+    /**
+     * Posiciona as minas para uma rodada que começa na célula informada:
+     * a mesma tupla (seed, startIndex, rows, cols, totalMines) gera sempre o
+     * mesmo tabuleiro. Por padrão ignora a célula.
+     *
+     * @param board      tabuleiro a receber minas
+     * @param totalMines quantidade exata de minas a posicionar
+     * @param seed       semente da rodada
+     * @param startIndex índice linear da primeira célula revelada
+     */
+    default void generate(Board board, int totalMines, long seed, int startIndex) {
+        generate(board, totalMines, seed);
+    }
 }
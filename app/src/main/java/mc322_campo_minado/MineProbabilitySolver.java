@@ -0,0 +1,848 @@
+package mc322_campo_minado;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calcula a probabilidade real de mina em cada célula oculta, dado o que
+ * já foi revelado (as contagens de minas adjacentes), em vez da
+ * probabilidade uniforme usada pelo multiplicador da aposta.
+ * <p>
+ * Cada célula revelada com vizinhos ocultos é uma restrição ("há exatamente
+ * v minas entre estes vizinhos"). As células ocultas ligadas por restrições
+ * formam componentes independentes, enumerados separadamente (em paralelo,
+ * no pool do fork/join) e combinados pelo número de minas restante.
+ * <p>
+ * O solver observa o tabuleiro (CellObserver): cada revelação só registra
+ * a célula como pendente. Na próxima consulta, apenas os componentes
+ * tocados pelas revelações pendentes são refeitos; os demais continuam
+ * valendo. Formas de componente já enumeradas ficam num cache LRU, então
+ * padrões repetidos pelo tabuleiro são enumerados uma vez.
+ * Componentes grandes demais para enumerar (cadeias longas ao redor de uma
+ * cascata) são divididos em blocos fixos de TILE x TILE, mantendo só as
+ * restrições internas a cada bloco: uma aproximação que preserva a maior
+ * parte da informação e cujos blocos não tocados seguem vindo do cache.
+ * Não é thread-safe, assim como o Board que observa; close() desfaz o
+ * registro.
+ */
+public class MineProbabilitySolver implements CellObserver, AutoCloseable {
+    /** Fronteira máxima (células restritas) combinada de forma exata. */
+    static final int EXACT_FRONTIER = 1024;
+    /** Componentes por tarefa fork/join na enumeração paralela. */
+    static final int THRESHOLD = 4;
+    /** Formas de componente guardadas no cache. */
+    static final int CACHE_SIZE = 4096;
+    /** Lado dos blocos do tabuleiro em que componentes grandes são divididos. */
+    static final int TILE = 8;
+
+    private final Board board;
+    private final ForkJoinPool pool;
+    private final int rows;
+    private final int cols;
+
+    private final IntQueue pending = new IntQueue(64); // revelações ainda não processadas
+    private int pendingCount;
+    private boolean rescan = true;          // nova rodada: refaz os componentes do zero
+    private boolean dirty = true;
+
+    // componentes atuais
+    private final int[] componentOf;        // posição do componente de cada célula oculta, ou -1
+    private final int[] mark;               // geração em que a célula foi visitada
+    private int generation;
+    private FrontierComponent[] components = new FrontierComponent[16];
+    private int componentCount;
+    private final Map<FrontierComponent, FrontierComponent> cache; // forma → resultado (LRU)
+    private int enumerated;                 // componentes enumerados na última resolução
+
+    // resultado da última combinação
+    private double unconstrained;           // probabilidade das células fora da fronteira
+    private double tilt = Double.NaN;       // log-odds do campo médio; NaN na combinação exata
+    private int frontierSize;
+    private boolean exact;
+
+    /**
+     * Cria o solver usando o pool comum do fork/join.
+     *
+     * @param board tabuleiro observado
+     */
+    public MineProbabilitySolver(Board board) {
+        this(board, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param board tabuleiro observado
+     * @param pool  pool usado para enumerar os componentes em paralelo
+     */
+    public MineProbabilitySolver(Board board, ForkJoinPool pool) {
+        this.board = board;
+        this.pool = pool;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        int n = rows * cols;
+        this.componentOf = new int[n];
+        this.mark = new int[n];
+        Arrays.fill(componentOf, -1);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) { // ordem de acesso = LRU
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FrontierComponent, FrontierComponent> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        board.addCellObserver(this);
+    }
+
+    /**
+     * Probabilidade de a célula ter mina, dado o que foi revelado.
+     *
+     * @param row índice da linha
+     * @param col índice da coluna
+     * @return valor em [0, 1]; células reveladas valem 0 ou 1
+     */
+    public double getMineProbability(int row, int col) {
+        int index = board.indexOf(row, col);
+        if (board.isRevealedAt(index)) {
+            return board.hasMineAt(index) ? 1.0 : 0.0;
+        }
+        solve();
+        int slot = componentOf[index];
+        if (slot < 0) {
+            return unconstrained;
+        }
+        FrontierComponent component = components[slot];
+        if (component.parts != null) {
+            int part = component.partOf[component.positionOf(index)];
+            if (part < 0) {
+                return unconstrained;
+            }
+            component = component.parts[part];
+        }
+        if (component.approximate) {
+            return unconstrained;
+        }
+        if (component.probability == null) {
+            component.probability = meanField(component, tilt);
+        }
+        return component.probability[component.positionOf(index)];
+    }
+
+    /**
+     * Atualiza os componentes e as probabilidades se houve revelações desde
+     * a última vez. Chamado automaticamente pelas consultas.
+     */
+    public void solve() {
+        if (!dirty) return;
+        nextGeneration();
+        List<FrontierComponent> added = rescan ? rebuildAll() : rebuildTouched();
+        rescan = false;
+        pending.clear();
+        pendingCount = 0;
+        resolve(added);
+        combine();
+        dirty = false;
+    }
+
+    /** @return células ocultas vizinhas de alguma célula revelada */
+    public int getFrontierSize() {
+        solve();
+        return frontierSize;
+    }
+
+    /** @return quantidade de componentes independentes da fronteira */
+    public int getComponentCount() {
+        solve();
+        return componentCount;
+    }
+
+    /** @return probabilidade de mina de uma célula oculta sem vizinhos revelados */
+    public double getUnconstrainedProbability() {
+        solve();
+        return unconstrained;
+    }
+
+    /**
+     * @return true se a última resolução foi exata; false se a fronteira era
+     *         grande demais e os componentes foram combinados pela aproximação
+     *         de campo médio, ou se algum componente excedeu o limite de enumeração
+     */
+    public boolean isExact() {
+        solve();
+        return exact;
+    }
+
+    /** @return componentes enumerados na última resolução (os demais vieram do cache ou não mudaram) */
+    int getEnumeratedCount() {
+        return enumerated;
+    }
+
+    @Override
+    public void cellChanged(int index) {
+        dirty = true;
+        if (rescan) return;
+        if (pendingCount > componentOf.length >>> 3) {
+            // revelação em massa: mais barato refazer tudo
+            rescan = true;
+            pending.clear();
+            pendingCount = 0;
+            return;
+        }
+        pending.add(index);
+        pendingCount++;
+    }
+
+    @Override
+    public void boardChanged() {
+        dirty = true;
+        rescan = true;
+        pending.clear();
+        pendingCount = 0;
+    }
+
+    @Override
+    public void close() {
+        board.removeCellObserver(this);
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == 0) {
+            // estouro do contador: nenhuma marca antiga pode coincidir
+            Arrays.fill(mark, 0);
+            generation = 1;
+        }
+    }
+
+    /** Descarta todos os componentes e os refaz a partir de todas as restrições. */
+    private List<FrontierComponent> rebuildAll() {
+        for (int i = 0; i < componentCount; i++) {
+            for (int cell : components[i].cells) {
+                componentOf[cell] = -1;
+            }
+            components[i] = null;
+        }
+        componentCount = 0;
+        List<FrontierComponent> added = new ArrayList<>();
+        int n = rows * cols;
+        for (int index = 0; index < n; index++) {
+            if (mark[index] != generation && isConstraint(index)) {
+                flood(index, added);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Refaz só os componentes que contêm as células reveladas ou seus
+     * vizinhos ocultos. Uma revelação não altera nenhum outro componente:
+     * as únicas restrições novas são as próprias células reveladas.
+     */
+    private List<FrontierComponent> rebuildTouched() {
+        IntQueue seeds = new IntQueue(64);
+        while (!pending.isEmpty()) {
+            int index = pending.poll();
+            seeds.add(index);
+            int r = index / cols;
+            int c = index % cols;
+            for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+                for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                    int slot = componentOf[rr * cols + cc];
+                    if (slot >= 0) {
+                        removeComponent(slot, seeds);
+                    }
+                }
+            }
+        }
+        List<FrontierComponent> added = new ArrayList<>();
+        while (!seeds.isEmpty()) {
+            int index = seeds.poll();
+            if (mark[index] != generation && isConstraint(index)) {
+                flood(index, added);
+            }
+        }
+        return added;
+    }
+
+    /** Retira o componente da lista, guardando suas restrições como sementes. */
+    private void removeComponent(int slot, IntQueue seeds) {
+        FrontierComponent removed = components[slot];
+        for (int cell : removed.cells) {
+            componentOf[cell] = -1;
+        }
+        for (int source : removed.sources) {
+            seeds.add(source);
+        }
+        FrontierComponent last = components[--componentCount];
+        components[componentCount] = null;
+        if (last != removed) {
+            components[slot] = last;
+            last.slot = slot;
+            for (int cell : last.cells) {
+                componentOf[cell] = slot;
+            }
+        }
+    }
+
+    /** Célula revelada, sem mina e com algum vizinho oculto. */
+    private boolean isConstraint(int index) {
+        if (!board.isRevealedAt(index) || board.hasMineAt(index)) {
+            return false;
+        }
+        int r = index / cols;
+        int c = index % cols;
+        for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+            for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                if (!board.isRevealedAt(rr * cols + cc)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Busca em largura a partir de uma restrição, alternando entre células
+     * reveladas e seus vizinhos ocultos, e registra o componente encontrado
+     * na forma canônica (células e restrições em ordem crescente).
+     *
+     * @param added recebe o componente, ou seus pedaços se for grande demais
+     */
+    private void flood(int start, List<FrontierComponent> added) {
+        IntQueue queue = new IntQueue(16);
+        int[] sources = new int[16];
+        int[] cells = new int[16];
+        int sourceCount = 0;
+        int cellCount = 0;
+        mark[start] = generation;
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int source = queue.poll();
+            if (sourceCount == sources.length) {
+                sources = Arrays.copyOf(sources, sourceCount * 2);
+            }
+            sources[sourceCount++] = source;
+            int r = source / cols;
+            int c = source % cols;
+            for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+                for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                    int cell = rr * cols + cc;
+                    if (board.isRevealedAt(cell) || mark[cell] == generation) continue;
+                    mark[cell] = generation;
+                    if (cellCount == cells.length) {
+                        cells = Arrays.copyOf(cells, cellCount * 2);
+                    }
+                    cells[cellCount++] = cell;
+                    // toda célula revelada segura vizinha de uma oculta é restrição
+                    int r2 = cell / cols;
+                    int c2 = cell % cols;
+                    for (int r3 = Math.max(0, r2 - 1); r3 <= Math.min(rows - 1, r2 + 1); r3++) {
+                        for (int c3 = Math.max(0, c2 - 1); c3 <= Math.min(cols - 1, c2 + 1); c3++) {
+                            int next = r3 * cols + c3;
+                            if (mark[next] != generation && board.isRevealedAt(next) && !board.hasMineAt(next)) {
+                                mark[next] = generation;
+                                queue.add(next);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        sources = Arrays.copyOf(sources, sourceCount);
+        cells = Arrays.copyOf(cells, cellCount);
+        Arrays.sort(sources);
+        Arrays.sort(cells);
+
+        int[] values = new int[sourceCount];
+        int[][] members = new int[sourceCount][];
+        int[] buffer = new int[8];
+        for (int i = 0; i < sourceCount; i++) {
+            int source = sources[i];
+            int r = source / cols;
+            int c = source % cols;
+            int value = board.adjacentMinesAt(source);
+            int size = 0;
+            for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+                for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                    int cell = rr * cols + cc;
+                    if (!board.isRevealedAt(cell)) {
+                        buffer[size++] = Arrays.binarySearch(cells, cell);
+                    } else if (board.hasMineAt(cell)) {
+                        value--; // mina já revelada não conta para os ocultos
+                    }
+                }
+            }
+            values[i] = value;
+            members[i] = Arrays.copyOf(buffer, size); // vizinhos em ordem de índice: já crescente
+        }
+
+        FrontierComponent component = new FrontierComponent(cells, sources, values, members);
+        if (componentCount == components.length) {
+            components = Arrays.copyOf(components, componentCount * 2);
+        }
+        component.slot = componentCount;
+        components[componentCount++] = component;
+        for (int cell : cells) {
+            componentOf[cell] = component.slot;
+        }
+        if (cellCount > FrontierComponent.MAX_CELLS) {
+            split(component);
+            for (FrontierComponent part : component.parts) {
+                added.add(part);
+            }
+        } else {
+            added.add(component);
+        }
+    }
+
+    /**
+     * Divide um componente grande pelos blocos TILE x TILE do tabuleiro.
+     * Cada pedaço é um grupo de células do mesmo bloco ligadas por restrições
+     * que ficam inteiras dentro do bloco; restrições que cruzam blocos são
+     * descartadas, e células sem nenhuma restrição restante contam como livres.
+     */
+    private void split(FrontierComponent component) {
+        int[] cells = component.cells;
+        int n = cells.length;
+        int[] parent = new int[n];
+        boolean[] constrained = new boolean[n];
+        for (int p = 0; p < n; p++) {
+            parent[p] = p;
+        }
+        int[][] members = component.members();
+        boolean[] kept = new boolean[members.length];
+        for (int i = 0; i < members.length; i++) {
+            int[] m = members[i];
+            int tile = tileOf(cells[m[0]]);
+            boolean inside = true;
+            for (int j = 1; j < m.length && inside; j++) {
+                inside = tileOf(cells[m[j]]) == tile;
+            }
+            if (!inside) continue;
+            kept[i] = true;
+            for (int j = 0; j < m.length; j++) {
+                constrained[m[j]] = true;
+                union(parent, m[0], m[j]);
+            }
+        }
+        // pedaços na ordem da menor célula (cells é crescente)
+        int[] partOf = new int[n];
+        int[] partOfRoot = new int[n];
+        Arrays.fill(partOfRoot, -1);
+        int parts = 0;
+        for (int p = 0; p < n; p++) {
+            if (!constrained[p]) {
+                partOf[p] = -1;
+                continue;
+            }
+            int root = find(parent, p);
+            if (partOfRoot[root] < 0) {
+                partOfRoot[root] = parts++;
+            }
+            partOf[p] = partOfRoot[root];
+        }
+        int[] size = new int[parts];
+        int[] constraints = new int[parts];
+        int[] position = new int[n];            // posição da célula dentro do pedaço
+        for (int p = 0; p < n; p++) {
+            if (partOf[p] >= 0) {
+                position[p] = size[partOf[p]]++;
+            }
+        }
+        for (int i = 0; i < members.length; i++) {
+            if (kept[i]) constraints[partOf[members[i][0]]]++;
+        }
+        int[][] partCells = new int[parts][];
+        int[][] partSources = new int[parts][];
+        int[][] partValues = new int[parts][];
+        int[][][] partMembers = new int[parts][][];
+        for (int k = 0; k < parts; k++) {
+            partCells[k] = new int[size[k]];
+            partSources[k] = new int[constraints[k]];
+            partValues[k] = new int[constraints[k]];
+            partMembers[k] = new int[constraints[k]][];
+        }
+        for (int p = 0; p < n; p++) {
+            if (partOf[p] >= 0) {
+                partCells[partOf[p]][position[p]] = cells[p];
+            }
+        }
+        Arrays.fill(constraints, 0);
+        int[] values = component.values();
+        for (int i = 0; i < members.length; i++) {
+            if (!kept[i]) continue;
+            int k = partOf[members[i][0]];
+            int at = constraints[k]++;
+            int[] m = new int[members[i].length];
+            for (int j = 0; j < m.length; j++) {
+                m[j] = position[members[i][j]];
+            }
+            partSources[k][at] = component.sources[i];
+            partValues[k][at] = values[i];
+            partMembers[k][at] = m;
+        }
+        component.parts = new FrontierComponent[parts];
+        for (int k = 0; k < parts; k++) {
+            component.parts[k] = new FrontierComponent(partCells[k], partSources[k], partValues[k], partMembers[k]);
+        }
+        component.partOf = partOf;
+        component.approximate = true;
+    }
+
+    private int tileOf(int index) {
+        return (index / cols / TILE) * ((cols + TILE - 1) / TILE) + index % cols / TILE;
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a);
+        int rb = find(parent, b);
+        if (ra != rb) {
+            parent[rb] = ra;
+        }
+    }
+
+    /**
+     * Busca no cache as formas dos componentes novos e enumera as demais em
+     * paralelo; componentes de mesma forma na mesma leva são enumerados uma vez.
+     */
+    private void resolve(List<FrontierComponent> added) {
+        Map<FrontierComponent, FrontierComponent> missing = new HashMap<>();
+        for (FrontierComponent component : added) {
+            FrontierComponent solved = cache.get(component);
+            if (solved != null) {
+                component.reuse(solved);
+            } else {
+                missing.putIfAbsent(component, component);
+            }
+        }
+        FrontierComponent[] work = missing.keySet().toArray(new FrontierComponent[0]);
+        if (work.length <= THRESHOLD) {
+            for (FrontierComponent component : work) {
+                component.solve();
+            }
+        } else {
+            pool.invoke(new EnumerateTask(work, 0, work.length));
+        }
+        for (FrontierComponent component : work) {
+            cache.put(component, component);
+        }
+        for (FrontierComponent component : added) {
+            if (!component.isSolved()) {
+                component.reuse(missing.get(component));
+            }
+        }
+        enumerated = work.length;
+    }
+
+    /**
+     * Enumera o intervalo [from, to) dos componentes, dividindo-o ao meio
+     * enquanto for maior que THRESHOLD.
+     */
+    private static final class EnumerateTask extends RecursiveAction {
+        private final FrontierComponent[] components;
+        private final int from;
+        private final int to;
+
+        EnumerateTask(FrontierComponent[] components, int from, int to) {
+            this.components = components;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                EnumerateTask left = new EnumerateTask(components, from, mid);
+                left.fork();
+                new EnumerateTask(components, mid, to).compute();
+                left.join();
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                components[i].solve();
+            }
+        }
+    }
+
+    /**
+     * Combina os componentes pelo total de minas restante: as células fora
+     * da fronteira (e as de componentes não enumerados) recebem as minas que
+     * sobram, em C(U, R - m) arranjos equiprováveis.
+     */
+    private void combine() {
+        List<FrontierComponent> solved = new ArrayList<>(componentCount);
+        int cells = 0;
+        int solvedCells = 0;
+        boolean complete = true;
+        for (int i = 0; i < componentCount; i++) {
+            FrontierComponent component = components[i];
+            cells += component.cells.length;
+            FrontierComponent[] pieces = component.parts != null
+                ? component.parts : new FrontierComponent[] {component};
+            complete &= component.parts == null;
+            for (FrontierComponent piece : pieces) {
+                piece.probability = null;
+                if (piece.approximate) {
+                    complete = false;
+                } else {
+                    solved.add(piece);
+                    solvedCells += piece.cells.length;
+                }
+            }
+        }
+        frontierSize = cells;
+        int hidden = board.getRemainingSafeCells() + board.getRemainingMines();
+        int free = hidden - solvedCells;
+        int mines = board.getRemainingMines();
+        if (solvedCells <= EXACT_FRONTIER) {
+            tilt = Double.NaN;
+            unconstrained = combineExact(solved, solvedCells, free, mines);
+            exact = complete;
+        } else {
+            tilt = fitTilt(solved, free, mines);
+            unconstrained = free > 0 ? sigmoid(tilt) : 0;
+            exact = false;
+        }
+    }
+
+    /**
+     * Combinação exata: convoluções das distribuições de minas de cada
+     * componente, de frente para trás (prefixos) e de trás para frente
+     * (sufixos ponderados pelos arranjos das células livres). Cada vetor é
+     * renormalizado pelo seu máximo; as escalas se cancelam porque cada
+     * componente é normalizado pelo seu próprio total.
+     *
+     * @return probabilidade de mina de uma célula livre
+     */
+    private static double combineExact(List<FrontierComponent> solved, int cells, int free, int mines) {
+        int max = Math.min(cells, mines);
+        double[] arrangements = arrangements(max, free, mines);
+        int k = solved.size();
+
+        // prefix[i] = distribuição de minas dos componentes [0, i)
+        double[][] prefix = new double[k + 1][];
+        prefix[0] = new double[] {1.0};
+        for (int i = 0; i < k; i++) {
+            prefix[i + 1] = normalize(convolve(prefix[i], solved.get(i).weight, max));
+        }
+        // suffix[i][j] = peso de ter j minas em [0, i) e o resto em [i, k) e nas livres
+        double[][] suffix = new double[k + 1][];
+        suffix[k] = arrangements;
+        for (int i = k - 1; i >= 0; i--) {
+            double[] weight = solved.get(i).weight;
+            double[] next = suffix[i + 1];
+            double[] current = new double[max + 1];
+            for (int j = 0; j <= max; j++) {
+                double sum = 0;
+                for (int m = 0; m < weight.length && j + m <= max; m++) {
+                    sum += weight[m] * next[j + m];
+                }
+                current[j] = sum;
+            }
+            suffix[i] = normalize(current);
+        }
+
+        for (int i = 0; i < k; i++) {
+            FrontierComponent component = solved.get(i);
+            double[] before = prefix[i];
+            double[] after = suffix[i + 1];
+            // given[m] = peso do resto do tabuleiro dado que o componente tem m minas
+            double[] given = new double[component.weight.length];
+            for (int m = 0; m < given.length; m++) {
+                double sum = 0;
+                for (int j = 0; j < before.length && j + m <= max; j++) {
+                    sum += before[j] * after[j + m];
+                }
+                given[m] = sum;
+            }
+            component.probability = probabilities(component, given);
+        }
+
+        if (free == 0) return 0;
+        double[] all = prefix[k];
+        double numerator = 0, denominator = 0;
+        for (int m = 0; m < all.length && m <= max; m++) {
+            double w = all[m] * arrangements[m];
+            denominator += w;
+            numerator += w * (mines - m) / free;
+        }
+        return denominator > 0 ? numerator / denominator : 0;
+    }
+
+    /**
+     * C(free, mines - m) para m em [0, max], dividido pelo maior valor.
+     * Calculado em escala logarítmica pela razão entre termos vizinhos.
+     */
+    private static double[] arrangements(int max, int free, int mines) {
+        double[] log = new double[max + 1];
+        Arrays.fill(log, Double.NEGATIVE_INFINITY);
+        int first = Math.max(0, mines - free);
+        double top = Double.NEGATIVE_INFINITY;
+        if (first <= max) {
+            log[first] = 0;
+            for (int m = first; m < max; m++) {
+                // C(U, r - 1) / C(U, r) = r / (U - r + 1), com r = mines - m
+                int r = mines - m;
+                log[m + 1] = log[m] + Math.log(r) - Math.log(free - r + 1.0);
+            }
+            for (double v : log) {
+                top = Math.max(top, v);
+            }
+        }
+        double[] result = new double[max + 1];
+        for (int m = 0; m <= max; m++) {
+            result[m] = log[m] == Double.NEGATIVE_INFINITY ? 0 : Math.exp(log[m] - top);
+        }
+        return result;
+    }
+
+    /**
+     * Aproximação de campo médio para fronteiras grandes: cada célula livre
+     * tem mina com probabilidade σ(t) e cada componente é ponderado por
+     * e^(t·m), com t ajustado para que o número esperado de minas seja o
+     * restante. Newton com intervalo de segurança (bisseção quando o passo
+     * sai dele); cada iteração custa O(fronteira).
+     *
+     * @return t ajustado
+     */
+    private static double fitTilt(List<FrontierComponent> solved, int free, int mines) {
+        double low = -60, high = 60;
+        int hidden = free;
+        for (FrontierComponent component : solved) {
+            hidden += component.cells.length;
+        }
+        double p = Math.min(Math.max((double) mines / hidden, 1e-12), 1 - 1e-12);
+        double t = Math.log(p / (1 - p));
+        double[] moments = new double[2];
+        for (int iteration = 0; iteration < 100; iteration++) {
+            double s = sigmoid(t);
+            double expected = free * s;
+            double variance = free * s * (1 - s);
+            for (FrontierComponent component : solved) {
+                moments(component.weight, t, moments);
+                expected += moments[0];
+                variance += moments[1];
+            }
+            double error = expected - mines;
+            if (Math.abs(error) < 1e-9 * Math.max(1, mines)) break;
+            if (error < 0) {
+                low = t;
+            } else {
+                high = t;
+            }
+            double next = variance > 0 ? t - error / variance : Double.NaN;
+            if (!(next > low && next < high)) {
+                next = (low + high) / 2;
+            }
+            if (Math.abs(next - t) < 1e-14) break;
+            t = next;
+        }
+        return t;
+    }
+
+    /** Média e variância do número de minas do componente com pesos e^(t·m). */
+    private static void moments(double[] weight, double t, double[] out) {
+        double[] tilted = tilted(weight.length, t);
+        double total = 0, mean = 0, square = 0;
+        for (int m = 0; m < weight.length; m++) {
+            double w = weight[m] * tilted[m];
+            total += w;
+            mean += m * w;
+            square += (double) m * m * w;
+        }
+        if (total > 0) {
+            mean /= total;
+            out[0] = mean;
+            out[1] = Math.max(0, square / total - mean * mean);
+        } else {
+            out[0] = 0;
+            out[1] = 0;
+        }
+    }
+
+    /** Probabilidades das células do componente no campo médio de log-odds t. */
+    private static double[] meanField(FrontierComponent component, double t) {
+        return probabilities(component, tilted(component.weight.length, t));
+    }
+
+    /**
+     * Probabilidade de cada célula dados os pesos externos por quantidade de
+     * minas do componente.
+     */
+    private static double[] probabilities(FrontierComponent component, double[] given) {
+        double total = dot(component.weight, given);
+        double[] p = new double[component.cells.length];
+        for (int c = 0; c < p.length; c++) {
+            p[c] = total > 0 ? dot(component.cellWeight[c], given) / total : 0;
+        }
+        return p;
+    }
+
+    /**
+     * e^(t·m) para m em [0, length), dividido pelo maior termo para não
+     * estourar; calculado por multiplicações sucessivas a partir do maior.
+     */
+    private static double[] tilted(int length, double t) {
+        double[] result = new double[length];
+        double step = Math.exp(-Math.abs(t));
+        double value = 1;
+        if (t > 0) {
+            for (int m = length - 1; m >= 0; m--, value *= step) {
+                result[m] = value;
+            }
+        } else {
+            for (int m = 0; m < length; m++, value *= step) {
+                result[m] = value;
+            }
+        }
+        return result;
+    }
+
+    private static double sigmoid(double t) {
+        return 1 / (1 + Math.exp(-t));
+    }
+
+    private static double[] convolve(double[] a, double[] b, int max) {
+        double[] result = new double[Math.min(max, a.length + b.length - 2) + 1];
+        for (int i = 0; i < a.length && i <= max; i++) {
+            if (a[i] == 0) continue;
+            for (int j = 0; j < b.length && i + j <= max; j++) {
+                result[i + j] += a[i] * b[j];
+            }
+        }
+        return result;
+    }
+
+    private static double[] normalize(double[] values) {
+        double top = 0;
+        for (double v : values) {
+            top = Math.max(top, v);
+        }
+        if (top > 0) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] /= top;
+            }
+        }
+        return values;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length && i < b.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -2,23 +2,41 @@ package mc322_campo_minado;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Interface principal da aplicação Campo Minado com apostas.
  * Orquestra os painéis de configuração, tabuleiro, status e dica paga.
- * Controla a lógica do jogo usando Game e exibe tudo com CellButton.
+ * O Game roda fora da EDT, numa GameSession drenada por uma thread própria
+ * (engine): a interface só envia comandos e recebe de volta cópias do
+ * estado da rodada, aplicadas em lote na EDT pelo UiEventBus. O Board só é
+ * tocado pelo engine: cada evento traz uma BoardView copiada lá, e o
+ * BoardPanel pinta a partir dela. Assim a EDT só faz pintura, sem disputar
+ * o tabuleiro com o engine, e a latência do clique não depende do tamanho
+ * do tabuleiro.
  */
 public class MinesweeperUI extends JFrame {
     private SetupPanel setupPanel;     // painel de configurações iniciais
-    private BoardPanel boardPanel;     // painel do tabuleiro (com CellButton)
+    private BoardPanel boardPanel;     // tabuleiro desenhado em um único componente
     private StatusPanel statusPanel;   // painel de informações (saldo, mult, status)
     private JButton cashOutButton;     // botão de saque manual
     private JButton hintButton;        // botão de dica paga
-    private Game game;                 // lógica do jogo
-
-    private static final Color HINT_SAFE_BG = Color.decode("#2E7D32"); // cor de fundo para dica segura
+    private final RoundJournal journal = openJournal(); // journal das rodadas (null se desativado)
+
+    private final Player player = new Player(1000.0); // carteira mantida entre rodadas
+    private final NoGuessMineGenerationStrategy noGuess = new NoGuessMineGenerationStrategy(); // modo sem chute (fila de prontos mantida entre mesas)
+    private final ExecutorService engine = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "campo-engine");
+        thread.setDaemon(true);
+        return thread;
+    });                                // thread onde o Game é executado
+    private final UiEventBus events = new UiEventBus(); // eventos do engine aplicados na EDT
+    private GameSession session;       // mesa atual (recriada quando a configuração muda)
+    private Board board;               // tabuleiro da mesa atual (na EDT, só as dimensões são lidas)
+    private long sessionIds;           // identificadores das mesas locais
+    private boolean roundActive;       // espelho, na EDT, de uma rodada em andamento
 
     // Guarda a última célula clicada para usar na dica
     private int lastClickedRow = -1, lastClickedCol = -1;
@@ -32,6 +50,22 @@ public class MinesweeperUI extends JFrame {
         initComponents();
     }
 
+    /**
+     * Abre o journal de rodadas se a propriedade campo.journal indicar um arquivo
+     * (ex.: -Dcampo.journal=rodadas.cmj). O arquivo é fechado ao sair da aplicação.
+     *
+     * @return journal aberto, ou null se a propriedade não estiver definida
+     */
+    private static RoundJournal openJournal() {
+        String path = System.getProperty("campo.journal");
+        if (path == null || path.isBlank()) {
+            return null;
+        }
+        RoundJournal journal = new RoundJournal(java.nio.file.Path.of(path));
+        Runtime.getRuntime().addShutdownHook(new Thread(journal::close));
+        return journal;
+    }
+
     /**
      * Inicializa e organiza os componentes da interface gráfica.
      */
@@ -57,12 +91,15 @@ public class MinesweeperUI extends JFrame {
         topPanel.add(buttons, BorderLayout.EAST);
         add(topPanel, BorderLayout.NORTH);
 
-        // Tabuleiro
+        // Tabuleiro (rola quando não cabe na janela)
         boardPanel = new BoardPanel();
-        add(boardPanel, BorderLayout.CENTER);
+        JScrollPane boardScroll = new JScrollPane(boardPanel);
+        boardScroll.setBorder(BorderFactory.createEmptyBorder());
+        add(boardScroll, BorderLayout.CENTER);
 
         // Status
         statusPanel = new StatusPanel();
+        statusPanel.setPlayer(player);
         add(statusPanel, BorderLayout.SOUTH);
 
         setDefaultCloseOperation(EXIT_ON_CLOSE);
@@ -73,7 +110,7 @@ public class MinesweeperUI extends JFrame {
 
     /**
      * Inicia uma nova rodada ao clicar em "Start".
-     * Valida os parâmetros, inicializa o jogo e atualiza a interface.
+     * Valida os parâmetros na EDT e envia o início da rodada ao engine.
      */
     private void onStartClicked() {
         try {
@@ -85,74 +122,97 @@ public class MinesweeperUI extends JFrame {
                 return;
             }
 
-            // Mantém o saldo do jogador entre rodadas
-            double prevBalance = (game != null)
-                ? game.getPlayer().getBalance()
-                : 1000.0;
-
-            game = new Game(size, size, mines);
-            game.getPlayer().setBalance(prevBalance);
-            game.startGame(bet);
-
-            // Atualiza os painéis de status e desabilita botões de ação
-            statusPanel.setPlayer(game.getPlayer());
-            statusPanel.updateMultiplier(game.getBet().getCurrentMultiplier());
-            statusPanel.updateStatus("Playing");
-            statusPanel.updateStatus("Bet placed: " + String.format("%.2f", bet));
-            statusPanel.updatePayout(game.getBet().getCurrentPayout());
+            // Reaproveita a mesa (e o tabuleiro) se a configuração não mudou
+            boolean noGuessMode = setupPanel.isNoGuess();
+            if (board == null || board.getRows() != size || board.getTotalMines() != mines
+                    || (board.getStrategy() == noGuess) != noGuessMode) {
+                // Sem chute, as minas são geradas de novo a partir do primeiro clique
+                MineGenerationStrategy strategy = noGuessMode ? noGuess : new FloydMineGenerationStrategy();
+                // Armazenamento compacto: a cópia de cada jogada são só dois bitsets
+                board = new Board(size, size, mines, strategy, Board.StorageType.PACKED);
+                Game game = new Game(board, player);
+                game.setJournal(journal);
+                game.setFirstClickSafe(true); // nenhuma rodada termina no primeiro clique
+                session = new GameSession(++sessionIds, game, engine);
+            }
+
+            // Desabilita as ações até o engine confirmar a rodada
             setupPanel.setStartEnabled(false);
             cashOutButton.setEnabled(false);
             hintButton.setEnabled(false);
+            boardPanel.buildBoard(board, this::handleCellClick);
 
-            // Monta o tabuleiro para a nova rodada
-            boardPanel.buildBoard(game.getBoard(), this::handleCellClick);
+            GameSession current = session;
+            current.start(bet)
+                .thenCompose(v -> current.play(game -> new RoundEvent(game, -1)))
+                .whenComplete((round, ex) -> events.post(() -> onRoundStarted(bet, round, ex)));
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(this, "Please enter valid numbers");
-        } catch (IllegalArgumentException ex) {
-            JOptionPane.showMessageDialog(this, ex.getMessage());
         }
     }
 
     /**
-     * Manipula o clique em uma célula do tabuleiro.
-     * Atualiza o estado do jogo, interface e botões conforme o resultado.
+     * Aplica na EDT o resultado do início da rodada.
+     */
+    private void onRoundStarted(double bet, RoundEvent round, Throwable error) {
+        if (error != null) {
+            setupPanel.setStartEnabled(true);
+            showError(error);
+            return;
+        }
+        roundActive = true;
+        lastClickedRow = lastClickedCol = -1;
+        boardPanel.show(round.view);
+        statusPanel.updateMultiplier(round.multiplier);
+        statusPanel.updateStatus("Playing");
+        statusPanel.updateStatus("Bet placed: " + String.format("%.2f", bet));
+        statusPanel.updatePayout(round.payout);
+    }
+
+    /**
+     * Manipula o clique em uma célula do tabuleiro: envia a revelação ao
+     * engine e aplica o resultado quando ele chegar.
      *
-     * @param r   linha da célula clicada
-     * @param c   coluna da célula clicada
-     * @param btn botão correspondente à célula
+     * @param r linha da célula clicada
+     * @param c coluna da célula clicada
      */
-    private void handleCellClick(int r, int c, CellButton btn) {
-        if (game.checkGameOver()) return;
+    private void handleCellClick(int r, int c) {
+        if (!roundActive) return;
 
         // Guarda a última célula clicada para uso da dica
         lastClickedRow = r;
         lastClickedCol = c;
 
-        boolean safe = game.revealCell(r, c);
-        if (game.getBoard().getCell(r, c).hasMine()) {
-            btn.showMine();
-        } else {
-            btn.showGem();
-            hintButton.setEnabled(true);
-            // Só libera o cash out após 3 células seguras
-            if (game.getSafeCellsRevealed() >= 3) {
-                cashOutButton.setEnabled(true);
-            }
-        }
-        btn.setEnabled(false);
+        // o evento traz a cópia do tabuleiro feita no engine; o painel a pinta no próximo quadro
+        session.play(game -> {
+            boolean safe = game.revealCell(r, c);
+            // Se todas as casas seguras foram abertas, vitória: saca na mesma jogada
+            double payout = (safe && game.checkGameOver()) ? game.cashOut() : -1;
+            return new RoundEvent(game, payout);
+        }).thenAccept(round -> events.post(() -> onCellRevealed(r, c, round)));
+        // cliques feitos depois do fim da rodada são recusados pela sessão e ignorados
+    }
+
+    /**
+     * Aplica na EDT o resultado de uma revelação.
+     */
+    private void onCellRevealed(int r, int c, RoundEvent round) {
+        if (!roundActive) return;
+        boardPanel.show(round.view);
         hintButton.setEnabled(true);
-        statusPanel.updateMultiplier(game.getBet().getCurrentMultiplier());
-        statusPanel.updatePayout(game.getBet().getCurrentPayout());
+        statusPanel.updateMultiplier(round.multiplier);
+        statusPanel.updatePayout(round.payout);
 
-        if (!safe) {
+        if (round.lost) {
             // Se clicou em mina, revela todas as minas e encerra a rodada
-            boardPanel.revealAllMines(game.getBoard());
-            btn.showExplosion();
+            boardPanel.revealAllMines();
+            boardPanel.showExplosion(r, c);
             endRound("Game Over!");
-        } else if (game.checkGameOver()) {
-            // Se todas as casas seguras foram abertas, vitória
-            double payout = game.cashOut();
-            endRound("You Win! Payout: " + String.format("%.2f", payout));
+        } else if (round.cashedOut >= 0) {
+            endRound("You Win! Payout: " + String.format("%.2f", round.cashedOut));
+        } else if (round.safeCellsRevealed >= 3) {
+            // Só libera o cash out após 3 células seguras
+            cashOutButton.setEnabled(true);
         }
     }
 
@@ -165,70 +225,38 @@ public class MinesweeperUI extends JFrame {
             JOptionPane.showMessageDialog(this, "No cell selected");
             return;
         }
+        int row = lastClickedRow;
+        int col = lastClickedCol;
+        hintButton.setEnabled(false);
 
-        if (game.isHintUsed()) {
-            JOptionPane.showMessageDialog(this, "Você já usou uma dica nesta rodada.");
-            return;
-        }
-
-        double fee = game.getBet().getHintFee();
-        double payout = game.getBet().getCurrentPayout();
+        // a taxa e as células destacadas são calculadas no engine
+        session.hint(row, col).whenComplete((hint, ex) -> events.post(() -> onHint(hint, ex)));
+    }
 
-        if (fee >= payout) {
-            JOptionPane.showMessageDialog(this, "Insufficient payout for hint");
+    /**
+     * Aplica na EDT o resultado da dica.
+     */
+    private void onHint(Hint hint, Throwable error) {
+        if (!roundActive) return;
+        if (error != null) {
+            // dica já usada ou payout insuficiente: a mensagem vem do Game
+            hintButton.setEnabled(true);
+            showError(error);
             return;
         }
-
-        // Aplica a taxa da dica e marca como usada
-        game.getBet().applyHintFee();
-        game.setHintUsed(true);
-        statusPanel.updatePayout(game.getBet().getCurrentPayout());
-        statusPanel.updateStatus(String.format("Hint used: -%.2f", fee));
-
-        Board board = game.getBoard();
-        CellButton[][] buttons = boardPanel.getCellButtons();
-        List<CellButton> affectedButtons = new ArrayList<>();
-
-        // Direções: cima, baixo, esquerda, direita
-        int[][] directions = {
-            {-1, 0}, // cima
-            {1, 0},  // baixo
-            {0, -1}, // esquerda
-            {0, 1}   // direita
-        };
+        statusPanel.updatePayout(hint.getPayout());
+        statusPanel.updateStatus(String.format("Hint used: -%.2f", hint.getFee()));
 
         // Revela temporariamente as casas adjacentes
-        for (int[] dir : directions) {
-            int rr = lastClickedRow + dir[0];
-            int cc = lastClickedCol + dir[1];
-
-            // Verifica se a posição é válida no tabuleiro
-            if (rr >= 0 && rr < board.getRows() && cc >= 0 && cc < board.getCols()) {
-                Cell cell = board.getCell(rr, cc);
-                CellButton btn = buttons[rr][cc];
-
-                if (!cell.isRevealed()) {
-                    if (cell.hasMine()) {
-                        btn.showMine(); // ícone + fundo vermelho
-                    } else {
-                        btn.setIcon(null); // não mostra a gema
-                        btn.setBackground(HINT_SAFE_BG); // apenas fundo verde
-                    }
-                    btn.setEnabled(false); // impede clique temporariamente
-                    affectedButtons.add(btn);
-                }
-            }
+        // (mina: ícone + fundo vermelho; segura: apenas fundo verde, sem gema)
+        int cols = board.getCols();
+        for (int i = 0; i < hint.getCellCount(); i++) {
+            int cell = hint.getCell(i);
+            boardPanel.showHint(cell / cols, cell % cols, hint.isMine(i));
         }
 
-        hintButton.setEnabled(false);
-
         // Após 1 segundo, volta ao normal
-        Timer timer = new Timer(1000, e -> {
-            // Restaura o estado visual dos botões afetados
-            for (CellButton btn : affectedButtons) {
-                btn.reset();
-            }
-        });
+        Timer timer = new Timer(1000, e -> boardPanel.clearHints());
         timer.setRepeats(false);
         timer.start();
     }
@@ -237,11 +265,15 @@ public class MinesweeperUI extends JFrame {
      * Executa a ação de "Cash Out", encerrando a rodada e pagando o jogador.
      */
     private void doCashOut() {
-        double payout = game.cashOut();
-        statusPanel.updateStatus("Cashed out: " + String.format("%.2f", payout));
-        setupPanel.setStartEnabled(true);
         cashOutButton.setEnabled(false);
-        hintButton.setEnabled(false);
+        session.play(game -> game.cashOut())
+            .whenComplete((payout, ex) -> events.post(() -> {
+                if (ex != null) {
+                    showError(ex);
+                } else {
+                    endRound("Cashed out: " + String.format("%.2f", payout));
+                }
+            }));
     }
 
     /**
@@ -250,12 +282,46 @@ public class MinesweeperUI extends JFrame {
      * @param msg mensagem de status a ser exibida
      */
     private void endRound(String msg) {
+        roundActive = false;
         statusPanel.updateStatus(msg);
         setupPanel.setStartEnabled(true);
         cashOutButton.setEnabled(false);
         hintButton.setEnabled(false);
     }
 
+    /**
+     * Exibe o erro de um comando do engine (por exemplo, saldo insuficiente).
+     *
+     * @param error exceção que completou o futuro
+     */
+    private void showError(Throwable error) {
+        Throwable cause = (error instanceof CompletionException && error.getCause() != null)
+            ? error.getCause() : error;
+        JOptionPane.showMessageDialog(this, cause.getMessage());
+    }
+
+    /**
+     * Cópia do estado da rodada feita no engine, para ser lida na EDT
+     * sem tocar no Game.
+     */
+    private static final class RoundEvent {
+        final boolean lost;            // a jogada revelou uma mina
+        final int safeCellsRevealed;   // casas seguras abertas na rodada
+        final double multiplier;       // multiplicador atual
+        final double payout;           // payout disponível
+        final double cashedOut;        // valor sacado pela jogada, ou -1
+        final BoardView view;          // células após a jogada, copiadas no engine
+
+        RoundEvent(Game game, double cashedOut) {
+            this.lost = game.isLost();
+            this.safeCellsRevealed = game.getSafeCellsRevealed();
+            this.multiplier = game.getBet().getCurrentMultiplier();
+            this.payout = game.getBet().getCurrentPayout();
+            this.cashedOut = cashedOut;
+            this.view = BoardView.of(game.getBoard());
+        }
+    }
+
     /**
      * Método principal. Inicia a interface Swing do jogo.
      *
@@ -0,0 +1,139 @@
+package mc322_campo_minado;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Aritmética monetária em ponto fixo: valores são guardados como long em
+ * unidades menores (centavos, 1/100 da unidade), evitando o acúmulo de erros
+ * de double em saldos e payouts. As operações são estáticas sobre long,
+ * sem alocar objetos, e todo arredondamento usa um RoundingMode explícito.
+ */
+public final class Money {
+    /** Unidades menores por unidade (centavos). */
+    public static final long SCALE = 100;
+
+    /** Arredondamento usado na conversão de valores digitados (double) para centavos. */
+    public static final RoundingMode INPUT_ROUNDING = RoundingMode.HALF_EVEN;
+
+    private static final double LIMIT = 0x1p63; // 2^63: primeiro valor fora do alcance de long
+
+    private Money() {
+    }
+
+    /**
+     * Converte um valor em unidades (ex.: 12.34) para centavos (1234).
+     * O arredondamento vale para o decimal digitado (o menor decimal que
+     * representa o double, como em Double.toString), não para o produto
+     * binário: 2.675 vira 268, embora 2.675 * 100 seja 267.49999999999997.
+     * Longe de um empate os dois arredondam igual, então só valores perto
+     * de meio centavo passam por BigDecimal; os demais não alocam.
+     *
+     * @param amount valor em unidades
+     * @return valor em centavos, arredondado com INPUT_ROUNDING
+     * @throws ArithmeticException se o valor não for finito ou não couber em long
+     */
+    public static long toMinor(double amount) {
+        double scaled = amount * SCALE;
+        if (!(Math.abs(scaled) < LIMIT)
+                || Math.abs(scaled - Math.floor(scaled) - 0.5) > 4 * Math.ulp(scaled)) {
+            return round(scaled, INPUT_ROUNDING);
+        }
+        return BigDecimal.valueOf(amount).setScale(2, INPUT_ROUNDING).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converte centavos para unidades, para exibição ou APIs em double.
+     *
+     * @param minor valor em centavos
+     * @return valor em unidades
+     */
+    public static double toMajor(long minor) {
+        return (double) minor / SCALE;
+    }
+
+    /**
+     * Multiplica um valor em centavos por um fator (ex.: multiplicador da aposta).
+     *
+     * @param minor  valor em centavos
+     * @param factor fator multiplicativo
+     * @param mode   regra de arredondamento do resultado
+     * @return produto em centavos
+     * @throws ArithmeticException se o resultado não couber em long ou se
+     *         mode for UNNECESSARY e o produto não for inteiro
+     */
+    public static long multiply(long minor, double factor, RoundingMode mode) {
+        return round(minor * factor, mode);
+    }
+
+    /**
+     * Soma dois valores em centavos.
+     *
+     * @throws ArithmeticException em caso de overflow
+     */
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Subtrai dois valores em centavos.
+     *
+     * @throws ArithmeticException em caso de overflow
+     */
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Formata centavos como texto com duas casas decimais (ex.: "-12.05").
+     *
+     * @param minor valor em centavos
+     * @return texto formatado
+     */
+    public static String format(long minor) {
+        long abs = Math.abs(minor);
+        return String.format("%s%d.%02d", minor < 0 ? "-" : "", abs / SCALE, abs % SCALE);
+    }
+
+    /**
+     * Arredonda um valor double para long segundo o modo informado.
+     */
+    private static long round(double value, RoundingMode mode) {
+        if (!(Math.abs(value) < LIMIT)) {
+            throw new ArithmeticException("Valor monetário fora do intervalo: " + value);
+        }
+        double rounded;
+        switch (mode) {
+            case DOWN:
+                rounded = value < 0 ? Math.ceil(value) : Math.floor(value);
+                break;
+            case UP:
+                rounded = value < 0 ? Math.floor(value) : Math.ceil(value);
+                break;
+            case FLOOR:
+                rounded = Math.floor(value);
+                break;
+            case CEILING:
+                rounded = Math.ceil(value);
+                break;
+            case HALF_UP:
+                rounded = value < 0 ? -Math.floor(-value + 0.5) : Math.floor(value + 0.5);
+                break;
+            case HALF_DOWN:
+                rounded = value < 0 ? -Math.ceil(-value - 0.5) : Math.ceil(value - 0.5);
+                break;
+            case HALF_EVEN:
+                rounded = Math.rint(value);
+                break;
+            case UNNECESSARY:
+                if (value != Math.rint(value)) {
+                    throw new ArithmeticException("Arredondamento necessário para " + value);
+                }
+                rounded = value;
+                break;
+            default:
+                throw new IllegalArgumentException("Modo de arredondamento não suportado: " + mode);
+        }
+        return (long) rounded;
+    }
+}
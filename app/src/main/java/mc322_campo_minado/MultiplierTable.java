@@ -0,0 +1,101 @@
+package mc322_campo_minado;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabela pré-calculada de multiplicadores para uma configuração
+ * (células, minas). A entrada k é o multiplicador após k casas seguras:
+ *
+ *   m(0) = 0.4,   m(k) = m(k-1) * (N - k) / (S - k)   para k < S,   m(S) = m(S-1)
+ *
+ * com N = células e S = N - minas, o que equivale a 0.4 * C(N-1, k) / C(S-1, k).
+ * Os valores são calculados uma única vez, na mesma ordem de operações de
+ * Bet.increaseMultiplier; como a aritmética double do Java é estrita (IEEE 754),
+ * o resultado é idêntico bit a bit ao cálculo passo a passo, em qualquer plataforma.
+ * A tabela cresce sob demanda e é compartilhada (thread-safe) por todas as Bets.
+ */
+public final class MultiplierTable {
+    private static final Map<Long, MultiplierTable> CACHE = new ConcurrentHashMap<>();
+
+    private final int cells;          // N: total de células
+    private final int mines;          // minas do tabuleiro
+    private final int safeCells;      // S = N - minas
+    private volatile double[] values; // prefixo já calculado da tabela
+
+    private MultiplierTable(int cells, int mines) {
+        this.cells = cells;
+        this.mines = mines;
+        this.safeCells = cells - mines;
+        this.values = new double[] {Bet.INITIAL_MULTIPLIER};
+    }
+
+    /**
+     * Retorna a tabela (em cache) para a configuração informada.
+     *
+     * @param cells total de células do tabuleiro
+     * @param mines quantidade de minas
+     * @return tabela compartilhada
+     * @throws IllegalArgumentException se a configuração for inválida
+     */
+    public static MultiplierTable of(int cells, int mines) {
+        if (cells < 1 || mines < 0 || mines >= cells) {
+            throw new IllegalArgumentException("Configuração inválida para tabela de multiplicadores");
+        }
+        long key = ((long) cells << 32) | mines;
+        return CACHE.computeIfAbsent(key, k -> new MultiplierTable(cells, mines));
+    }
+
+    /**
+     * Retorna o multiplicador após a quantidade informada de casas seguras, em O(1)
+     * (amortizado: a primeira consulta a um k alto estende a tabela).
+     *
+     * @param safeReveals casas seguras reveladas (0 a S)
+     * @return multiplicador acumulado
+     */
+    public double multiplier(int safeReveals) {
+        if (safeReveals < 0 || safeReveals > safeCells) {
+            throw new IllegalArgumentException("Quantidade de casas seguras fora da tabela");
+        }
+        double[] v = values;
+        if (safeReveals >= v.length) {
+            v = grow(safeReveals);
+        }
+        return v[safeReveals];
+    }
+
+    /**
+     * Estende a tabela até incluir o índice pedido (dobrando o tamanho).
+     */
+    private synchronized double[] grow(int index) {
+        double[] old = values;
+        if (index < old.length) {
+            return old;
+        }
+        int length = (int) Math.min((long) safeCells + 1, Math.max(index + 1L, old.length * 2L));
+        double[] v = java.util.Arrays.copyOf(old, length);
+        for (int k = old.length; k < length; k++) {
+            int remaining = safeCells - k; // casas seguras restantes após k revelações
+            v[k] = remaining > 0
+                ? v[k - 1] * ((double) (remaining + mines) / remaining)
+                : v[k - 1];
+        }
+        values = v;
+        return v;
+    }
+
+    /** @return total de células da configuração */
+    public int getCells() {
+        return cells;
+    }
+
+    /** @return quantidade de minas da configuração */
+    public int getMines() {
+        return mines;
+    }
+
+    /** @return quantidade de casas seguras (N - minas) */
+    public int getSafeCells() {
+        return safeCells;
+    }
+}
@@ -0,0 +1,548 @@
+package mc322_campo_minado;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estratégia que gera apenas tabuleiros resolvíveis sem chute a partir da
+ * célula inicial, a primeira revelada na rodada. A vizinhança 3x3 da
+ * célula inicial nunca tem minas, então o primeiro clique sempre abre uma
+ * cascata. Antes do clique o tabuleiro é gerado supondo o centro (ver
+ * {@link #startIndex}); se o jogador começar em outra célula, o Game pede
+ * um novo tabuleiro para ela com a mesma semente
+ * ({@link #generate(Board, int, long, int)}), validado na hora.
+ * <p>
+ * Para uma semente, os candidatos k = 0, 1, 2, ... são sorteados por Floyd
+ * e validados por {@link NoGuessSolver}; o tabuleiro da semente é o de
+ * menor k aprovado. Os candidatos são testados em paralelo no pool: cada
+ * worker pega o próximo k livre, e quando um é aprovado os workers param
+ * de pegar candidatos maiores e abandonam os que já passaram dele. Como
+ * todo k menor que o aprovado é sempre testado até o fim, o resultado não
+ * depende do escalonamento e a mesma semente reproduz o mesmo tabuleiro.
+ * <p>
+ * A validação pode levar dezenas de milissegundos em tabuleiros densos,
+ * então cada configuração (linhas, colunas, minas) usada por
+ * {@link #nextSeed(int, int, int)} ganha uma fila de tabuleiros já
+ * validados para o centro: o início de rodada pega um pronto e só calcula
+ * na hora se a fila estiver vazia. A reposição roda numa única thread
+ * própria da estratégia, com um worker só, para não disputar o pool comum
+ * com o replay e o solver de probabilidades. Uma configuração só é dada
+ * como sem tabuleiro válido quando as minas não cabem fora da vizinhança
+ * do centro ou quando MAX_FAILED_SEEDS sementes seguidas falham; aí ela é
+ * lembrada e não é reposta de novo. As sementes da fila vêm de um
+ * gerador separado, mas a ordem em que as rodadas recebem tabuleiros
+ * prontos ou calculados na hora depende do tempo da reposição: para uma
+ * sequência reprodutível use o construtor com semente, que não tem fila.
+ */
+public class NoGuessMineGenerationStrategy implements MineGenerationStrategy {
+    /** Candidatos testados por semente antes de desistir. */
+    static final int MAX_CANDIDATES = 1 << 14;
+    /** Sementes seguidas sem tabuleiro aprovado até a reposição desistir da configuração. */
+    static final int MAX_FAILED_SEEDS = 3;
+    /** Tabuleiros prontos guardados por configuração. */
+    static final int DEFAULT_READY_CAPACITY = 4;
+    /** Configurações com fila de prontos (as usadas há mais tempo são descartadas). */
+    static final int MAX_CONFIGURATIONS = 8;
+    /** Tempo ocioso até a thread de reposição terminar. */
+    private static final long REFILL_KEEP_ALIVE_SECONDS = 30;
+
+    private final SplittableRandom random;       // sementes pedidas pelo chamador
+    private final SplittableRandom refillRandom; // sementes da fila de prontos
+    private final ForkJoinPool pool;             // validação paralela quando o chamador espera
+    private final ThreadPoolExecutor refiller;   // reposição em segundo plano (uma thread)
+    private final int readyCapacity;
+    private final Map<Configuration, ReadyQueue> ready;
+    private final Set<Configuration> impossible = ConcurrentHashMap.newKeySet(); // sem tabuleiro válido
+    private final AtomicInteger searchedOnDemand = new AtomicInteger(); // generate sem tabuleiro pronto (para medição)
+
+    /**
+     * Construtor padrão: semente escolhida automaticamente, validação no
+     * pool comum.
+     */
+    public NoGuessMineGenerationStrategy() {
+        this(new SplittableRandom(), ForkJoinPool.commonPool(), DEFAULT_READY_CAPACITY);
+    }
+
+    /**
+     * Construtor com semente fixa, para sequências reprodutíveis: sem fila
+     * de prontos, cada rodada valida seu tabuleiro na hora.
+     *
+     * @param seed semente do gerador
+     */
+    public NoGuessMineGenerationStrategy(long seed) {
+        this(new SplittableRandom(seed), ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * @param seed          semente do gerador
+     * @param pool          pool em que os candidatos são validados quando o chamador espera
+     * @param readyCapacity tabuleiros prontos guardados por configuração (0 desliga a fila;
+     *                      com fila, a sequência de rodadas deixa de ser reprodutível)
+     */
+    public NoGuessMineGenerationStrategy(long seed, ForkJoinPool pool, int readyCapacity) {
+        this(new SplittableRandom(seed), pool, readyCapacity);
+    }
+
+    private NoGuessMineGenerationStrategy(SplittableRandom random, ForkJoinPool pool, int readyCapacity) {
+        if (readyCapacity < 0)
+            throw new IllegalArgumentException("Capacidade da fila de prontos não pode ser negativa");
+        this.random = random;
+        this.refillRandom = random.split();
+        this.pool = pool;
+        this.readyCapacity = readyCapacity;
+        this.refiller = new ThreadPoolExecutor(1, 1, REFILL_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(MAX_CONFIGURATIONS), runnable -> {
+                Thread thread = new Thread(runnable, "no-guess-refill");
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.refiller.allowCoreThreadTimeOut(true);
+        this.ready = new LinkedHashMap<>(16, 0.75f, true) { // ordem de acesso = LRU
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Configuration, ReadyQueue> eldest) {
+                return size() > MAX_CONFIGURATIONS;
+            }
+        };
+    }
+
+    /**
+     * Célula inicial suposta antes do primeiro clique: o centro do tabuleiro.
+     *
+     * @param rows linhas
+     * @param cols colunas
+     * @return índice linear do centro
+     */
+    @Override
+    public int startIndex(int rows, int cols) {
+        return rows / 2 * cols + cols / 2;
+    }
+
+    @Override
+    public void generate(Board board, int totalMines) {
+        generate(board, totalMines, nextSeed());
+    }
+
+    @Override
+    public synchronized long nextSeed() {
+        return random.nextLong();
+    }
+
+    /**
+     * Entrega a semente de um tabuleiro já validado da fila da configuração,
+     * se houver, e agenda a reposição. O tabuleiro fica reservado na fila
+     * até o generate seguinte; só a última reserva de cada configuração é
+     * guardada, e uma reserva perdida só faz o generate validar na hora a
+     * mesma semente, com o mesmo resultado.
+     */
+    @Override
+    public long nextSeed(int rows, int cols, int totalMines) {
+        Configuration config = new Configuration(rows, cols, totalMines);
+        if (readyCapacity == 0 || impossible.contains(config)) {
+            return nextSeed(); // generate valida na hora (e reporta o erro, se houver)
+        }
+        ReadyQueue queue = readyQueue(config);
+        Layout layout = queue.layouts.poll();
+        refill(queue);
+        if (layout == null) {
+            return nextSeed();
+        }
+        synchronized (queue) {
+            queue.claimed = layout; // substitui uma reserva não usada
+        }
+        return layout.seed;
+    }
+
+    @Override
+    public void generate(Board board, int totalMines, long seed) {
+        Configuration config = new Configuration(board.getRows(), board.getCols(), totalMines);
+        Layout layout = claim(config, seed);
+        long[] mines;
+        if (layout != null) {
+            mines = layout.mines;
+        } else {
+            searchedOnDemand.incrementAndGet();
+            mines = searchOnDemand(config, seed, startIndex(config.rows, config.cols));
+        }
+        place(board, mines);
+    }
+
+    /**
+     * Gera o tabuleiro sem chute da semente para uma rodada que começa na
+     * célula informada, validando na hora (a fila de prontos só tem
+     * tabuleiros para o centro).
+     *
+     * @throws IndexOutOfBoundsException se a célula estiver fora do tabuleiro
+     * @throws IllegalArgumentException  se as minas não cabem fora da vizinhança da célula
+     * @throws IllegalStateException     se nenhum candidato da semente for aprovado
+     */
+    @Override
+    public void generate(Board board, int totalMines, long seed, int startIndex) {
+        board.checkIndex(startIndex);
+        Configuration config = new Configuration(board.getRows(), board.getCols(), totalMines);
+        searchedOnDemand.incrementAndGet();
+        place(board, searchOnDemand(config, seed, startIndex));
+    }
+
+    /**
+     * Retira a reserva feita por nextSeed, se ela for desta semente.
+     *
+     * @return tabuleiro reservado, ou null
+     */
+    private Layout claim(Configuration config, long seed) {
+        ReadyQueue queue;
+        synchronized (ready) {
+            queue = ready.get(config);
+        }
+        if (queue == null) {
+            return null;
+        }
+        synchronized (queue) {
+            Layout layout = queue.claimed;
+            if (layout == null || layout.seed != seed) {
+                return null;
+            }
+            queue.claimed = null;
+            return layout;
+        }
+    }
+
+    /**
+     * Busca na hora, no pool do chamador. Só a prova de que as minas não
+     * cabem fora da vizinhança do centro marca a configuração como
+     * impossível; uma semente sem candidato aprovado só falha esta rodada.
+     */
+    private long[] searchOnDemand(Configuration config, long seed, int start) {
+        try {
+            return search(config, seed, start, pool);
+        } catch (IllegalArgumentException e) {
+            if (start == startIndex(config.rows, config.cols)) {
+                impossible.add(config);
+            }
+            throw e;
+        }
+    }
+
+    /** Posiciona as minas do bitset no tabuleiro limpo. */
+    private static void place(Board board, long[] mines) {
+        int cols = board.getCols();
+        for (int w = 0; w < mines.length; w++) {
+            for (long bits = mines[w]; bits != 0; bits &= bits - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(bits);
+                board.setMine(index / cols, index % cols, true);
+            }
+        }
+    }
+
+    /**
+     * Começa a preencher a fila de prontos de uma configuração antes do
+     * primeiro uso (por exemplo, as dificuldades oferecidas na tela inicial).
+     *
+     * @param rows       linhas
+     * @param cols       colunas
+     * @param totalMines minas
+     * @return futuro concluído quando a fila estiver cheia (imediatamente se
+     *         não houver fila), ou com erro se a configuração não tiver
+     *         tabuleiro sem chute
+     */
+    public CompletableFuture<Void> prepare(int rows, int cols, int totalMines) {
+        Configuration config = new Configuration(rows, cols, totalMines);
+        if (readyCapacity == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (impossible.contains(config)) {
+            return CompletableFuture.failedFuture(
+                new IllegalStateException("Configuração sem tabuleiro sem chute: " + config));
+        }
+        return refill(readyQueue(config));
+    }
+
+    /** @return tabuleiros prontos na fila da configuração (para medição e testes) */
+    int getReadyCount(int rows, int cols, int totalMines) {
+        synchronized (ready) {
+            ReadyQueue queue = ready.get(new Configuration(rows, cols, totalMines));
+            return queue == null ? 0 : queue.layouts.size();
+        }
+    }
+
+    /** @return configurações com um tabuleiro reservado por nextSeed e ainda não gerado (para medição e testes) */
+    int getClaimedCount() {
+        synchronized (ready) {
+            int count = 0;
+            for (ReadyQueue queue : ready.values()) {
+                synchronized (queue) {
+                    if (queue.claimed != null) count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /** @return rodadas geradas com validação na hora, sem tabuleiro pronto (para medição e testes) */
+    int getSearchedOnDemand() {
+        return searchedOnDemand.get();
+    }
+
+    private ReadyQueue readyQueue(Configuration config) {
+        synchronized (ready) {
+            return ready.computeIfAbsent(config, c -> new ReadyQueue(c, readyCapacity));
+        }
+    }
+
+    /**
+     * Agenda a reposição da fila na thread de reposição, se ainda não houver
+     * uma em andamento.
+     *
+     * @return futuro da reposição (a em andamento, se houver)
+     */
+    private CompletableFuture<Void> refill(ReadyQueue queue) {
+        synchronized (queue) {
+            if (queue.running != null) {
+                return queue.running;
+            }
+            if (queue.layouts.remainingCapacity() == 0) {
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> run = new CompletableFuture<>();
+            queue.running = run;
+            try {
+                refiller.execute(() -> fill(queue, run));
+            } catch (RejectedExecutionException e) {
+                queue.running = null;
+                run.completeExceptionally(e);
+            }
+            return run;
+        }
+    }
+
+    /**
+     * Valida tabuleiros até a fila encher. A checagem de fila cheia e a
+     * liberação de running acontecem sob a mesma trava que refill usa,
+     * então um consumo no fim da reposição sempre agenda outra.
+     * Uma semente sem candidato aprovado é pulada; a configuração só é
+     * marcada como impossível pela prova de que as minas não cabem ou
+     * depois de MAX_FAILED_SEEDS sementes seguidas sem tabuleiro.
+     */
+    private void fill(ReadyQueue queue, CompletableFuture<Void> run) {
+        int start = startIndex(queue.config.rows, queue.config.cols);
+        int failed = 0;
+        try {
+            while (true) {
+                synchronized (queue) {
+                    if (queue.layouts.remainingCapacity() == 0) {
+                        queue.running = null;
+                        break;
+                    }
+                }
+                long seed;
+                synchronized (refillRandom) {
+                    seed = refillRandom.nextLong();
+                }
+                long[] mines;
+                try {
+                    mines = search(queue.config, seed, start, null);
+                } catch (IllegalStateException e) {
+                    if (++failed < MAX_FAILED_SEEDS) {
+                        continue; // tenta a próxima semente
+                    }
+                    throw e;
+                }
+                failed = 0;
+                queue.layouts.offer(new Layout(seed, mines));
+            }
+        } catch (RuntimeException e) {
+            if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+                impossible.add(queue.config); // não tenta de novo a cada nextSeed
+            }
+            synchronized (queue) {
+                queue.running = null;
+            }
+            run.completeExceptionally(e);
+            return;
+        }
+        run.complete(null);
+    }
+
+    /**
+     * Menor candidato aprovado pelo solver para a semente e a célula inicial.
+     *
+     * @param start índice linear da célula inicial
+     * @param pool  pool dos workers da busca, ou null para um worker só na thread atual
+     * @return minas do tabuleiro como bitset de índices lineares
+     * @throws IllegalArgumentException se as minas não cabem fora da vizinhança inicial
+     * @throws IllegalStateException    se nenhum dos MAX_CANDIDATES candidatos for aprovado
+     */
+    long[] search(Configuration config, long seed, int start, ForkJoinPool pool) {
+        int[] excluded = excludedCells(config, start);
+        if (config.mines > config.rows * config.cols - excluded.length)
+            throw new IllegalArgumentException("Minas demais para deixar a vizinhança inicial livre: "
+                + config.mines);
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+        SearchWorker[] workers = new SearchWorker[pool == null ? 1 : Math.max(1, pool.getParallelism())];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new SearchWorker(config, seed, start, excluded, next, best);
+        }
+        if (pool == null) {
+            workers[0].invoke(); // roda na thread atual
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(workers);
+                }
+            });
+        }
+        if (best.get() == Integer.MAX_VALUE)
+            throw new IllegalStateException("Nenhum tabuleiro sem chute em " + MAX_CANDIDATES
+                + " candidatos para " + config);
+        long[] mines = new long[(config.rows * config.cols + 63) >>> 6];
+        candidate(mines, config, excluded, candidateSeed(seed, best.get()));
+        return mines;
+    }
+
+    /** Vizinhança 3x3 da célula inicial, em ordem crescente. */
+    private static int[] excludedCells(Configuration config, int start) {
+        int r = start / config.cols, c = start % config.cols;
+        int r0 = Math.max(0, r - 1), r1 = Math.min(config.rows - 1, r + 1);
+        int c0 = Math.max(0, c - 1), c1 = Math.min(config.cols - 1, c + 1);
+        int[] cells = new int[(r1 - r0 + 1) * (c1 - c0 + 1)];
+        int n = 0;
+        for (int rr = r0; rr <= r1; rr++) {
+            for (int cc = c0; cc <= c1; cc++) {
+                cells[n++] = rr * config.cols + cc;
+            }
+        }
+        return cells;
+    }
+
+    private static long candidateSeed(long seed, int k) {
+        return seed + k * 0xBF58476D1CE4E5B9L; // múltiplo de GOLDEN_GAMMA repetiria a sequência deslocada
+    }
+
+    /**
+     * Sorteia o candidato por Floyd entre as células fora da vizinhança
+     * inicial: a posição p entre as permitidas vira índice pulando as
+     * excluídas menores ou iguais a ela.
+     */
+    private static void candidate(long[] mines, Configuration config, int[] excluded, long seed) {
+        Arrays.fill(mines, 0L);
+        SplittableRandom random = new SplittableRandom(seed);
+        int allowed = config.rows * config.cols - excluded.length;
+        for (int j = allowed - config.mines; j < allowed; j++) {
+            int t = cellAt(random.nextInt(j + 1), excluded);
+            if ((mines[t >>> 6] & 1L << t) != 0) {
+                t = cellAt(j, excluded);
+            }
+            mines[t >>> 6] |= 1L << t;
+        }
+    }
+
+    private static int cellAt(int position, int[] excluded) {
+        int cell = position;
+        for (int e : excluded) {
+            if (e <= cell) cell++;
+        }
+        return cell;
+    }
+
+    /** Worker da busca: testa candidatos até não haver nenhum menor que o melhor aprovado. */
+    private static final class SearchWorker extends RecursiveAction {
+        private final Configuration config;
+        private final long seed;
+        private final int start;
+        private final int[] excluded;
+        private final AtomicInteger next;
+        private final AtomicInteger best;
+
+        SearchWorker(Configuration config, long seed, int start, int[] excluded,
+                     AtomicInteger next, AtomicInteger best) {
+            this.config = config;
+            this.seed = seed;
+            this.start = start;
+            this.excluded = excluded;
+            this.next = next;
+            this.best = best;
+        }
+
+        @Override
+        protected void compute() {
+            NoGuessSolver solver = new NoGuessSolver(config.rows, config.cols);
+            long[] mines = new long[(config.rows * config.cols + 63) >>> 6];
+            int k;
+            while ((k = next.getAndIncrement()) < MAX_CANDIDATES && k < best.get()) {
+                candidate(mines, config, excluded, candidateSeed(seed, k));
+                int mine = k;
+                if (solver.solve(mines, config.mines, start, () -> best.get() < mine)) {
+                    best.accumulateAndGet(k, Math::min);
+                }
+            }
+        }
+    }
+
+    /** Dimensões e quantidade de minas de uma rodada. */
+    static final class Configuration {
+        final int rows;
+        final int cols;
+        final int mines;
+
+        Configuration(int rows, int cols, int mines) {
+            this.rows = rows;
+            this.cols = cols;
+            this.mines = mines;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Configuration)) return false;
+            Configuration other = (Configuration) o;
+            return rows == other.rows && cols == other.cols && mines == other.mines;
+        }
+
+        @Override
+        public int hashCode() {
+            return (rows * 31 + cols) * 31 + mines;
+        }
+
+        @Override
+        public String toString() {
+            return rows + "x" + cols + " com " + mines + " minas";
+        }
+    }
+
+    /** Tabuleiro validado para uma semente, começando no centro. */
+    private static final class Layout {
+        final long seed;
+        final long[] mines;
+
+        Layout(long seed, long[] mines) {
+            this.seed = seed;
+            this.mines = mines;
+        }
+    }
+
+    /** Fila de tabuleiros prontos de uma configuração. */
+    private static final class ReadyQueue {
+        final Configuration config;
+        final ArrayBlockingQueue<Layout> layouts;
+        CompletableFuture<Void> running; // reposição em andamento (guardado pela trava da fila)
+        Layout claimed;                  // último entregue por nextSeed e ainda não gerado (idem)
+
+        ReadyQueue(Configuration config, int capacity) {
+            this.config = config;
+            this.layouts = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package mc322_campo_minado;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Solver lógico determinístico usado para validar tabuleiros sem chute.
+ * Parte da célula inicial e aplica só deduções certas, até abrir todas as
+ * casas seguras (tabuleiro resolvível) ou ficar sem dedução (exige chute):
+ * <ul>
+ *   <li>regra simples: se a contagem já tem todas as minas marcadas, as
+ *       demais vizinhas ocultas são seguras; se faltam tantas minas quanto
+ *       vizinhas ocultas, todas são minas;</li>
+ *   <li>regra do subconjunto: se as ocultas de A estão contidas nas de B,
+ *       a diferença recebe exatamente (faltam em B - faltam em A) minas;</li>
+ *   <li>regra global: sem minas restantes, tudo é seguro; com tantas minas
+ *       quanto casas ocultas, tudo é mina.</li>
+ * </ul>
+ * As mesmas deduções um jogador faz sem calcular probabilidades, então
+ * um tabuleiro aprovado nunca obriga a escolher entre casas incertas.
+ * Uma instância reaproveita os vetores entre candidatos de mesmo tamanho
+ * e não é thread-safe: cada worker usa a sua.
+ */
+final class NoGuessSolver {
+    private static final byte HIDDEN = 0;
+    private static final byte OPEN = 1;
+    private static final byte FLAGGED = 2;
+
+    private final int rows;
+    private final int cols;
+    private final byte[] counts;     // minas vizinhas de cada célula
+    private final byte[] state;      // HIDDEN, OPEN ou FLAGGED
+    private final boolean[] queued;  // célula aberta esperando a regra simples
+    private final IntQueue queue;
+    private final IntQueue cascade;
+    private final int[] unknown = new int[8];  // vizinhas ocultas (hiddenAround)
+    private final int[] inner = new int[8];    // cópia das ocultas de A (applySubset)
+    private long[] mines;
+    private int totalMines;
+    private int opened;
+    private int flagged;
+
+    /**
+     * @param rows linhas dos tabuleiros a validar
+     * @param cols colunas dos tabuleiros a validar
+     */
+    NoGuessSolver(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.counts = new byte[rows * cols];
+        this.state = new byte[rows * cols];
+        this.queued = new boolean[rows * cols];
+        this.queue = new IntQueue(cols);
+        this.cascade = new IntQueue(cols);
+    }
+
+    /**
+     * Verifica se o tabuleiro pode ser resolvido sem chute a partir de start.
+     *
+     * @param mines      minas como bitset de índices lineares
+     * @param totalMines quantidade de minas no bitset
+     * @param start      índice da primeira célula revelada
+     * @param cancelled  consultado entre passadas; true interrompe a busca
+     * @return true se todas as casas seguras foram abertas só por dedução
+     */
+    boolean solve(long[] mines, int totalMines, int start, BooleanSupplier cancelled) {
+        reset(mines, totalMines);
+        if (isMine(start)) {
+            return false;
+        }
+        open(start);
+        int safe = rows * cols - totalMines;
+        while (true) {
+            while (!queue.isEmpty()) {
+                int cell = queue.poll();
+                queued[cell] = false;
+                applySimple(cell);
+            }
+            if (opened == safe) {
+                return true;
+            }
+            if (cancelled.getAsBoolean() || !(applySubset() || applyGlobal())) {
+                return false;
+            }
+        }
+    }
+
+    private void reset(long[] mines, int totalMines) {
+        this.mines = mines;
+        this.totalMines = totalMines;
+        Arrays.fill(counts, (byte) 0);
+        Arrays.fill(state, HIDDEN);
+        Arrays.fill(queued, false);
+        queue.clear();
+        opened = 0;
+        flagged = 0;
+        for (int w = 0; w < mines.length; w++) {
+            for (long bits = mines[w]; bits != 0; bits &= bits - 1) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(bits);
+                int r = index / cols, c = index % cols;
+                for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+                    for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                        counts[rr * cols + cc]++;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isMine(int index) {
+        return (mines[index >>> 6] & 1L << index) != 0;
+    }
+
+    /** Abre a célula e, se ela não tiver minas vizinhas, toda a cascata. */
+    private void open(int index) {
+        cascade.add(index);
+        while (!cascade.isEmpty()) {
+            int cell = cascade.poll();
+            if (state[cell] != HIDDEN) continue;
+            state[cell] = OPEN;
+            opened++;
+            enqueue(cell);
+            int r = cell / cols, c = cell % cols;
+            for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+                for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                    int neighbor = rr * cols + cc;
+                    if (counts[cell] == 0 && state[neighbor] == HIDDEN) {
+                        cascade.add(neighbor);
+                    } else if (state[neighbor] == OPEN) {
+                        enqueue(neighbor); // perdeu uma vizinha oculta
+                    }
+                }
+            }
+        }
+    }
+
+    private void flag(int index) {
+        state[index] = FLAGGED;
+        flagged++;
+        int r = index / cols, c = index % cols;
+        for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+            for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                if (state[rr * cols + cc] == OPEN) {
+                    enqueue(rr * cols + cc);
+                }
+            }
+        }
+    }
+
+    private void enqueue(int cell) {
+        if (!queued[cell]) {
+            queued[cell] = true;
+            queue.add(cell);
+        }
+    }
+
+    /**
+     * Preenche unknown com as vizinhas ocultas da célula.
+     *
+     * @return quantidade de vizinhas ocultas
+     */
+    private int hiddenAround(int cell) {
+        int r = cell / cols, c = cell % cols, n = 0;
+        for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+            for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                if (state[rr * cols + cc] == HIDDEN) {
+                    unknown[n++] = rr * cols + cc;
+                }
+            }
+        }
+        return n;
+    }
+
+    /** Minas ainda não marcadas em volta da célula aberta. */
+    private int missing(int cell) {
+        int r = cell / cols, c = cell % cols, marked = 0;
+        for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+            for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                if (state[rr * cols + cc] == FLAGGED) {
+                    marked++;
+                }
+            }
+        }
+        return counts[cell] - marked;
+    }
+
+    private void applySimple(int cell) {
+        int n = hiddenAround(cell);
+        if (n == 0) {
+            return;
+        }
+        int need = missing(cell);
+        if (need == 0) {
+            for (int i = 0; i < n; i++) {
+                open(unknown[i]);
+            }
+        } else if (need == n) {
+            for (int i = 0; i < n; i++) {
+                flag(unknown[i]);
+            }
+        }
+    }
+
+    /**
+     * Procura um par de contagens (A, B) a até duas casas de distância em
+     * que as ocultas de A estão contidas nas de B e deduz a diferença.
+     *
+     * @return true se abriu ou marcou alguma célula
+     */
+    private boolean applySubset() {
+        for (int a = 0; a < state.length; a++) {
+            if (state[a] != OPEN) continue;
+            int na = hiddenAround(a);
+            if (na == 0) continue;
+            System.arraycopy(unknown, 0, inner, 0, na);
+            int needA = missing(a);
+            int r = a / cols, c = a % cols;
+            for (int rr = Math.max(0, r - 2); rr <= Math.min(rows - 1, r + 2); rr++) {
+                for (int cc = Math.max(0, c - 2); cc <= Math.min(cols - 1, c + 2); cc++) {
+                    int b = rr * cols + cc;
+                    if (b == a || state[b] != OPEN || !containsAll(b, inner, na)) continue;
+                    int nb = hiddenAround(b);
+                    if (nb == na) continue;
+                    int extra = missing(b) - needA;
+                    if (extra != 0 && extra != nb - na) continue;
+                    for (int i = 0; i < nb; i++) {
+                        int cell = unknown[i];
+                        if (Math.abs(cell / cols - r) <= 1 && Math.abs(cell % cols - c) <= 1) continue;
+                        if (extra == 0) {
+                            open(cell);
+                        } else {
+                            flag(cell);
+                        }
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** Todas as células de cells são vizinhas de b? */
+    private boolean containsAll(int b, int[] cells, int n) {
+        int r = b / cols, c = b % cols;
+        for (int i = 0; i < n; i++) {
+            if (Math.abs(cells[i] / cols - r) > 1 || Math.abs(cells[i] % cols - c) > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Usa a quantidade total de minas restantes.
+     *
+     * @return true se abriu ou marcou alguma célula
+     */
+    private boolean applyGlobal() {
+        int left = totalMines - flagged;
+        int hidden = state.length - opened - flagged;
+        if (left != 0 && left != hidden) {
+            return false;
+        }
+        for (int index = 0; index < state.length; index++) {
+            if (state[index] != HIDDEN) continue;
+            if (left == 0) {
+                open(index);
+            } else {
+                flag(index);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,83 @@
+package mc322_campo_minado;
+
+/**
+ * Armazenamento tradicional: um objeto Cell por posição do tabuleiro.
+ * Cada Cell guarda seus próprios booleanos e lista de observadores.
+ */
+class ObjectCellStorage implements CellStorage {
+    private final Board owner;   // tabuleiro dono das células
+    private final Cell[] cells;  // células em ordem linear
+
+    /**
+     * Construtor: aloca uma Cell para cada posição do tabuleiro.
+     *
+     * @param owner tabuleiro dono das células
+     * @param size  quantidade total de células (rows * cols)
+     */
+    ObjectCellStorage(Board owner, int size) {
+        this.owner = owner;
+        this.cells = new Cell[size];
+        for (int i = 0; i < size; i++) {
+            cells[i] = new Cell(owner, i);
+        }
+    }
+
+    @Override
+    public boolean hasMine(int index) {
+        return cells[index].hasMine();
+    }
+
+    @Override
+    public void setMine(int index, boolean mine) {
+        cells[index].storeMine(mine);
+    }
+
+    @Override
+    public boolean isRevealed(int index) {
+        return cells[index].isRevealed();
+    }
+
+    @Override
+    public void setRevealed(int index, boolean revealed) {
+        cells[index].storeRevealed(revealed);
+    }
+
+    @Override
+    public long mineWord(int word) {
+        long bits = 0;
+        int end = Math.min(cells.length, (word + 1) << 6);
+        for (int i = word << 6; i < end; i++) {
+            if (cells[i].hasMine()) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    @Override
+    public long revealedWord(int word) {
+        long bits = 0;
+        int end = Math.min(cells.length, (word + 1) << 6);
+        for (int i = word << 6; i < end; i++) {
+            if (cells[i].isRevealed()) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    @Override
+    public Cell cell(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Reseta cada Cell no lugar, sem criar novas instâncias.
+     */
+    @Override
+    public void clear() {
+        for (Cell cell : cells) {
+            cell.resetState();
+        }
+    }
+}
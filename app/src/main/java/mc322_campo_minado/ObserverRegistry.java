@@ -0,0 +1,179 @@
+package mc322_campo_minado;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Registro central dos observadores das células de um tabuleiro, indexado
+ * pelo índice linear primitivo da célula (sem boxing). Substitui uma lista
+ * por Cell: células sem observadores não custam nada, e um registro vazio
+ * nem aloca a tabela.
+ * Os observadores são guardados por referência fraca: um componente que
+ * deixou de ser usado (por exemplo, o botão de uma rodada antiga) pode ser
+ * coletado mesmo sem removeObserver, e sua entrada é descartada no próximo
+ * add ou expunge. Quem registra deve manter sua própria referência forte ao
+ * observador enquanto quiser ser notificado.
+ * Não é thread-safe, assim como o Board que o possui.
+ */
+class ObserverRegistry {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Entry[] table;   // encadeamento por posição; null enquanto vazio
+    private int size;        // entradas na tabela (inclui as ainda não expurgadas)
+    private final ReferenceQueue<Observer> cleared = new ReferenceQueue<>(); // referências já coletadas
+
+    /**
+     * Referência fraca a um observador, com a chave da célula e o próximo
+     * da mesma posição da tabela.
+     */
+    private static final class Entry extends WeakReference<Observer> {
+        final int key;
+        Entry next;
+
+        Entry(int key, Observer observer, ReferenceQueue<Observer> queue) {
+            super(observer, queue);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Registra um observador para a célula. O mesmo observador pode ser
+     * registrado mais de uma vez e será notificado uma vez por registro.
+     *
+     * @param key      índice linear da célula
+     * @param observer observador (guardado por referência fraca)
+     */
+    void add(int key, Observer observer) {
+        expunge();
+        if (table == null) {
+            table = new Entry[INITIAL_CAPACITY];
+        } else if (size >= table.length - (table.length >> 2)) {
+            resize();
+        }
+        Entry entry = new Entry(key, observer, cleared);
+        int slot = slot(key, table.length);
+        Entry last = table[slot];
+        if (last == null) {
+            table[slot] = entry;
+        } else {
+            // no fim da cadeia: a ordem de registro é a ordem de notificação
+            while (last.next != null) {
+                last = last.next;
+            }
+            last.next = entry;
+        }
+        size++;
+    }
+
+    /**
+     * Remove um registro do observador na célula (o primeiro, se houver vários).
+     *
+     * @param key      índice linear da célula
+     * @param observer observador registrado
+     */
+    void remove(int key, Observer observer) {
+        if (table == null) return;
+        int slot = slot(key, table.length);
+        Entry previous = null;
+        for (Entry e = table[slot]; e != null; previous = e, e = e.next) {
+            if (e.key == key && e.get() == observer) {
+                unlink(slot, previous, e);
+                e.clear();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Notifica os observadores vivos da célula, na ordem de registro.
+     * Sem observadores, o custo é uma comparação. A tabela não é alterada
+     * aqui: entradas coletadas são puladas e expurgadas pela fila de
+     * referências na próxima chamada a add ou expunge.
+     *
+     * @param key índice linear da célula
+     */
+    void notifyCell(int key) {
+        if (size == 0) return;
+        for (Entry e = table[slot(key, table.length)]; e != null; e = e.next) {
+            if (e.key == key) {
+                Observer observer = e.get();
+                if (observer != null) {
+                    observer.update();
+                }
+            }
+        }
+    }
+
+    /**
+     * Descarta todos os registros (nova rodada). A tabela é mantida.
+     */
+    void clear() {
+        if (size == 0) return;
+        Arrays.fill(table, null);
+        size = 0;
+        while (cleared.poll() != null) {
+            // referências antigas já não estão na tabela
+        }
+    }
+
+    /** @return quantidade de registros, incluindo observadores coletados ainda não expurgados */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Remove da tabela as entradas cujos observadores já foram coletados.
+     */
+    void expunge() {
+        for (Object ref; (ref = cleared.poll()) != null; ) {
+            Entry stale = (Entry) ref;
+            if (table == null) continue;
+            int slot = slot(stale.key, table.length);
+            Entry previous = null;
+            for (Entry e = table[slot]; e != null; previous = e, e = e.next) {
+                if (e == stale) {
+                    unlink(slot, previous, e);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void unlink(int slot, Entry previous, Entry e) {
+        if (previous == null) {
+            table[slot] = e.next;
+        } else {
+            previous.next = e.next;
+        }
+        size--;
+    }
+
+    /** Dobra a tabela, preservando a ordem relativa das entradas de cada célula. */
+    private void resize() {
+        Entry[] old = table;
+        Entry[] grown = new Entry[old.length * 2];
+        Entry[] tails = new Entry[grown.length];
+        for (Entry head : old) {
+            for (Entry e = head; e != null; ) {
+                Entry next = e.next;
+                e.next = null;
+                int slot = slot(e.key, grown.length);
+                if (tails[slot] == null) {
+                    grown[slot] = e;
+                } else {
+                    tails[slot].next = e;
+                }
+                tails[slot] = e;
+                e = next;
+            }
+        }
+        table = grown;
+    }
+
+    /** Espalha índices vizinhos (células lado a lado) pela tabela. */
+    private static int slot(int key, int length) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (length - 1);
+    }
+}
@@ -0,0 +1,117 @@
+package mc322_campo_minado;
+
+import java.util.Arrays;
+
+/**
+ * Armazenamento compacto: minas e revelações ficam em dois bitsets (long[]),
+ * usando 2 bits por célula em vez de um objeto Cell com lista própria.
+ * Objetos Cell só são criados quando alguém os pede via getCell, e são
+ * visões leves e descartáveis sobre os bits: nada é guardado por célula,
+ * então o armazenamento não cresce com as visões pedidas e pode ser lido
+ * de qualquer thread que leia o Board. Os observadores ficam no registro
+ * do Board, não na visão.
+ */
+class PackedCellStorage implements CellStorage {
+    private final Board owner;                              // tabuleiro dono das células
+    private final long[] mineBits;                          // bit i = célula i tem mina
+    private final long[] revealedBits;                      // bit i = célula i revelada
+
+    /**
+     * Construtor: aloca os bitsets para o número de células informado.
+     *
+     * @param owner tabuleiro dono das células
+     * @param size  quantidade total de células (rows * cols)
+     */
+    PackedCellStorage(Board owner, int size) {
+        this.owner = owner;
+        int words = (size + 63) >>> 6;
+        this.mineBits = new long[words];
+        this.revealedBits = new long[words];
+    }
+
+    @Override
+    public boolean hasMine(int index) {
+        return (mineBits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void setMine(int index, boolean mine) {
+        if (mine) {
+            mineBits[index >>> 6] |= 1L << index;
+        } else {
+            mineBits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    @Override
+    public boolean isRevealed(int index) {
+        return (revealedBits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void setRevealed(int index, boolean revealed) {
+        if (revealed) {
+            revealedBits[index >>> 6] |= 1L << index;
+        } else {
+            revealedBits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    @Override
+    public long mineWord(int word) {
+        return mineBits[word];
+    }
+
+    @Override
+    public long revealedWord(int word) {
+        return revealedBits[word];
+    }
+
+    /**
+     * Cria uma visão nova a cada chamada (flyweight sem cache): duas visões
+     * da mesma posição leem os mesmos bits e compartilham os observadores.
+     */
+    @Override
+    public Cell cell(int index) {
+        return new PackedCell(owner, index, this);
+    }
+
+    /** @return palavras de 64 bits em cada bitset (para medição e testes) */
+    int words() {
+        return mineBits.length;
+    }
+
+    /**
+     * Zera os bitsets. Visões ainda em uso leem os bitsets e continuam
+     * válidas para a próxima rodada.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(mineBits, 0L);
+        Arrays.fill(revealedBits, 0L);
+    }
+
+    /**
+     * Visão de Cell cujo estado é lido diretamente dos bitsets.
+     */
+    private static class PackedCell extends Cell {
+        private final PackedCellStorage storage; // bitsets de origem
+        private final int index;                 // posição linear
+
+        PackedCell(Board owner, int index, PackedCellStorage storage) {
+            super(owner, index);
+            this.storage = storage;
+            this.index = index;
+        }
+
+        @Override
+        public boolean hasMine() {
+            return storage.hasMine(index);
+        }
+
+        @Override
+        public boolean isRevealed() {
+            return storage.isRevealed(index);
+        }
+    }
+}
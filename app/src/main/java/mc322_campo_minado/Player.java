@@ -1,16 +1,21 @@
 package mc322_campo_minado;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Representa o jogador, mantendo e gerenciando seu saldo para apostas.
  * Implementa o padrão Observer para notificar componentes interessados
  * sempre que o saldo do jogador for alterado.
+ * O saldo é guardado em centavos (long), para que apostas e ganhos
+ * sejam somados sem erro de arredondamento; ver Money.
+ * É seguro para uso concorrente (uma carteira em várias mesas): débitos e
+ * créditos são atômicos via compare-and-set, sem travas, e os observadores
+ * ficam num array copy-on-write, notificados sobre um snapshot.
  */
 public class Player {
-    private double balance;  // saldo disponível do jogador
-    private final List<Observer> observers = new ArrayList<>(); // lista de observadores para notificação de mudanças no saldo
+    private final AtomicLong balance = new AtomicLong(); // saldo disponível do jogador, em centavos
+    private volatile Observer[] observers = new Observer[0]; // observadores (array substituído a cada alteração)
 
     /**
      * Construtor: inicializa o jogador com um saldo inicial.
@@ -22,7 +27,7 @@ public class Player {
         if (initialBalance < 0) {
             throw new IllegalArgumentException("Saldo inicial não pode ser negativo");
         }
-        this.balance = initialBalance;
+        this.balance.set(Money.toMinor(initialBalance));
     }
 
     /**
@@ -36,12 +41,30 @@ public class Player {
         if (amount <= 0) {
             throw new IllegalArgumentException("Valor da aposta deve ser maior que zero");
         }
-        if (amount > balance) {
-            throw new IllegalArgumentException("Saldo insuficiente para realizar a aposta");
+        placeBetMinor(Money.toMinor(amount));
+    }
+
+    /**
+     * Deduz o valor da aposta, em centavos, do saldo do jogador.
+     * A verificação de saldo e o débito formam uma única operação atômica:
+     * apostas concorrentes nunca deixam o saldo negativo.
+     * Notifica os observadores sobre a alteração no saldo.
+     *
+     * @param amount valor apostado, em centavos
+     * @throws IllegalArgumentException se amount for inválido ou maior que o saldo
+     */
+    public void placeBetMinor(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Valor da aposta deve ser maior que zero");
         }
-        balance -= amount; // deduz o valor da aposta do saldo
+        long current;
+        do {
+            current = balance.get();
+            if (amount > current) {
+                throw new IllegalArgumentException("Saldo insuficiente para realizar a aposta");
+            }
+        } while (!balance.compareAndSet(current, current - amount)); // deduz o valor da aposta do saldo
         notifyObservers(); // notifica os observadores sobre a alteração no saldo
-
     }
 
     /**
@@ -55,7 +78,25 @@ public class Player {
         if (amount < 0) {
             throw new IllegalArgumentException("Valor de ganhos não pode ser negativo");
         }
-        balance += amount;
+        addWinningsMinor(Money.toMinor(amount));
+    }
+
+    /**
+     * Adiciona ganhos, em centavos, ao saldo do jogador.
+     * Notifica os observadores após a alteração.
+     *
+     * @param amount valor ganho, em centavos
+     * @throws IllegalArgumentException se o valor de ganhos for negativo
+     * @throws ArithmeticException se o saldo ultrapassar o limite de long
+     */
+    public void addWinningsMinor(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Valor de ganhos não pode ser negativo");
+        }
+        long current;
+        do {
+            current = balance.get();
+        } while (!balance.compareAndSet(current, Money.add(current, amount)));
         notifyObservers();
     }
 
@@ -65,7 +106,16 @@ public class Player {
      * @return saldo disponível
      */
     public double getBalance() {
-        return balance;
+        return Money.toMajor(balance.get());
+    }
+
+    /**
+     * Retorna o saldo atual do jogador em centavos.
+     *
+     * @return saldo disponível, em centavos
+     */
+    public long getBalanceMinor() {
+        return balance.get();
     }
 
     /**
@@ -80,7 +130,21 @@ public class Player {
         if (newBalance < 0) {
             throw new IllegalArgumentException("Saldo não pode ser negativo");
         }
-        this.balance = newBalance;
+        setBalanceMinor(Money.toMinor(newBalance));
+    }
+
+    /**
+     * Ajusta diretamente o saldo do jogador, em centavos.
+     * Notifica os observadores após a alteração.
+     *
+     * @param newBalance novo saldo, em centavos
+     * @throws IllegalArgumentException se o novo saldo for negativo
+     */
+    public void setBalanceMinor(long newBalance) {
+        if (newBalance < 0) {
+            throw new IllegalArgumentException("Saldo não pode ser negativo");
+        }
+        this.balance.set(newBalance);
         notifyObservers();
     }
 
@@ -89,8 +153,10 @@ public class Player {
      *
      * @param observer objeto que será notificado em mudanças de saldo
      */
-    public void addObserver(Observer observer) {
-        observers.add(observer);
+    public synchronized void addObserver(Observer observer) {
+        Observer[] updated = Arrays.copyOf(observers, observers.length + 1);
+        updated[updated.length - 1] = observer;
+        observers = updated;
     }
 
     /**
@@ -98,12 +164,24 @@ public class Player {
      *
      * @param observer objeto a ser removido da lista de notificações
      */
-    public void removeObserver(Observer observer) {
-        observers.remove(observer);
+    public synchronized void removeObserver(Observer observer) {
+        Observer[] current = observers;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].equals(observer)) {
+                Observer[] updated = new Observer[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                observers = updated;
+                return;
+            }
+        }
     }
 
     /**
      * Notifica todos os observadores registrados sobre uma alteração no saldo.
+     * Itera sobre um snapshot do array, então observadores podem ser
+     * adicionados ou removidos por outras threads durante a notificação,
+     * e a notificação não aloca.
      */
     public void notifyObservers() {
         for (Observer o : observers) {
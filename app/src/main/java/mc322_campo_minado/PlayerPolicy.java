@@ -0,0 +1,19 @@
+package mc322_campo_minado;
+
+import java.util.SplittableRandom;
+
+/**
+ * Interface Strategy para políticas de jogo automáticas usadas na simulação.
+ * Cada implementação decide quais células revelar e quando parar.
+ */
+public interface PlayerPolicy {
+    /**
+     * Joga uma rodada já iniciada. Ao retornar, se a rodada não tiver
+     * terminado em mina, o simulador faz o saque (cash out).
+     * Implementações devem ser sem estado, pois são compartilhadas entre threads.
+     *
+     * @param game   jogo com a rodada em andamento
+     * @param random gerador exclusivo da thread que executa a rodada
+     */
+    void play(Game game, SplittableRandom random);
+}
@@ -1,26 +1,73 @@
 package mc322_campo_minado;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Estratégia de geração aleatória de minas.
  * Sorteia posições únicas até atingir totalMines.
+ * O número de tentativas cresce muito quando a densidade de minas se aproxima
+ * de 100%; nesses casos prefira FloydMineGenerationStrategy.
+ * Usa SplittableRandom: cada instância tem seu próprio gerador (sem disputa
+ * entre threads) e split() cria instâncias independentes para uso paralelo.
  */
 public class RandomMineGenerationStrategy implements MineGenerationStrategy {
-    private final Random random = new Random();
+    private final SplittableRandom random;
+
+    /**
+     * Construtor padrão: semente escolhida automaticamente.
+     */
+    public RandomMineGenerationStrategy() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Construtor com semente fixa, para sequências reprodutíveis.
+     *
+     * @param seed semente do gerador
+     */
+    public RandomMineGenerationStrategy(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomMineGenerationStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Cria uma nova estratégia com gerador independente deste,
+     * para ser usada por outra thread.
+     *
+     * @return estratégia com gerador dividido
+     */
+    public RandomMineGenerationStrategy split() {
+        return new RandomMineGenerationStrategy(random.split());
+    }
 
     @Override
-    public void generate(Cell[][] cells, int totalMines) {
-        int rows = cells.length;
-        int cols = cells[0].length;
+    public void generate(Board board, int totalMines) {
+        generate(board, totalMines, nextSeed());
+    }
+
+    @Override
+    public long nextSeed() {
+        return random.nextLong();
+    }
+
+    @Override
+    public void generate(Board board, int totalMines, long seed) {
+        place(board, totalMines, new SplittableRandom(seed));
+    }
+
+    private static void place(Board board, int totalMines, SplittableRandom random) {
+        int rows = board.getRows();
+        int cols = board.getCols();
         int placed = 0;
 
         while (placed < totalMines) {
             int r = random.nextInt(rows);
             int c = random.nextInt(cols);
-            Cell cell = cells[r][c];
-            if (!cell.hasMine()) {
-                cell.setMine(true);
+            if (!board.hasMine(r, c)) {
+                board.setMine(r, c, true);
                 placed++;
             }
         }
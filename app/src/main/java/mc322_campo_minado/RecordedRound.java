@@ -0,0 +1,238 @@
+package mc322_campo_minado;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Uma rodada lida do journal: configuração, semente, aposta, jogadas
+ * em ordem e resultado gravado. Como a geração de minas é determinística
+ * pela semente, a rodada pode ser reconstruída e rejogada com replay.
+ */
+public final class RecordedRound {
+    /** Valor em getMoves() que representa a compra da dica. */
+    public static final int HINT_MOVE = -1;
+
+    /** Como a rodada terminou no journal. */
+    public enum Status {
+        /** Jogador sacou; getRecordedPayoutMinor() tem o valor pago. */
+        CASHED_OUT,
+        /** Jogador revelou uma mina; payout 0. */
+        LOST,
+        /** Journal terminou antes do fim da rodada. */
+        OPEN
+    }
+
+    private final long id;
+    private final long seed;
+    private final long betMinor;
+    private final int rows;
+    private final int cols;
+    private final int mines;
+    private final int flags;
+    private final int[] moves;
+    private final long hintFeesMinor;
+    private final Status status;
+    private final long recordedPayoutMinor;
+
+    private RecordedRound(Builder b, Status status, long recordedPayoutMinor) {
+        this.id = b.id;
+        this.seed = b.seed;
+        this.betMinor = b.betMinor;
+        this.rows = b.rows;
+        this.cols = b.cols;
+        this.mines = b.mines;
+        this.flags = b.flags;
+        this.moves = Arrays.copyOf(b.moves, b.size);
+        this.hintFeesMinor = b.hintFeesMinor;
+        this.status = status;
+        this.recordedPayoutMinor = recordedPayoutMinor;
+    }
+
+    /**
+     * Cria um tabuleiro e um jogo adequados para rejogar esta rodada.
+     * O jogo pode ser reaproveitado para outras rodadas com a mesma
+     * configuração (ver hasSameConfig).
+     *
+     * @return jogo com tabuleiro compacto e carteira ampla
+     * @throws IllegalStateException se o gerador de minas não for reproduzível
+     */
+    public Game newReplayGame() {
+        MineGenerationStrategy strategy;
+        switch (getGenerator()) {
+            case RoundJournal.GENERATOR_FLOYD:
+                strategy = new FloydMineGenerationStrategy();
+                break;
+            case RoundJournal.GENERATOR_RANDOM:
+                strategy = new RandomMineGenerationStrategy();
+                break;
+            case RoundJournal.GENERATOR_NO_GUESS:
+                // sem fila de prontos: o replay gera pela semente gravada e pela primeira jogada
+                strategy = new NoGuessMineGenerationStrategy(0L, ForkJoinPool.commonPool(), 0);
+                break;
+            default:
+                throw new IllegalStateException("Rodada " + id + " usa gerador de minas não reproduzível");
+        }
+        return new Game(new Board(rows, cols, mines, strategy, Board.StorageType.PACKED), new Player(1e15));
+    }
+
+    /**
+     * Indica se outra rodada pode ser rejogada no mesmo jogo que esta.
+     *
+     * @param other outra rodada
+     * @return true se tamanho, minas e gerador coincidem
+     */
+    public boolean hasSameConfig(RecordedRound other) {
+        return rows == other.rows && cols == other.cols && mines == other.mines
+            && getGenerator() == other.getGenerator();
+    }
+
+    /**
+     * Reconstrói e rejoga a rodada num jogo novo.
+     *
+     * @return payout recalculado, em centavos (0 se perdeu)
+     */
+    public long replay() {
+        return replay(newReplayGame());
+    }
+
+    /**
+     * Rejoga a rodada num jogo existente, criado por newReplayGame
+     * de uma rodada com a mesma configuração.
+     * Rodadas abertas retornam o payout que estaria disponível no ponto
+     * em que o journal terminou.
+     *
+     * @param game jogo de replay
+     * @return payout recalculado, em centavos (0 se perdeu)
+     */
+    public long replay(Game game) {
+        game.setCascadeEnabled(isCascade());
+        game.setFirstClickSafe(isFirstClickSafe());
+        game.startGame(Money.toMajor(betMinor), seed);
+        for (int move : moves) {
+            if (move == HINT_MOVE) {
+                game.useHint();
+            } else {
+                game.revealCell(move / cols, move % cols);
+            }
+        }
+        if (game.isLost()) {
+            return 0;
+        }
+        return status == Status.CASHED_OUT ? game.cashOutMinor() : game.getBet().getCurrentPayoutMinor();
+    }
+
+    /** @return identificador da rodada no journal */
+    public long getId() {
+        return id;
+    }
+
+    /** @return semente de geração do tabuleiro */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** @return aposta em centavos */
+    public long getBetMinor() {
+        return betMinor;
+    }
+
+    /** @return número de linhas */
+    public int getRows() {
+        return rows;
+    }
+
+    /** @return número de colunas */
+    public int getCols() {
+        return cols;
+    }
+
+    /** @return quantidade de minas */
+    public int getMines() {
+        return mines;
+    }
+
+    /** @return true se a rodada foi jogada com cascata */
+    public boolean isCascade() {
+        return (flags & RoundJournal.FLAG_CASCADE) != 0;
+    }
+
+    /** @return true se a rodada foi jogada com primeira jogada segura */
+    public boolean isFirstClickSafe() {
+        return (flags & RoundJournal.FLAG_SAFE_FIRST) != 0;
+    }
+
+    /** @return código do gerador de minas gravado no journal */
+    int getGenerator() {
+        return (flags >> 1) & 3;
+    }
+
+    /**
+     * Jogadas em ordem: índice linear da célula revelada ou HINT_MOVE.
+     *
+     * @return cópia das jogadas
+     */
+    public int[] getMoves() {
+        return moves.clone();
+    }
+
+    /** @return total de taxas de dica gravadas, em centavos */
+    public long getHintFeesMinor() {
+        return hintFeesMinor;
+    }
+
+    /** @return como a rodada terminou no journal */
+    public Status getStatus() {
+        return status;
+    }
+
+    /** @return payout gravado no saque, em centavos (0 se não houve saque) */
+    public long getRecordedPayoutMinor() {
+        return recordedPayoutMinor;
+    }
+
+    /**
+     * Acumula os eventos de uma rodada durante a leitura do journal.
+     */
+    static final class Builder {
+        private final long id;
+        private final long seed;
+        private final long betMinor;
+        private final int rows;
+        private final int cols;
+        private final int mines;
+        private final int flags;
+        private int[] moves = new int[8];
+        private int size;
+        private long hintFeesMinor;
+
+        Builder(long id, long seed, long betMinor, int rows, int cols, int mines, int flags) {
+            this.id = id;
+            this.seed = seed;
+            this.betMinor = betMinor;
+            this.rows = rows;
+            this.cols = cols;
+            this.mines = mines;
+            this.flags = flags;
+        }
+
+        void addReveal(int index) {
+            add(index);
+        }
+
+        void addHint(long feeMinor) {
+            add(HINT_MOVE);
+            hintFeesMinor += feeMinor;
+        }
+
+        private void add(int move) {
+            if (size == moves.length) {
+                moves = Arrays.copyOf(moves, size * 2);
+            }
+            moves[size++] = move;
+        }
+
+        RecordedRound build(Status status, long recordedPayoutMinor) {
+            return new RecordedRound(this, status, recordedPayoutMinor);
+        }
+    }
+}
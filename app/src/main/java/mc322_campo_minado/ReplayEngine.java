@@ -0,0 +1,220 @@
+package mc322_campo_minado;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Rejoga em paralelo as rodadas gravadas num RoundJournal e compara o
+ * payout recalculado por Game, Board e Bet com o valor gravado, para
+ * verificar mudanças de regra ou de código.
+ *
+ * O journal é lido em fluxo pela thread chamadora e dividido em blocos;
+ * cada bloco vira uma tarefa fork/join que se divide até THRESHOLD rodadas.
+ * Cada thread do pool reaproveita um Game por configuração de tabuleiro,
+ * então o replay não aloca tabuleiros por rodada. Esse cache pertence a
+ * uma única chamada de run e é descartado quando ela termina: nada fica
+ * preso às threads do pool entre execuções. Há no máximo MAX_IN_FLIGHT
+ * blocos pendentes, limitando a memória usada.
+ */
+public class ReplayEngine {
+    static final int CHUNK = 8192;
+    static final int THRESHOLD = 512;
+    static final int MAX_IN_FLIGHT = 16;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Construtor padrão: usa o pool comum do fork/join.
+     */
+    public ReplayEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool pool onde as tarefas de replay são executadas
+     */
+    public ReplayEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Rejoga todas as rodadas do journal.
+     *
+     * @param journal arquivo gravado por RoundJournal
+     * @return contagens, vazão e amostras de divergências
+     * @throws java.io.UncheckedIOException se o journal não puder ser lido
+     */
+    public ReplayReport run(Path journal) {
+        long start = System.nanoTime();
+        Batcher batcher = new Batcher();
+        try (JournalReader reader = new JournalReader(journal)) {
+            reader.forEachRound(batcher);
+        }
+        batcher.submit();
+        while (!batcher.pending.isEmpty()) {
+            batcher.total.merge(batcher.pending.poll().join());
+        }
+        batcher.total.setElapsedNanos(System.nanoTime() - start);
+        return batcher.total;
+    }
+
+    /**
+     * Rejoga uma lista de rodadas já em memória.
+     *
+     * @param rounds rodadas a verificar
+     * @return contagens e amostras de divergências
+     */
+    public ReplayReport run(List<RecordedRound> rounds) {
+        long start = System.nanoTime();
+        RecordedRound[] array = rounds.toArray(new RecordedRound[0]);
+        ReplayReport report = pool.invoke(new ReplayTask(array, 0, array.length, new ConcurrentHashMap<>()));
+        report.setElapsedNanos(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Agrupa as rodadas lidas em blocos e envia cada bloco ao pool,
+     * juntando o bloco mais antigo quando há blocos demais pendentes.
+     */
+    private final class Batcher implements Consumer<RecordedRound> {
+        private final ArrayDeque<ForkJoinTask<ReplayReport>> pending = new ArrayDeque<>();
+        private final ReplayReport total = new ReplayReport();
+        private final Map<Thread, List<Game>> games = new ConcurrentHashMap<>(); // cache desta execução
+        private RecordedRound[] chunk = new RecordedRound[CHUNK];
+        private int size;
+
+        @Override
+        public void accept(RecordedRound round) {
+            chunk[size++] = round;
+            if (size == CHUNK) {
+                submit();
+            }
+        }
+
+        void submit() {
+            if (size == 0) {
+                return;
+            }
+            if (pending.size() >= MAX_IN_FLIGHT) {
+                total.merge(pending.poll().join());
+            }
+            pending.add(pool.submit(new ReplayTask(chunk, 0, size, games)));
+            chunk = new RecordedRound[CHUNK];
+            size = 0;
+        }
+    }
+
+    /**
+     * Rejoga o intervalo [from, to) do bloco, dividindo-o ao meio
+     * enquanto for maior que THRESHOLD.
+     */
+    private static final class ReplayTask extends RecursiveTask<ReplayReport> {
+        private final RecordedRound[] rounds;
+        private final int from;
+        private final int to;
+        private final Map<Thread, List<Game>> games; // jogos de replay por thread, só desta execução
+
+        ReplayTask(RecordedRound[] rounds, int from, int to, Map<Thread, List<Game>> games) {
+            this.rounds = rounds;
+            this.from = from;
+            this.to = to;
+            this.games = games;
+        }
+
+        @Override
+        protected ReplayReport compute() {
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                ReplayTask left = new ReplayTask(rounds, from, mid, games);
+                left.fork();
+                ReplayReport report = new ReplayTask(rounds, mid, to, games).compute();
+                report.merge(left.join());
+                return report;
+            }
+            ReplayReport report = new ReplayReport();
+            List<Game> own = games.computeIfAbsent(Thread.currentThread(), t -> new ArrayList<>());
+            for (int i = from; i < to; i++) {
+                replayOne(rounds[i], report, own);
+            }
+            return report;
+        }
+    }
+
+    /**
+     * Rejoga uma rodada num Game da lista da thread atual e contabiliza o
+     * resultado. Exceções no replay contam como divergência.
+     */
+    static void replayOne(RecordedRound round, ReplayReport report, List<Game> games) {
+        if (round.getStatus() == RecordedRound.Status.OPEN) {
+            report.countOpen();
+            return;
+        }
+        if (round.getGenerator() == RoundJournal.GENERATOR_UNKNOWN) {
+            report.countUnreproducible();
+            return;
+        }
+        long replayed;
+        try {
+            replayed = round.replay(gameFor(round, games));
+        } catch (RuntimeException e) {
+            report.countMismatch(round.getId(), round.getRecordedPayoutMinor(), -1, e.toString());
+            return;
+        }
+        if (replayed == round.getRecordedPayoutMinor()) {
+            report.countMatch();
+        } else {
+            report.countMismatch(round.getId(), round.getRecordedPayoutMinor(), replayed, null);
+        }
+    }
+
+    /**
+     * Retorna o Game de replay da lista para a configuração da rodada,
+     * criando-o na primeira vez. A lista é pequena (uma entrada por
+     * configuração distinta) e a última usada fica na frente. Cada lista é
+     * usada por uma única thread, então não precisa de trava.
+     */
+    private static Game gameFor(RecordedRound round, List<Game> games) {
+        for (int i = 0; i < games.size(); i++) {
+            Game game = games.get(i);
+            Board board = game.getBoard();
+            if (board.getRows() == round.getRows() && board.getCols() == round.getCols()
+                    && board.getTotalMines() == round.getMines()
+                    && RoundJournal.generatorCode(board.getStrategy()) == round.getGenerator()) {
+                if (i > 0) {
+                    games.set(i, games.get(0));
+                    games.set(0, game);
+                }
+                return game;
+            }
+        }
+        Game game = round.newReplayGame();
+        games.add(0, game);
+        return game;
+    }
+
+    /**
+     * Ponto de entrada de linha de comando.
+     * Uso: ReplayEngine journal
+     *
+     * @param args caminho do journal
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayEngine <journal>");
+            System.exit(2);
+        }
+        ReplayReport report = new ReplayEngine().run(Path.of(args[0]));
+        System.out.print(report);
+        if (report.getMismatches() > 0) {
+            System.exit(1);
+        }
+    }
+}
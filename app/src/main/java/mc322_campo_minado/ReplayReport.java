@@ -0,0 +1,170 @@
+package mc322_campo_minado;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de um ReplayEngine: quantas rodadas foram rejogadas, quantas
+ * reproduziram o payout gravado e amostras das divergências.
+ */
+public class ReplayReport {
+    /** Quantidade máxima de divergências guardadas como amostra. */
+    static final int MAX_SAMPLES = 100;
+
+    private long rounds;          // rodadas lidas do journal
+    private long replayed;        // rodadas rejogadas
+    private long matched;         // rodadas com payout igual ao gravado
+    private long mismatches;      // rodadas com payout diferente (ou erro no replay)
+    private long open;            // rodadas sem fim no journal (não comparadas)
+    private long unreproducible;  // rodadas com gerador de minas não reproduzível
+    private final List<Mismatch> samples = new ArrayList<>(); // primeiras divergências
+    private long elapsedNanos;    // tempo de parede
+
+    /**
+     * Divergência entre o payout gravado e o recalculado.
+     */
+    public static final class Mismatch {
+        private final long roundId;
+        private final long recordedMinor;
+        private final long replayedMinor;
+        private final String error;
+
+        Mismatch(long roundId, long recordedMinor, long replayedMinor, String error) {
+            this.roundId = roundId;
+            this.recordedMinor = recordedMinor;
+            this.replayedMinor = replayedMinor;
+            this.error = error;
+        }
+
+        /** @return identificador da rodada no journal */
+        public long getRoundId() {
+            return roundId;
+        }
+
+        /** @return payout gravado, em centavos */
+        public long getRecordedMinor() {
+            return recordedMinor;
+        }
+
+        /** @return payout recalculado, em centavos (-1 se o replay falhou) */
+        public long getReplayedMinor() {
+            return replayedMinor;
+        }
+
+        /** @return mensagem do erro do replay, ou null */
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return error != null
+                ? String.format("round %d: replay failed (%s)", roundId, error)
+                : String.format("round %d: recorded %s, replayed %s", roundId,
+                    Money.format(recordedMinor), Money.format(replayedMinor));
+        }
+    }
+
+    void countOpen() {
+        rounds++;
+        open++;
+    }
+
+    void countUnreproducible() {
+        rounds++;
+        unreproducible++;
+    }
+
+    void countMatch() {
+        rounds++;
+        replayed++;
+        matched++;
+    }
+
+    void countMismatch(long roundId, long recordedMinor, long replayedMinor, String error) {
+        rounds++;
+        replayed++;
+        mismatches++;
+        if (samples.size() < MAX_SAMPLES) {
+            samples.add(new Mismatch(roundId, recordedMinor, replayedMinor, error));
+        }
+    }
+
+    /**
+     * Soma um relatório parcial a este.
+     *
+     * @param other relatório de outra tarefa
+     */
+    void merge(ReplayReport other) {
+        rounds += other.rounds;
+        replayed += other.replayed;
+        matched += other.matched;
+        mismatches += other.mismatches;
+        open += other.open;
+        unreproducible += other.unreproducible;
+        for (Mismatch m : other.samples) {
+            if (samples.size() >= MAX_SAMPLES) {
+                break;
+            }
+            samples.add(m);
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** @return rodadas lidas do journal */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /** @return rodadas rejogadas e comparadas */
+    public long getReplayed() {
+        return replayed;
+    }
+
+    /** @return rodadas cujo payout recalculado é igual ao gravado */
+    public long getMatched() {
+        return matched;
+    }
+
+    /** @return rodadas divergentes ou que falharam no replay */
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    /** @return rodadas abertas no journal, não comparadas */
+    public long getOpen() {
+        return open;
+    }
+
+    /** @return rodadas com gerador de minas não reproduzível */
+    public long getUnreproducible() {
+        return unreproducible;
+    }
+
+    /** @return até MAX_SAMPLES divergências, na ordem em que foram encontradas por tarefa */
+    public List<Mismatch> getSamples() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    /** @return rodadas lidas por minuto */
+    public double getRoundsPerMinute() {
+        return elapsedNanos == 0 ? 0.0 : rounds * 60e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Rounds: %d  Replayed: %d  Matched: %d  Mismatches: %d%n",
+            rounds, replayed, matched, mismatches));
+        sb.append(String.format("Skipped: %d open, %d unreproducible%n", open, unreproducible));
+        sb.append(String.format("Throughput: %.0f rounds/min%n", getRoundsPerMinute()));
+        for (Mismatch m : samples) {
+            sb.append("  ").append(m).append('\n');
+        }
+        return sb.toString();
+    }
+}
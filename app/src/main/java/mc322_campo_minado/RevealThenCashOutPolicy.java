@@ -0,0 +1,73 @@
+package mc322_campo_minado;
+
+import java.util.SplittableRandom;
+
+/**
+ * Política "revela k células aleatórias e saca".
+ * Opcionalmente compra a dica após a primeira casa segura e passa a
+ * preferir os vizinhos (cima, baixo, esquerda, direita) que a dica mostrou seguros,
+ * reproduzindo a dica da interface gráfica.
+ */
+public class RevealThenCashOutPolicy implements PlayerPolicy {
+    private static final int[][] HINT_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    private final int cellsToReveal; // quantidade de casas seguras antes de sacar
+    private final boolean useHint;   // compra a dica após a primeira casa segura
+
+    /**
+     * @param cellsToReveal quantidade de casas seguras a revelar antes de sacar
+     * @param useHint       true para comprar a dica após a primeira casa segura
+     */
+    public RevealThenCashOutPolicy(int cellsToReveal, boolean useHint) {
+        if (cellsToReveal < 1) {
+            throw new IllegalArgumentException("Política deve revelar ao menos uma célula");
+        }
+        this.cellsToReveal = cellsToReveal;
+        this.useHint = useHint;
+    }
+
+    @Override
+    public void play(Game game, SplittableRandom random) {
+        Board board = game.getBoard();
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int hintRow = -1, hintCol = -1; // célula onde a dica foi comprada
+
+        while (!game.checkGameOver() && game.getSafeCellsRevealed() < cellsToReveal) {
+            int r = -1, c = -1;
+
+            // depois da dica, prefere um vizinho que ela mostrou seguro
+            if (hintRow >= 0) {
+                for (int[] dir : HINT_DIRECTIONS) {
+                    int rr = hintRow + dir[0], cc = hintCol + dir[1];
+                    if (rr >= 0 && rr < rows && cc >= 0 && cc < cols
+                            && !board.isRevealed(rr, cc) && !board.hasMine(rr, cc)) {
+                        r = rr;
+                        c = cc;
+                        break;
+                    }
+                }
+            }
+            // caso contrário, sorteia uma célula ainda oculta
+            while (r < 0 || board.isRevealed(r, c)) {
+                r = random.nextInt(rows);
+                c = random.nextInt(cols);
+            }
+
+            if (!game.revealCell(r, c)) {
+                return; // mina: rodada perdida
+            }
+
+            if (useHint && !game.isHintUsed() && !game.checkGameOver()) {
+                game.useHint();
+                hintRow = r;
+                hintCol = c;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "reveal " + cellsToReveal + (useHint ? " + hint" : "") + " then cash out";
+    }
+}
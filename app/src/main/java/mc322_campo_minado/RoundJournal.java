@@ -0,0 +1,484 @@
+package mc322_campo_minado;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Diário (journal) binário só de acréscimo dos eventos das rodadas:
+ * início (com semente e configuração), revelações, taxa de dica e saque.
+ * Com a semente e a lista de jogadas, qualquer rodada pode ser reconstruída
+ * (ver JournalReader e RecordedRound).
+ *
+ * As threads de jogo apenas copiam os campos do evento para um anel
+ * pré-alocado, sem alocar e sem travas; uma thread de escrita dedicada
+ * drena o anel para um arquivo mapeado em memória e faz o commit em grupo,
+ * chamando force() no máximo uma vez por intervalo para todo o lote, mesmo
+ * sob publicação contínua. Ociosa, a thread de escrita fica estacionada
+ * (park) até o próximo prazo de commit ou, sem nada pendente, até um
+ * produtor, flush() ou close() acordá-la.
+ * Vários jogos (mesas) podem compartilhar o mesmo journal.
+ *
+ * Formato: cabeçalho de 8 bytes (MAGIC, VERSION) seguido de registros
+ * little-endian, cada um iniciado pelo byte de tipo:
+ * START    round(8) seed(8) bet(8) rows(4) cols(4) mines(4) flags(1);
+ * REVEAL   round(8) index(4) safe(1);
+ * HINT     round(8) fee(8);
+ * CASH_OUT round(8) payout(8).
+ * Valores monetários em centavos. Um byte de tipo 0 marca o fim dos dados.
+ */
+public class RoundJournal implements AutoCloseable {
+    static final int MAGIC = 0x434D4A31;  // "CMJ1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+
+    static final byte START = 1;
+    static final byte REVEAL = 2;
+    static final byte HINT = 3;
+    static final byte CASH_OUT = 4;
+
+    static final int START_SIZE = 38;
+    static final int REVEAL_SIZE = 14;
+    static final int MONEY_EVENT_SIZE = 17;
+    static final int MAX_RECORD_SIZE = START_SIZE;
+
+    /** Bit das flags do START: modo cascata ativo. */
+    static final int FLAG_CASCADE = 1;
+    /** Bit das flags do START: primeira jogada segura (bit 3, após o gerador). */
+    static final int FLAG_SAFE_FIRST = 8;
+    /** Códigos do gerador de minas, guardados nos bits 1-2 das flags do START. */
+    static final int GENERATOR_UNKNOWN = 0;
+    static final int GENERATOR_FLOYD = 1;
+    static final int GENERATOR_RANDOM = 2;
+    static final int GENERATOR_NO_GUESS = 3;
+
+    private static final int DEFAULT_CAPACITY = 1 << 16;
+    private static final long DEFAULT_SYNC_MILLIS = 10;
+    private static final long REGION_SIZE = 64L << 20; // janela mapeada de 64 MB
+    /** Escritas seguidas entre consultas ao relógio para o prazo de commit. */
+    private static final int SYNC_CHECK_MASK = 63;
+
+    // anel de eventos: um slot por evento, campos em arrays paralelos
+    private final int mask;
+    private final byte[] types;
+    private final long[] rounds;
+    private final long[] longA;
+    private final long[] longB;
+    private final int[] intA;
+    private final int[] intB;
+    private final int[] intC;
+    private final byte[] flags;
+    private final AtomicLongArray published;             // published[i] = sequência gravada no slot i
+    private final AtomicLong claimed = new AtomicLong();  // próxima sequência a reservar
+    private volatile long consumed;                       // sequências já copiadas para o arquivo
+    private volatile long durable;                        // sequências já persistidas com force()
+    private volatile boolean flushRequested;              // há chamador aguardando em flush()
+    private volatile boolean writerParked;                // thread de escrita estacionada sem prazo
+    private final ConcurrentLinkedQueue<Thread> flushWaiters = new ConcurrentLinkedQueue<>(); // acordados após cada force()
+    private volatile boolean running = true;
+    private volatile Throwable failure;                   // erro que encerrou a thread de escrita
+
+    private final AtomicLong nextRoundId;                 // identificadores de rodada
+    private final long syncIntervalNanos;                 // intervalo máximo entre commits
+    private final long regionSize;                        // tamanho de cada janela mapeada
+    private final FileChannel channel;
+    private final Thread writer;
+    private MappedByteBuffer region;                      // janela mapeada atual (só a thread de escrita)
+    private long regionBase;                              // posição da janela no arquivo
+
+    /**
+     * Abre (ou cria) o journal com anel de 65536 eventos e commit a cada 10 ms.
+     *
+     * @param path arquivo do journal; novos eventos são acrescentados ao fim
+     * @throws UncheckedIOException se o arquivo não puder ser aberto ou for inválido
+     */
+    public RoundJournal(Path path) {
+        this(path, DEFAULT_CAPACITY, DEFAULT_SYNC_MILLIS);
+    }
+
+    /**
+     * @param path               arquivo do journal; novos eventos são acrescentados ao fim
+     * @param capacity           eventos no anel (potência de dois); produtores esperam se encher
+     * @param syncIntervalMillis intervalo máximo entre chamadas a force()
+     * @throws UncheckedIOException se o arquivo não puder ser aberto ou for inválido
+     */
+    public RoundJournal(Path path, int capacity, long syncIntervalMillis) {
+        this(open(path, capacity), capacity, syncIntervalMillis, REGION_SIZE);
+    }
+
+    /**
+     * @param channel            canal do arquivo, aberto para leitura e escrita
+     * @param capacity           eventos no anel (potência de dois)
+     * @param syncIntervalMillis intervalo máximo entre chamadas a force()
+     * @param regionSize         tamanho de cada janela mapeada
+     * @throws UncheckedIOException se o arquivo for inválido
+     */
+    RoundJournal(FileChannel channel, int capacity, long syncIntervalMillis, long regionSize) {
+        checkCapacity(capacity);
+        this.mask = capacity - 1;
+        this.types = new byte[capacity];
+        this.rounds = new long[capacity];
+        this.longA = new long[capacity];
+        this.longB = new long[capacity];
+        this.intA = new int[capacity];
+        this.intB = new int[capacity];
+        this.intC = new int[capacity];
+        this.flags = new byte[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.syncIntervalNanos = syncIntervalMillis * 1_000_000L;
+        this.regionSize = regionSize;
+        this.channel = channel;
+
+        try {
+            if (channel.size() == 0) {
+                this.nextRoundId = new AtomicLong(1);
+                map(0);
+                region.putInt(MAGIC).putInt(VERSION);
+            } else {
+                // continua após o último registro válido (ignora cauda zerada de uma queda)
+                JournalReader.Scan scan = JournalReader.scan(channel);
+                this.nextRoundId = new AtomicLong(scan.maxRoundId + 1);
+                map(scan.end);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.writer = new Thread(this::writeLoop, "round-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /** Abre o arquivo só depois de validar a capacidade, para não vazar o canal. */
+    private static FileChannel open(Path path, int capacity) {
+        checkCapacity(capacity);
+        try {
+            return FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacidade deve ser potência de dois");
+        }
+    }
+
+    /**
+     * Registra o início de uma rodada já gerada no tabuleiro.
+     *
+     * @param board    tabuleiro da rodada (fornece semente, tamanho e gerador)
+     * @param betMinor aposta em centavos
+     * @param cascade  se o modo cascata está ativo
+     * @return identificador da rodada, usado nos demais eventos
+     */
+    public long recordStart(Board board, long betMinor, boolean cascade) {
+        return recordStart(board, betMinor, cascade, false);
+    }
+
+    /**
+     * Registra o início de uma rodada já gerada no tabuleiro.
+     *
+     * @param board          tabuleiro da rodada (fornece semente, tamanho e gerador)
+     * @param betMinor       aposta em centavos
+     * @param cascade        se o modo cascata está ativo
+     * @param firstClickSafe se a primeira jogada segura está ativa
+     * @return identificador da rodada, usado nos demais eventos
+     */
+    public long recordStart(Board board, long betMinor, boolean cascade, boolean firstClickSafe) {
+        long round = nextRoundId.getAndIncrement();
+        long seq = claim();
+        int slot = (int) seq & mask;
+        types[slot] = START;
+        rounds[slot] = round;
+        longA[slot] = board.getSeed();
+        longB[slot] = betMinor;
+        intA[slot] = board.getRows();
+        intB[slot] = board.getCols();
+        intC[slot] = board.getTotalMines();
+        flags[slot] = (byte) ((cascade ? FLAG_CASCADE : 0) | generatorCode(board.getStrategy()) << 1
+            | (firstClickSafe ? FLAG_SAFE_FIRST : 0));
+        publish(slot, seq);
+        return round;
+    }
+
+    /**
+     * Registra a revelação de uma célula.
+     *
+     * @param round identificador da rodada
+     * @param index posição linear da célula
+     * @param safe  false se a célula tinha mina
+     */
+    public void recordReveal(long round, int index, boolean safe) {
+        long seq = claim();
+        int slot = (int) seq & mask;
+        types[slot] = REVEAL;
+        rounds[slot] = round;
+        intA[slot] = index;
+        flags[slot] = (byte) (safe ? 1 : 0);
+        publish(slot, seq);
+    }
+
+    /**
+     * Registra a compra de uma dica.
+     *
+     * @param round    identificador da rodada
+     * @param feeMinor taxa cobrada, em centavos
+     */
+    public void recordHint(long round, long feeMinor) {
+        recordMoney(HINT, round, feeMinor);
+    }
+
+    /**
+     * Registra o saque que encerra a rodada.
+     *
+     * @param round       identificador da rodada
+     * @param payoutMinor valor sacado, em centavos
+     */
+    public void recordCashOut(long round, long payoutMinor) {
+        recordMoney(CASH_OUT, round, payoutMinor);
+    }
+
+    private void recordMoney(byte type, long round, long amount) {
+        long seq = claim();
+        int slot = (int) seq & mask;
+        types[slot] = type;
+        rounds[slot] = round;
+        longA[slot] = amount;
+        publish(slot, seq);
+    }
+
+    /**
+     * Aguarda até que todos os eventos registrados antes desta chamada
+     * estejam no arquivo e persistidos com force().
+     *
+     * @throws UncheckedIOException se a escrita tiver falhado
+     * @throws IllegalStateException se a thread de escrita tiver terminado por outro erro
+     *         ou o journal já estiver fechado com eventos pendentes
+     */
+    public void flush() {
+        long target = claimed.get();
+        if (durable < target) {
+            Thread current = Thread.currentThread();
+            flushWaiters.add(current);
+            try {
+                while (durable < target) {
+                    checkWriter();
+                    flushRequested = true;
+                    LockSupport.unpark(writer);
+                    LockSupport.park(this); // a thread de escrita acorda os que esperam após cada force()
+                }
+            } finally {
+                flushWaiters.remove(current);
+            }
+        }
+        checkFailure();
+    }
+
+    /**
+     * Persiste os eventos pendentes, encerra a thread de escrita e
+     * trunca o arquivo no fim dos dados.
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            running = false;
+            LockSupport.unpark(writer);
+            try {
+                writer.join();
+                if (failure == null) {
+                    long end = regionBase + region.position();
+                    region.force();
+                    channel.truncate(end);
+                }
+                region = null;
+                channel.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        checkFailure();
+    }
+
+    /**
+     * Converte a estratégia do tabuleiro no código gravado no START.
+     * Só estratégias determinísticas por semente podem ser reproduzidas.
+     */
+    static int generatorCode(MineGenerationStrategy strategy) {
+        if (strategy instanceof FloydMineGenerationStrategy) {
+            return GENERATOR_FLOYD;
+        }
+        if (strategy instanceof RandomMineGenerationStrategy) {
+            return GENERATOR_RANDOM;
+        }
+        if (strategy instanceof NoGuessMineGenerationStrategy) {
+            return GENERATOR_NO_GUESS;
+        }
+        return GENERATOR_UNKNOWN;
+    }
+
+    /**
+     * Reserva a próxima sequência do anel, esperando enquanto ele estiver cheio.
+     */
+    private long claim() {
+        checkFailure();
+        long seq = claimed.getAndIncrement();
+        while (seq - consumed > mask) {
+            checkWriter();
+            LockSupport.unpark(writer);
+            Thread.onSpinWait();
+        }
+        return seq;
+    }
+
+    /**
+     * Torna o evento do slot visível à thread de escrita e a acorda se ela
+     * estiver estacionada sem prazo. A escrita volátil em published vem antes
+     * da leitura de writerParked, e a thread de escrita faz o inverso antes de
+     * estacionar, então uma das duas sempre vê a outra.
+     */
+    private void publish(int slot, long seq) {
+        published.set(slot, seq);
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Falha se a thread de escrita terminou: ninguém mais vai drenar o anel
+     * nem chamar force(), então esperar por ela travaria o chamador.
+     */
+    private void checkWriter() {
+        checkFailure();
+        if (!writer.isAlive()) {
+            checkFailure(); // o erro é gravado antes de a thread terminar
+            throw new IllegalStateException("Journal fechado: a thread de escrita terminou");
+        }
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure;
+        if (cause instanceof IOException) {
+            throw new UncheckedIOException("Falha ao gravar o journal", (IOException) cause);
+        }
+        if (cause instanceof UncheckedIOException) {
+            throw new UncheckedIOException("Falha ao gravar o journal", ((UncheckedIOException) cause).getCause());
+        }
+        if (cause != null) {
+            throw new IllegalStateException("Falha na thread de escrita do journal", cause);
+        }
+    }
+
+    /**
+     * Laço da thread de escrita: copia os eventos publicados para o arquivo
+     * e chama force() uma vez para todo o lote escrito desde o último commit:
+     * quando o intervalo vence ou quando alguém aguarda em flush(). Os dois
+     * casos são verificados também entre escritas (o prazo, a cada
+     * SYNC_CHECK_MASK + 1 eventos), para que uma publicação contínua não
+     * adie o commit nem deixe flush() esperando indefinidamente.
+     */
+    private void writeLoop() {
+        long next = 0;
+        long lastSync = System.nanoTime();
+        try {
+            while (true) {
+                int slot = (int) next & mask;
+                boolean wrote = published.get(slot) == next;
+                if (wrote) {
+                    write(slot);
+                    next++;
+                    consumed = next;
+                }
+                if (durable < next && (flushRequested || (!wrote || (next & SYNC_CHECK_MASK) == 0)
+                        && System.nanoTime() - lastSync >= syncIntervalNanos)) {
+                    flushRequested = false;
+                    region.force();
+                    durable = next;
+                    lastSync = System.nanoTime();
+                    wakeFlushWaiters();
+                    continue;
+                }
+                if (wrote) {
+                    continue;
+                }
+                if (!running && next == claimed.get()) {
+                    return;
+                }
+                if (durable < next) {
+                    // há lote por persistir: dorme só até o prazo do commit
+                    LockSupport.parkNanos(this, syncIntervalNanos - (System.nanoTime() - lastSync));
+                } else {
+                    // nada pendente: dorme até publish, flush ou close
+                    writerParked = true;
+                    if (published.get(slot) != next && running && !flushRequested) {
+                        LockSupport.park(this);
+                    }
+                    writerParked = false;
+                }
+            }
+        } catch (Throwable e) {
+            // qualquer erro (force() relata falhas como UncheckedIOException) fica
+            // registrado para os produtores e flush(), em vez de sumir com a thread
+            failure = e;
+        } finally {
+            wakeFlushWaiters(); // quem espera em flush() vê a thread terminada e não fica parado
+        }
+    }
+
+    private void wakeFlushWaiters() {
+        for (Thread waiter : flushWaiters) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    /**
+     * Serializa o evento do slot na janela mapeada, trocando de janela se necessário.
+     */
+    private void write(int slot) throws IOException {
+        if (region.remaining() < MAX_RECORD_SIZE) {
+            region.force();
+            map(regionBase + region.position());
+        }
+        byte type = types[slot];
+        region.put(type).putLong(rounds[slot]);
+        switch (type) {
+            case START:
+                region.putLong(longA[slot]).putLong(longB[slot])
+                    .putInt(intA[slot]).putInt(intB[slot]).putInt(intC[slot]).put(flags[slot]);
+                break;
+            case REVEAL:
+                region.putInt(intA[slot]).put(flags[slot]);
+                break;
+            default:
+                region.putLong(longA[slot]);
+                break;
+        }
+    }
+
+    /**
+     * Mapeia uma nova janela de escrita começando na posição informada.
+     * Registros nunca atravessam janelas, pois cada janela começa
+     * exatamente onde a anterior parou de escrever.
+     */
+    private void map(long position) throws IOException {
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, regionSize);
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        regionBase = position;
+    }
+}
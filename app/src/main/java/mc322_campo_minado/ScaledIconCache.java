@@ -0,0 +1,81 @@
+package mc322_campo_minado;
+
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache das versões redimensionadas de uma imagem, indexado pelo tamanho
+ * em pixels. Todas as células com o mesmo tamanho compartilham o mesmo
+ * ícone, então o redimensionamento suave acontece uma vez por tamanho e
+ * não a cada célula revelada ou a cada evento de resize.
+ * Guarda no máximo {@code capacity} tamanhos, descartando o usado há mais tempo.
+ */
+class ScaledIconCache {
+    private final Image source;
+    private final Map<Integer, ImageIcon> bySize;
+    private long scaleCount; // quantos redimensionamentos foram feitos (para medição)
+
+    /**
+     * @param source   imagem original
+     * @param capacity quantidade máxima de tamanhos guardados (maior que zero)
+     */
+    ScaledIconCache(Image source, int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacidade do cache deve ser positiva");
+        this.source = source;
+        this.bySize = new LinkedHashMap<>(16, 0.75f, true) { // ordem de acesso = LRU
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ImageIcon> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Retorna a imagem redimensionada para um quadrado de {@code size} pixels,
+     * criando-a apenas na primeira vez em que o tamanho é pedido.
+     *
+     * @param size largura/altura desejada
+     * @return ícone compartilhado, ou null se size não for positivo
+     */
+    synchronized ImageIcon get(int size) {
+        if (size <= 0) return null;
+        ImageIcon icon = bySize.get(size);
+        if (icon == null) {
+            icon = new ImageIcon(scale(size));
+            bySize.put(size, icon);
+            scaleCount++;
+        }
+        return icon;
+    }
+
+    /** @return quantidade de redimensionamentos feitos desde a criação */
+    synchronized long getScaleCount() {
+        return scaleCount;
+    }
+
+    /** @return quantidade de tamanhos atualmente guardados */
+    synchronized int size() {
+        return bySize.size();
+    }
+
+    /**
+     * Redimensiona de forma síncrona para uma imagem em memória, com
+     * interpolação bicúbica (getScaledInstance produz a imagem sob demanda
+     * e repete o filtro a cada chamada).
+     */
+    private BufferedImage scale(int size) {
+        BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = scaled.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2.drawImage(source, 0, 0, size, size, null);
+        g2.dispose();
+        return scaled;
+    }
+}
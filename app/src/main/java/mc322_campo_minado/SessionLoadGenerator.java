@@ -0,0 +1,154 @@
+package mc322_campo_minado;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Gerador de carga para o SessionManager: abre várias sessões e, para cada
+ * uma, um cliente em virtual thread joga rodadas (início, algumas revelações
+ * aleatórias e saque), medindo a latência de cada jogada.
+ */
+public class SessionLoadGenerator {
+    private final int sessions;        // sessões simultâneas
+    private final int rounds;          // rodadas por sessão
+    private final int size;            // lado do tabuleiro
+    private final int mines;           // minas por rodada
+    private final int cellsToReveal;   // revelações por rodada antes do saque
+
+    /**
+     * @param sessions         sessões simultâneas
+     * @param roundsPerSession rodadas jogadas em cada sessão
+     * @param size             lado do tabuleiro (size x size)
+     * @param mines            quantidade de minas
+     * @param cellsToReveal    revelações por rodada antes do saque
+     */
+    public SessionLoadGenerator(int sessions, int roundsPerSession, int size, int mines, int cellsToReveal) {
+        if (sessions < 1 || roundsPerSession < 1 || cellsToReveal < 0) {
+            throw new IllegalArgumentException("Parâmetros de carga inválidos");
+        }
+        this.sessions = sessions;
+        this.rounds = roundsPerSession;
+        this.size = size;
+        this.mines = mines;
+        this.cellsToReveal = cellsToReveal;
+    }
+
+    /**
+     * Executa a carga. Todas as sessões apostam 1.0 por rodada da mesma carteira.
+     *
+     * @param manager servidor de sessões
+     * @param player  carteira compartilhada
+     * @param seed    semente das jogadas dos clientes
+     * @return latências e vazão observadas
+     * @throws IllegalStateException se alguma jogada falhar
+     */
+    public LoadReport run(SessionManager manager, Player player, long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Future<long[]>> clients = new ArrayList<>(sessions);
+        long start = System.nanoTime();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < sessions; s++) {
+                long id = manager.openSession(size, size, mines, player);
+                SplittableRandom random = root.split();
+                clients.add(pool.submit(() -> playSession(manager, id, random)));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        List<long[]> results = new ArrayList<>(sessions);
+        int total = 0;
+        try {
+            for (Future<long[]> client : clients) {
+                long[] latencies = client.get();
+                results.add(latencies);
+                total += (int) latencies[latencies.length - 1];
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Carga interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Jogada falhou durante a carga", e.getCause());
+        }
+
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] latencies : results) {
+            // último elemento guarda quantas jogadas foram medidas
+            int moves = (int) latencies[latencies.length - 1];
+            System.arraycopy(latencies, 0, all, offset, moves);
+            offset += moves;
+        }
+        return new LoadReport(sessions, (long) sessions * rounds, all, elapsed);
+    }
+
+    /**
+     * Cliente de uma sessão: joga todas as rodadas, uma jogada por vez.
+     * Cada latência vai do envio do comando até a conclusão do futuro,
+     * cobrindo enfileiramento na mailbox e execução.
+     * As células de cada rodada são sorteadas sem repetição (Fisher-Yates
+     * parcial), então toda revelação medida cai numa célula ainda oculta
+     * (as sessões não usam cascata) e nenhuma volta cedo sem fazer nada.
+     *
+     * @return latências em ns; a última posição guarda a quantidade medida
+     */
+    private long[] playSession(SessionManager manager, long id, SplittableRandom random) {
+        long[] latencies = new long[rounds * (cellsToReveal + 2) + 1];
+        int n = 0;
+        int cells = size * size;
+        int[] order = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            order[i] = i;
+        }
+        int picks = Math.min(cellsToReveal, cells);
+        for (int r = 0; r < rounds; r++) {
+            long t0 = System.nanoTime();
+            manager.start(id, 1.0).join();
+            latencies[n++] = System.nanoTime() - t0;
+            boolean alive = true;
+            for (int k = 0; k < picks && alive; k++) {
+                int j = k + random.nextInt(cells - k);
+                int cell = order[j];
+                order[j] = order[k];
+                order[k] = cell;
+                t0 = System.nanoTime();
+                alive = manager.reveal(id, cell / size, cell % size).join();
+                latencies[n++] = System.nanoTime() - t0;
+            }
+            if (alive) {
+                t0 = System.nanoTime();
+                manager.cashOut(id).join();
+                latencies[n++] = System.nanoTime() - t0;
+            }
+        }
+        latencies[latencies.length - 1] = n;
+        return latencies;
+    }
+
+    /**
+     * Ponto de entrada de linha de comando.
+     * Uso: SessionLoadGenerator [sessions] [rounds] [size] [mines] [cellsToReveal] [seed]
+     *
+     * @param args argumentos opcionais, na ordem acima
+     */
+    public static void main(String[] args) {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int size = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int mines = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+        int reveal = args.length > 4 ? Integer.parseInt(args[4]) : 3;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : System.nanoTime();
+
+        Player player = new Player(1e12);
+        SessionLoadGenerator generator = new SessionLoadGenerator(sessions, rounds, size, mines, reveal);
+        System.out.printf("Load: %d sessions x %d rounds on %dx%d with %d mines, %d reveals per round%n",
+            sessions, rounds, size, size, mines, reveal);
+        try (SessionManager manager = new SessionManager()) {
+            System.out.print(generator.run(manager, player, seed));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package mc322_campo_minado;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor em processo de várias mesas simultâneas. Cada sessão tem seu
+ * próprio Game e uma mailbox de comandos, drenada em virtual threads:
+ * jogadas da mesma sessão são serializadas, sessões diferentes rodam em
+ * paralelo e não existe trava global. Todas as operações retornam
+ * CompletableFuture; erros de regra (por exemplo, sacar sem rodada)
+ * completam o futuro excepcionalmente.
+ */
+public class SessionManager implements AutoCloseable {
+    private final ExecutorService executor;                     // executor das mailboxes
+    private final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>(); // sessões abertas
+    private final AtomicLong nextId = new AtomicLong(1);        // próximo identificador
+
+    /**
+     * Construtor padrão: uma virtual thread por drenagem de mailbox.
+     */
+    public SessionManager() {
+        this(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * @param executor executor que drena as mailboxes (passa a pertencer ao manager)
+     */
+    public SessionManager(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Abre uma nova mesa com tabuleiro compacto.
+     *
+     * @param rows   número de linhas
+     * @param cols   número de colunas
+     * @param mines  quantidade de minas
+     * @param player carteira do jogador (pode ser compartilhada entre mesas)
+     * @return identificador da sessão
+     */
+    public long openSession(int rows, int cols, int mines, Player player) {
+        Board board = new Board(rows, cols, mines, new FloydMineGenerationStrategy(),
+            Board.StorageType.PACKED);
+        long id = nextId.getAndIncrement();
+        sessions.put(id, new GameSession(id, new Game(board, player), executor));
+        return id;
+    }
+
+    /**
+     * Fecha a sessão. Comandos já enfileirados ainda são executados.
+     *
+     * @param id identificador da sessão
+     */
+    public void closeSession(long id) {
+        sessions.remove(id);
+    }
+
+    /** @return quantidade de sessões abertas */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Inicia uma rodada na sessão, debitando a aposta da carteira.
+     *
+     * @param id  identificador da sessão
+     * @param bet valor apostado
+     * @return futuro concluído quando a rodada estiver pronta
+     * @throws IllegalArgumentException se a sessão não existir
+     */
+    public CompletableFuture<Void> start(long id, double bet) {
+        return session(id).start(bet);
+    }
+
+    /**
+     * Revela uma célula na rodada em andamento.
+     *
+     * @return futuro com true se a célula era segura, false se era mina
+     * @throws IllegalArgumentException se a sessão não existir
+     */
+    public CompletableFuture<Boolean> reveal(long id, int row, int col) {
+        return session(id).reveal(row, col);
+    }
+
+    /**
+     * Saca o payout da rodada em andamento, creditando a carteira.
+     *
+     * @return futuro com o valor sacado
+     * @throws IllegalArgumentException se a sessão não existir
+     */
+    public CompletableFuture<Double> cashOut(long id) {
+        return session(id).cashOut();
+    }
+
+    /**
+     * Compra a dica da rodada em andamento para a célula escolhida.
+     *
+     * @return futuro com a taxa e as células ocultas vizinhas, com seu estado de mina
+     * @throws IllegalArgumentException se a sessão não existir
+     */
+    public CompletableFuture<Hint> hint(long id, int row, int col) {
+        return session(id).hint(row, col);
+    }
+
+    /**
+     * Retorna o jogo de uma sessão, para inspeção em testes.
+     */
+    Game game(long id) {
+        return session(id).getGame();
+    }
+
+    private GameSession session(long id) {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            throw new IllegalArgumentException("Sessão inexistente: " + id);
+        }
+        return session;
+    }
+
+    /**
+     * Encerra o executor, aguardando os comandos pendentes por até 10 segundos.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sessions.clear();
+    }
+}
@@ -10,12 +10,14 @@ import java.awt.event.ActionListener;
  *   - Tamanho do tabuleiro (N x N)
  *   - Quantidade de minas
  *   - Valor da aposta
+ *   - Modo sem chute (tabuleiros resolvíveis só com lógica)
  * Contém o botão "Start" para iniciar o jogo com as configurações escolhidas.
  */
 public class SetupPanel extends JPanel {
     private JTextField sizeField;    // campo para inserir o tamanho N (tabuleiro N x N)
     private JTextField mineField;    // campo para inserir o número de minas
     private JTextField betField;     // campo para inserir o valor da aposta
+    private JCheckBox noGuessBox;    // opção de tabuleiros sem chute
     private JButton startButton;     // botão para iniciar o jogo
 
     /**
@@ -38,6 +40,9 @@ public class SetupPanel extends JPanel {
         betField = new JTextField("100", 5);
         add(betField);
 
+        noGuessBox = new JCheckBox("No guess");
+        add(noGuessBox);
+
         startButton = new JButton("Start");
         startButton.addActionListener(startListener);
         add(startButton);
@@ -73,6 +78,15 @@ public class SetupPanel extends JPanel {
         return Double.parseDouble(betField.getText());
     }
 
+    /**
+     * Indica se o usuário pediu tabuleiros resolvíveis sem chute.
+     *
+     * @return true se a opção "No guess" estiver marcada
+     */
+    public boolean isNoGuess() {
+        return noGuessBox.isSelected();
+    }
+
     /**
      * Habilita ou desabilita o botão Start.
      *
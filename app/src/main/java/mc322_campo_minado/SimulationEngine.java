@@ -0,0 +1,133 @@
+package mc322_campo_minado;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Motor de simulação sem interface gráfica: joga muitas rodadas com uma
+ * PlayerPolicy usando Game, Board e Bet diretamente, dividindo o trabalho
+ * entre threads. Cada thread tem seu próprio Game (tabuleiro compacto,
+ * reaproveitado entre rodadas) e seu próprio gerador, sem disputa.
+ */
+public class SimulationEngine {
+    private final int rows;             // linhas do tabuleiro
+    private final int cols;             // colunas do tabuleiro
+    private final int mines;            // minas por rodada
+    private final double betAmount;     // aposta de cada rodada
+    private final PlayerPolicy policy;  // política de jogo
+
+    /**
+     * @param rows      número de linhas
+     * @param cols      número de colunas
+     * @param mines     quantidade de minas
+     * @param betAmount valor apostado em cada rodada
+     * @param policy    política usada em todas as rodadas
+     */
+    public SimulationEngine(int rows, int cols, int mines, double betAmount, PlayerPolicy policy) {
+        if (betAmount <= 0) {
+            throw new IllegalArgumentException("Valor de aposta deve ser maior que zero");
+        }
+        if (rows < 1 || cols < 1 || mines < 0 || mines >= rows * cols) {
+            throw new IllegalArgumentException("Configuração de tabuleiro inválida");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.mines = mines;
+        this.betAmount = betAmount;
+        this.policy = policy;
+    }
+
+    /**
+     * Executa a simulação usando todos os núcleos disponíveis.
+     *
+     * @param rounds quantidade total de rodadas
+     * @param seed   semente inicial (a mesma semente e número de threads reproduzem o resultado)
+     * @return relatório agregado
+     */
+    public SimulationReport run(long rounds, long seed) {
+        return run(rounds, Runtime.getRuntime().availableProcessors(), seed);
+    }
+
+    /**
+     * Executa a simulação com o número de threads informado.
+     *
+     * @param rounds  quantidade total de rodadas
+     * @param threads número de threads de trabalho
+     * @param seed    semente inicial
+     * @return relatório agregado
+     */
+    public SimulationReport run(long rounds, int threads, long seed) {
+        if (rounds < 0 || threads < 1) {
+            throw new IllegalArgumentException("Rodadas e threads inválidas");
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<SimulationReport>> parts = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long share = rounds / threads + (t < rounds % threads ? 1 : 0);
+                SplittableRandom random = root.split();
+                parts.add(pool.submit(() -> runWorker(share, random)));
+            }
+            SimulationReport report = new SimulationReport();
+            for (Future<SimulationReport> part : parts) {
+                report.merge(part.get());
+            }
+            report.setElapsedNanos(System.nanoTime() - start);
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na simulação", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Joga uma fatia das rodadas numa única thread.
+     */
+    private SimulationReport runWorker(long rounds, SplittableRandom random) {
+        Board board = new Board(rows, cols, mines,
+            new FloydMineGenerationStrategy(random.nextLong()), Board.StorageType.PACKED);
+        Game game = new Game(board, new Player(1e15));
+        SimulationReport report = new SimulationReport();
+        long betMinor = Money.toMinor(betAmount);
+
+        for (long i = 0; i < rounds; i++) {
+            game.startGame(betAmount);
+            policy.play(game, random);
+            long payout = game.isLost() ? 0L : game.cashOutMinor();
+            report.record(betMinor, payout);
+        }
+        return report;
+    }
+
+    /**
+     * Ponto de entrada de linha de comando.
+     * Uso: SimulationEngine [rounds] [size] [mines] [cellsToReveal] [hint(true|false)] [seed]
+     *
+     * @param args argumentos opcionais, na ordem acima
+     */
+    public static void main(String[] args) {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int mines = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        int reveal = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+        boolean hint = args.length > 4 && Boolean.parseBoolean(args[4]);
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : System.nanoTime();
+
+        PlayerPolicy policy = new RevealThenCashOutPolicy(reveal, hint);
+        SimulationEngine engine = new SimulationEngine(size, size, mines, 1.0, policy);
+        System.out.printf("Simulating %d rounds on %dx%d with %d mines, policy: %s, %d threads%n",
+            rounds, size, size, mines, policy, Runtime.getRuntime().availableProcessors());
+        System.out.print(engine.run(rounds, seed));
+    }
+}
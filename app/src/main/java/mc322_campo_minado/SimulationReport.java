@@ -0,0 +1,127 @@
+package mc322_campo_minado;
+
+/**
+ * Resultado agregado de uma simulação: volume apostado e pago,
+ * distribuição de payouts (em múltiplos da aposta) e vazão.
+ * Os totais são somados em centavos, de forma exata e independente
+ * da ordem em que os relatórios parciais são combinados.
+ */
+public class SimulationReport {
+    /** Limites superiores (inclusive) das faixas de payout / aposta; a última faixa é aberta. */
+    static final double[] BUCKET_LIMITS = {0.0, 0.5, 1.0, 2.0, 5.0, 10.0};
+
+    private long rounds;         // rodadas jogadas
+    private long losses;         // rodadas que terminaram em mina
+    private long wagered;        // total apostado, em centavos
+    private long returned;       // total pago de volta ao jogador, em centavos
+    private final long[] histogram = new long[BUCKET_LIMITS.length + 1]; // rodadas por faixa de payout
+    private long elapsedNanos;   // tempo de parede da simulação
+
+    /**
+     * Registra o resultado de uma rodada.
+     *
+     * @param bet    valor apostado, em centavos
+     * @param payout valor recebido, em centavos (0 se perdeu)
+     */
+    void record(long bet, long payout) {
+        rounds++;
+        wagered += bet;
+        returned += payout;
+        if (payout == 0) {
+            losses++;
+        }
+        double multiple = (double) payout / bet;
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS.length && multiple > BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        histogram[bucket]++;
+    }
+
+    /**
+     * Soma os resultados de outro relatório (de outra thread) a este.
+     *
+     * @param other relatório parcial
+     */
+    void merge(SimulationReport other) {
+        rounds += other.rounds;
+        losses += other.losses;
+        wagered += other.wagered;
+        returned += other.returned;
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** @return rodadas jogadas */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /** @return rodadas perdidas em mina */
+    public long getLosses() {
+        return losses;
+    }
+
+    /** @return total apostado */
+    public double getWagered() {
+        return Money.toMajor(wagered);
+    }
+
+    /** @return total pago ao jogador */
+    public double getReturned() {
+        return Money.toMajor(returned);
+    }
+
+    /** @return retorno ao jogador (RTP): total pago / total apostado */
+    public double getRtp() {
+        return wagered == 0 ? 0.0 : (double) returned / wagered;
+    }
+
+    /** @return vantagem da casa: 1 - RTP */
+    public double getHouseEdge() {
+        return 1.0 - getRtp();
+    }
+
+    /** @return rodadas simuladas por segundo */
+    public double getRoundsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : rounds * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Retorna a quantidade de rodadas em cada faixa de payout / aposta:
+     * [0], (0, 0.5], (0.5, 1], (1, 2], (2, 5], (5, 10], (10, ∞).
+     *
+     * @return cópia do histograma
+     */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Rounds: %d (%d lost)%n", rounds, losses));
+        sb.append(String.format("Wagered: %s  Returned: %s%n", Money.format(wagered), Money.format(returned)));
+        sb.append(String.format("RTP: %.4f%%  House edge: %.4f%%%n", getRtp() * 100, getHouseEdge() * 100));
+        sb.append(String.format("Throughput: %.0f rounds/s%n", getRoundsPerSecond()));
+        sb.append("Payout distribution (x bet):\n");
+        for (int i = 0; i < histogram.length; i++) {
+            String label;
+            if (i == 0) {
+                label = "0";
+            } else if (i == histogram.length - 1) {
+                label = String.format("> %.1f", BUCKET_LIMITS[i - 1]);
+            } else {
+                label = String.format("(%.1f, %.1f]", BUCKET_LIMITS[i - 1], BUCKET_LIMITS[i]);
+            }
+            sb.append(String.format("  %-12s %10d  %6.2f%%%n", label, histogram[i],
+                rounds == 0 ? 0.0 : histogram[i] * 100.0 / rounds));
+        }
+        return sb.toString();
+    }
+}
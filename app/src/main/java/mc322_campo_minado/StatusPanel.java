@@ -2,18 +2,22 @@ package mc322_campo_minado;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Painel para exibir informações de status do jogo Campo Minado.
  * Mostra o saldo do jogador, multiplicador atual, payout e mensagens de status.
  * Atualiza automaticamente quando notificado pelo Player (Observer).
+ * O saldo pode mudar na thread do engine; nesse caso a atualização do
+ * rótulo é agendada na EDT, juntando notificações seguidas num só repasse.
  */
 public class StatusPanel extends JPanel implements Observer {
     private JLabel balanceLabel;      // exibe o saldo atual do jogador
     private JLabel multiplierLabel;   // exibe o multiplicador em tempo real
     private JLabel statusLabel;       // exibe a mensagem de status do jogo
     private JLabel payoutLabel;       // exibe o valor de payout da aposta
-    private Player player;            // referência ao jogador para atualização do saldo
+    private volatile Player player;   // referência ao jogador para atualização do saldo
+    private final AtomicBoolean balancePending = new AtomicBoolean(); // atualização já agendada na EDT
 
     /**
      * Construtor: inicializa o layout e os rótulos padrão.
@@ -80,6 +84,15 @@ public class StatusPanel extends JPanel implements Observer {
      */
     @Override
     public void update() {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            if (balancePending.compareAndSet(false, true)) {
+                SwingUtilities.invokeLater(() -> {
+                    balancePending.set(false);
+                    update();
+                });
+            }
+            return;
+        }
         double balance = player.getBalance();
         balanceLabel.setText("Balance: " + String.format("%.2f", balance));
     }
@@ -0,0 +1,78 @@
+package mc322_campo_minado;
+
+import javax.swing.SwingUtilities;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Leva eventos de estado do jogo (produzidos na thread do engine) para a
+ * EDT. Os eventos entram numa fila sem trava e são aplicados em lote: há
+ * no máximo um invokeLater pendente, que executa todos os eventos
+ * acumulados até então, na ordem em que foram publicados.
+ * É a mesma mailbox do GameSession, só que drenada na EDT.
+ */
+class UiEventBus {
+    /** Eventos aplicados por lote antes de devolver a EDT (mantém a entrada responsiva). */
+    private static final int MAX_BATCH = 1024;
+
+    private final Queue<Runnable> events = new ConcurrentLinkedQueue<>(); // eventos pendentes
+    private final AtomicBoolean scheduled = new AtomicBoolean(); // há drenagem agendada
+    private final Executor target;     // onde a drenagem roda (EDT por padrão)
+    private long batches;              // drenagens executadas (para medição; só lido na EDT)
+
+    /**
+     * Construtor padrão: aplica os eventos na EDT.
+     */
+    UiEventBus() {
+        this(SwingUtilities::invokeLater);
+    }
+
+    /**
+     * @param target executor que roda as drenagens (em testes, um executor manual)
+     */
+    UiEventBus(Executor target) {
+        this.target = target;
+    }
+
+    /**
+     * Publica um evento para ser aplicado no próximo lote. Pode ser chamado de qualquer thread.
+     *
+     * @param event ação sobre os componentes Swing
+     */
+    void post(Runnable event) {
+        events.add(event);
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            target.execute(this::drain);
+        }
+    }
+
+    /**
+     * Aplica até MAX_BATCH eventos pendentes. A flag é liberada antes de
+     * drenar: um evento publicado durante a drenagem ou é executado por
+     * ela, ou agenda a próxima (no pior caso, um lote vazio).
+     */
+    private void drain() {
+        scheduled.set(false);
+        batches++;
+        Runnable event;
+        int applied = 0;
+        while (applied < MAX_BATCH && (event = events.poll()) != null) {
+            event.run();
+            applied++;
+        }
+        if (!events.isEmpty()) {
+            schedule();
+        }
+    }
+
+    /** @return quantos lotes já foram aplicados */
+    long getBatchCount() {
+        return batches;
+    }
+}
@@ -63,7 +63,63 @@ class BetTest {
             "applyHintFee deve descontar a hint fee do payout");
     }
 
+    @Test
+    void increaseMultiplier_Bulk_ShouldMatchStepByStep() {
+        // Arrange: 5 casas seguras reveladas em sequência, 20 seguras e 5 minas no início
+        Bet stepwise = new Bet(100.0);
+        Bet bulk = new Bet(100.0);
+
+        // Act: passo a passo (restantes 19, 18, ..., 15) e em lote
+        for (int remaining = 19; remaining >= 15; remaining--) {
+            stepwise.increaseMultiplier(remaining, 5);
+        }
+        bulk.increaseMultiplier(5, 15, 5);
+
+        // Assert
+        assertEquals(stepwise.getCurrentMultiplier(), bulk.getCurrentMultiplier(), 1e-9,
+            "Aumento em lote deve equivaler ao passo a passo");
+    }
 
-}
+    @Test
+    void tableBet_ShouldBeBitIdenticalToStepByStep() {
+        // Arrange: tabuleiro 5x5 com 3 minas (22 casas seguras)
+        Bet stepwise = new Bet(100.0);
+        Bet table = new Bet(100.0, 25, 3);
+
+        // Act + Assert: a cada casa segura os multiplicadores coincidem exatamente
+        for (int remaining = 21; remaining >= 0; remaining--) {
+            stepwise.increaseMultiplier(remaining, 3);
+            table.increaseMultiplier(remaining, 3);
+            assertEquals(stepwise.getCurrentMultiplier(), table.getCurrentMultiplier(),
+                "Tabela deve reproduzir o cálculo passo a passo com " + remaining + " restantes");
+        }
+    }
 
+    @Test
+    void multiplierTable_ShouldMatchClosedForm() {
+        // Arrange: N = 10, S = 7 -> m(k) = 0.4 * C(9, k) / C(6, k)
+        MultiplierTable table = MultiplierTable.of(10, 3);
+
+        // Assert
+        assertEquals(0.4, table.multiplier(0), 1e-12);
+        assertEquals(0.4 * 9 / 6, table.multiplier(1), 1e-12);
+        assertEquals(0.4 * 36 / 15, table.multiplier(2), 1e-12);
+        assertEquals(table.multiplier(6), table.multiplier(7), 1e-12, "Última casa não aumenta o multiplicador");
+        assertSame(table, MultiplierTable.of(10, 3), "Tabelas devem ficar em cache por configuração");
+    }
 
+    @Test
+    void getPayoutAfter_ShouldProjectFuturePayoutIncludingHintFee() {
+        // Arrange: aposta 100 em 10 células com 3 minas, uma casa segura e dica paga
+        Bet bet = new Bet(100.0, 10, 3);
+        bet.increaseMultiplier(6, 3);
+        bet.applyHintFee();
+
+        // Act
+        double projected = bet.getPayoutAfter(1);
+
+        // Assert: payout após 2 casas, reduzido a 25% pela dica
+        assertEquals(100.0 * 0.4 * 36 / 15 * 0.25, projected, 1e-9);
+        assertEquals(100.0 * 0.4 * 9 / 6 * 0.25, bet.getCurrentPayout(), 1e-9);
+    }
+}
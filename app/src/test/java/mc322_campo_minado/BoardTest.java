@@ -0,0 +1,237 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe Board.
+ */
+class BoardTest {
+
+    @Test
+    void generateBoard_ShouldInitializeCounters() {
+        // Arrange: tabuleiro 3x3 com minas fixas em dois cantos
+        Board board = new Board(3, 3, 2,
+            new FixedMineGenerationStrategy(new int[][] {{0, 0}, {2, 2}}));
+
+        // Act: gera o tabuleiro
+        board.generateBoard();
+
+        // Assert: 7 casas seguras e 2 minas ainda escondidas
+        assertEquals(7, board.getRemainingSafeCells(), "Deve haver 7 casas seguras");
+        assertEquals(2, board.getRemainingMines(), "Deve haver 2 minas");
+    }
+
+    @Test
+    void reveal_ShouldUpdateCounters() {
+        // Arrange
+        Board board = new Board(3, 3, 2,
+            new FixedMineGenerationStrategy(new int[][] {{0, 0}, {2, 2}}));
+        board.generateBoard();
+
+        // Act: revela uma casa segura, uma mina e repete a casa segura
+        board.getCell(1, 1).reveal();
+        board.getCell(0, 0).reveal();
+        board.getCell(1, 1).reveal();
+
+        // Assert: cada revelação conta apenas uma vez
+        assertEquals(6, board.getRemainingSafeCells(), "Casa segura revelada deve ser descontada");
+        assertEquals(1, board.getRemainingMines(), "Mina revelada deve ser descontada");
+    }
+
+    @Test
+    void setMine_ShouldMoveCellBetweenCounters() {
+        // Arrange
+        Board board = new Board(2, 2, 1,
+            new FixedMineGenerationStrategy(new int[][] {{0, 0}}));
+        board.generateBoard();
+
+        // Act: move a mina de (0,0) para (1,1)
+        board.getCell(0, 0).setMine(false);
+        board.getCell(1, 1).setMine(true);
+        board.getCell(1, 1).setMine(true); // repetido não altera contagem
+
+        // Assert
+        assertEquals(3, board.getRemainingSafeCells());
+        assertEquals(1, board.getRemainingMines());
+    }
+
+    @Test
+    void getAdjacentMines_ShouldCountEightNeighborhood() {
+        // Arrange: minas em (0,0) e (1,1) num tabuleiro 3x3
+        Board board = new Board(3, 3, 2,
+            new FixedMineGenerationStrategy(new int[][] {{0, 0}, {1, 1}}), Board.StorageType.PACKED);
+        board.generateBoard();
+
+        // Assert: contagens esperadas linha a linha
+        int[][] expected = {{1, 2, 1}, {2, 1, 1}, {1, 1, 1}};
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 3; c++) {
+                assertEquals(expected[r][c], board.getAdjacentMines(r, c), "Vizinhança de " + r + "," + c);
+            }
+        }
+    }
+
+    @Test
+    void getAdjacentMines_ShouldFollowMovedMine() {
+        // Arrange
+        Board board = new Board(3, 3, 1, new FixedMineGenerationStrategy(new int[][] {{0, 0}}));
+        board.generateBoard();
+
+        // Act: move a mina para o canto oposto
+        board.setMine(0, 0, false);
+        board.setMine(2, 2, true);
+
+        // Assert
+        assertEquals(0, board.getAdjacentMines(0, 1), "Vizinho da mina antiga deve zerar");
+        assertEquals(1, board.getAdjacentMines(1, 1), "Centro continua com uma mina vizinha");
+        assertEquals(1, board.getAdjacentMines(2, 1), "Vizinho da nova mina deve contar");
+
+        // Act: nova rodada zera a vizinhança antes de posicionar
+        board.generateBoard();
+        assertEquals(1, board.getAdjacentMines(0, 1));
+        assertEquals(0, board.getAdjacentMines(2, 1));
+    }
+
+    @Test
+    void revealAllSafeCells_OnLargeBoard_ShouldFinishWithinBudget() {
+        // Arrange: tabuleiro 2000x2000 com poucas minas
+        int size = 2000;
+        Board board = new Board(size, size, 3,
+            new FixedMineGenerationStrategy(new int[][] {{0, 0}, {999, 999}, {1999, 1999}}));
+        board.generateBoard();
+        Bet bet = new Bet(100.0);
+
+        // Act + Assert: revela todas as casas seguras atualizando o multiplicador
+        assertTimeout(Duration.ofSeconds(10), () -> {
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    Cell cell = board.getCell(r, c);
+                    if (!cell.hasMine()) {
+                        cell.reveal();
+                        bet.increaseMultiplier(board.getRemainingSafeCells(), board.getRemainingMines());
+                    }
+                }
+            }
+        }, "Revelar todas as casas seguras deve ser linear no tamanho do tabuleiro");
+
+        assertEquals(0, board.getRemainingSafeCells(), "Nenhuma casa segura deve restar");
+        assertEquals(3, board.getRemainingMines(), "Minas não reveladas permanecem");
+    }
+
+    @Test
+    void packedStorage_ShouldBehaveLikeObjectStorage() {
+        // Arrange: mesmo tabuleiro nos dois armazenamentos
+        int[][] mines = {{0, 1}, {2, 0}};
+        Board objects = new Board(3, 3, 2, new FixedMineGenerationStrategy(mines),
+            Board.StorageType.OBJECTS);
+        Board packed = new Board(3, 3, 2, new FixedMineGenerationStrategy(mines),
+            Board.StorageType.PACKED);
+        objects.generateBoard();
+        packed.generateBoard();
+
+        // Act: mesmas revelações nos dois
+        for (Board board : new Board[] {objects, packed}) {
+            board.reveal(1, 1);
+            board.getCell(2, 0).reveal();
+        }
+
+        // Assert: estado e contadores idênticos
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 3; c++) {
+                assertEquals(objects.hasMine(r, c), packed.hasMine(r, c));
+                assertEquals(objects.isRevealed(r, c), packed.isRevealed(r, c));
+                assertEquals(objects.getCell(r, c).isRevealed(), packed.getCell(r, c).isRevealed());
+            }
+        }
+        assertEquals(objects.getRemainingSafeCells(), packed.getRemainingSafeCells());
+        assertEquals(objects.getRemainingMines(), packed.getRemainingMines());
+    }
+
+    @Test
+    void packedStorage_ShouldNotifyObserversOfMaterializedCell() {
+        // Arrange: observador registrado na visão da célula
+        Board board = new Board(4, 4, 0, new FixedMineGenerationStrategy(new int[0][]),
+            Board.StorageType.PACKED);
+        board.generateBoard();
+        int[] notifications = {0};
+        Observer observer = () -> notifications[0]++; // mantido vivo: o registro guarda referência fraca
+        board.getCell(1, 2).addObserver(observer);
+
+        // Act: revela pelo Board, sem usar a visão
+        board.reveal(1, 2);
+
+        // Assert: a visão é descartável, mas o observador fica no registro do Board
+        assertTrue(board.getCell(1, 2).isRevealed());
+        assertEquals(1, notifications[0], "Observer da visão deve ser notificado");
+        Reference.reachabilityFence(observer);
+    }
+
+    @Test
+    void packedStorage_ShouldKeepOnlyBitsetsPerCell() {
+        // Arrange: tabuleiro 1024x1024 compacto
+        int size = 1024;
+        PackedCellStorage storage = new PackedCellStorage(null, size * size);
+
+        // Act: visões pedidas não ficam guardadas no armazenamento
+        Cell first = storage.cell(7);
+        Cell second = storage.cell(7);
+
+        // Assert: um bit de mina e um de revelação por célula, sem objeto por posição
+        // (o heap retido por formato é medido em BoardBenchmark.newBoard com -prof gc)
+        assertEquals(size * size / 64, storage.words());
+        assertNotSame(first, second, "Visões não devem ser guardadas");
+        storage.setRevealed(7, true);
+        assertTrue(first.isRevealed() && second.isRevealed());
+    }
+
+    @Test
+    void revealCascade_ShouldOpenZeroRegionAndItsBorder() {
+        // Arrange: mina no canto (0,0) de um tabuleiro 4x4
+        Board board = new Board(4, 4, 1, new FixedMineGenerationStrategy(new int[][] {{0, 0}}));
+        board.generateBoard();
+
+        // Act: clica no canto oposto
+        int revealed = board.revealCascade(3, 3);
+
+        // Assert: todas as 15 casas seguras são abertas, a mina não
+        assertEquals(15, revealed);
+        assertEquals(0, board.getRemainingSafeCells());
+        assertFalse(board.isRevealed(0, 0), "Mina não deve ser revelada pela cascata");
+    }
+
+    @Test
+    void revealCascade_OnNumberedCell_ShouldOpenOnlyThatCell() {
+        // Arrange
+        Board board = new Board(4, 4, 1, new FixedMineGenerationStrategy(new int[][] {{0, 0}}));
+        board.generateBoard();
+
+        // Act: (1,1) é vizinha da mina
+        int revealed = board.revealCascade(1, 1);
+
+        // Assert
+        assertEquals(1, revealed);
+        assertFalse(board.isRevealed(2, 2));
+    }
+
+    @Test
+    void revealCascade_OnHugeBoard_ShouldNotOverflowStack() {
+        // Arrange: 4000x4000 compacto com uma única mina
+        int size = 4000;
+        Board board = new Board(size, size, 1,
+            new FixedMineGenerationStrategy(new int[][] {{size / 2, size / 2}}), Board.StorageType.PACKED);
+        board.generateBoard();
+
+        // Act
+        int revealed = assertTimeout(Duration.ofSeconds(20), () -> board.revealCascade(0, 0),
+            "Cascata deve ser linear no tamanho da região");
+
+        // Assert: tudo menos a mina
+        assertEquals(size * size - 1, revealed);
+        assertEquals(0, board.getRemainingSafeCells());
+    }
+}
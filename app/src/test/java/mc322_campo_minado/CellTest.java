@@ -3,6 +3,8 @@ package mc322_campo_minado;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,25 +41,29 @@ public class CellTest {
 
     @Test
     void reveal_ShouldNotifyObserverOnce() {
-        // Arrange: add observer
-        cell.addObserver(() -> notifyCount.incrementAndGet());
+        // Arrange: add observer (mantido vivo: o registro guarda referência fraca)
+        Observer observer = () -> notifyCount.incrementAndGet();
+        cell.addObserver(observer);
 
         // Act: reveal cell
         cell.reveal();
 
         // Assert: observer called exactly once
         assertEquals(1, notifyCount.get(), "Observer deve ser notificado uma vez");
+        Reference.reachabilityFence(observer);
     }
 
     @Test
     void reveal_WhenAlreadyRevealed_DoesNotNotifyAgain() {
         // Arrange: add observer and reveal twice
-        cell.addObserver(() -> notifyCount.incrementAndGet());
+        Observer observer = () -> notifyCount.incrementAndGet();
+        cell.addObserver(observer);
         cell.reveal();
         cell.reveal();
 
         // Assert: still only one notification
         assertEquals(1, notifyCount.get(), "Observer não deve ser notificado mais de uma vez");
+        Reference.reachabilityFence(observer);
     }
 
     @Test
@@ -73,4 +79,30 @@ public class CellTest {
         // Assert: no notification
         assertEquals(0, notifyCount.get(), "Observer removido não deve ser notificado");
     }
+
+    @Test
+    void addObserver_ShouldHoldObserverWeakly() throws Exception {
+        // Arrange: um observador mantido pelo chamador e outro só pelo registro
+        Observer kept = () -> notifyCount.incrementAndGet();
+        cell.addObserver(kept);
+        WeakReference<Observer> dropped = addDroppedObserver(cell);
+
+        // Act: coleta o observador sem referência forte e revela
+        for (int i = 0; i < 50 && dropped.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        cell.reveal();
+
+        // Assert: o registro não mantém observadores vivos; o mantido é notificado
+        assertNull(dropped.get(), "Cell não deve manter o observador vivo");
+        assertEquals(1, notifyCount.get(), "Só o observador mantido pelo chamador é notificado");
+        Reference.reachabilityFence(kept);
+    }
+
+    private WeakReference<Observer> addDroppedObserver(Cell target) {
+        Observer dropped = () -> notifyCount.addAndGet(100);
+        target.addObserver(dropped);
+        return new WeakReference<>(dropped);
+    }
 }
@@ -0,0 +1,90 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.awt.Rectangle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa a junção das células alteradas em uma única região por quadro.
+ */
+class DirtyRegionTest {
+
+    @Test
+    void mark_ShouldReportOnlyFirstMarkUntilDrained() {
+        // Arrange
+        DirtyRegion region = new DirtyRegion();
+
+        // Act
+        boolean first = region.mark(3, 4);
+        boolean second = region.mark(7, 1);
+        Rectangle cells = region.drain();
+        boolean afterDrain = region.mark(0, 0);
+
+        // Assert: só a primeira marcação de cada quadro agenda o flush
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(new Rectangle(1, 3, 4, 5), cells);
+        assertTrue(afterDrain);
+    }
+
+    @Test
+    void drain_WhenNothingChanged_ShouldReturnNull() {
+        DirtyRegion region = new DirtyRegion();
+        assertNull(region.drain());
+        region.markAll(10, 20);
+        assertEquals(new Rectangle(0, 0, 20, 10), region.drain());
+        assertNull(region.drain());
+    }
+
+    @Test
+    void massReveal_ShouldBecomeOneRepaintOfTheVisibleArea() throws Exception {
+        // Arrange: painel mostrando um tabuleiro de 1000x1000 sem minas
+        Board board = new Board(1000, 1000, 0, new FloydMineGenerationStrategy(), Board.StorageType.PACKED);
+        board.generateBoard(1L);
+        BoardPanel panel = new BoardPanel();
+        panel.buildBoard(board, (r, c) -> { });
+        panel.setSize(panel.getPreferredSize());
+        panel.show(BoardView.of(board));
+        panel.drainDirtyPixels();
+
+        // Act: a cascata revela o milhão de células e a cópia seguinte chega
+        // ao painel; roda na EDT para que o timer de quadro não drene a região antes
+        int revealed = board.revealCascade(0, 0);
+        BoardView after = BoardView.of(board);
+        Rectangle[] pixels = new Rectangle[1];
+        SwingUtilities.invokeAndWait(() -> {
+            panel.show(after);
+            pixels[0] = panel.drainDirtyPixels();
+        });
+
+        // Assert: um único retângulo cobrindo o tabuleiro, e nada pendente depois
+        assertEquals(1_000_000, revealed);
+        assertEquals(new Rectangle(0, 0, panel.getWidth(), panel.getHeight()), pixels[0]);
+        assertNull(panel.drainDirtyPixels());
+    }
+
+    @Test
+    void newRound_ShouldIgnoreViewsOfPreviousBoard() {
+        // Arrange
+        Board first = new Board(4, 4, 2);
+        Board second = new Board(4, 4, 2);
+        first.generateBoard(1L);
+        second.generateBoard(2L);
+        BoardPanel panel = new BoardPanel();
+        panel.setSize(200, 200);
+        panel.buildBoard(first, (r, c) -> { });
+        panel.buildBoard(second, (r, c) -> { });
+        panel.show(BoardView.of(second));
+        panel.drainDirtyPixels();
+
+        // Act: evento atrasado da mesa anterior
+        first.reveal(0, 0);
+        panel.show(BoardView.of(first));
+
+        // Assert
+        assertNull(panel.drainDirtyPixels(), "Tabuleiro antigo não deve sujar o painel");
+    }
+}
@@ -0,0 +1,402 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe Game.
+ */
+class GameTest {
+
+    @Test
+    void startGame_ShouldResetRoundState() {
+        // Arrange: joga uma rodada com dica e uma casa segura
+        Game game = new Game(new Board(2, 2, 1,
+            new FixedMineGenerationStrategy(new int[][] {{0, 0}})), new Player(1000.0));
+        game.startGame(10.0);
+        game.revealCell(1, 1);
+        game.setHintUsed(true);
+        game.cashOut();
+        Bet firstBet = game.getBet();
+
+        // Act: nova rodada no mesmo jogo
+        game.startGame(20.0);
+
+        // Assert: estado da rodada zerado e objetos reaproveitados
+        assertFalse(game.checkGameOver(), "Nova rodada não deve começar encerrada");
+        assertFalse(game.isHintUsed(), "Dica deve estar disponível na nova rodada");
+        assertEquals(0, game.getSafeCellsRevealed(), "Contador de casas seguras deve ser zerado");
+        assertFalse(game.getBoard().isRevealed(1, 1), "Tabuleiro deve voltar a ficar oculto");
+        assertSame(firstBet, game.getBet(), "Bet deve ser reaproveitado");
+        assertEquals(20.0, game.getBet().getInitialBet(), 1e-9);
+        assertEquals(0.4, game.getBet().getCurrentMultiplier(), 1e-9);
+    }
+
+    @Test
+    void startGame_WhenReusingGame_ShouldAllocateFarLessThanNewGame() {
+        // Arrange: mede bytes alocados por rodada nos dois estilos
+        long reusedBytes = allocatedPerRound(true);
+        long freshBytes = allocatedPerRound(false);
+
+        // Assert: só a proporção, com folga larga; o valor absoluto depende do JIT
+        // (escape analysis) e é medido em RoundReuseBenchmark com o profiler gc
+        assertTrue(reusedBytes * 10 < freshBytes,
+            String.format("Reaproveitado (%d B/rodada) deve ser muito menor que novo (%d B/rodada)",
+                reusedBytes, freshBytes));
+    }
+
+    /**
+     * Joga várias rodadas curtas em um tabuleiro 16x16 e devolve a média
+     * de bytes alocados pela thread atual por rodada (após aquecimento).
+     */
+    private static long allocatedPerRound(boolean reuse) {
+        com.sun.management.ThreadMXBean mx =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+        Game game = new Game(new Board(16, 16, 40), new Player(1e12));
+        int warmup = 20_000, rounds = 20_000;
+        long start = 0;
+        for (int i = 0; i < warmup + rounds; i++) {
+            if (i == warmup) {
+                start = mx.getThreadAllocatedBytes(tid);
+            }
+            if (!reuse) {
+                game = new Game(new Board(16, 16, 40), new Player(1e12));
+            }
+            game.startGame(1.0);
+            for (int c = 0; c < 4 && game.revealCell(i % 16, c); c++) { }
+            if (!game.checkGameOver()) {
+                game.cashOut();
+            }
+        }
+        return (mx.getThreadAllocatedBytes(tid) - start) / rounds;
+    }
+
+    @Test
+    void revealCell_WithCascade_ShouldRevealRegionAndUpdateMultiplierOnce() {
+        // Arrange: mina em (0,0); a cascata a partir de (0,3) abre tudo menos (1,0)
+        //   * 1 0 0
+        //   1 1 0 0
+        Board board = new Board(2, 4, 1, new FixedMineGenerationStrategy(new int[][] {{0, 0}}));
+        Game game = new Game(board, new Player(1000.0));
+        game.setCascadeEnabled(true);
+        game.startGame(100.0);
+
+        // Act
+        boolean safe = game.revealCell(0, 3);
+
+        // Assert: 6 casas seguras abertas de uma vez e multiplicador equivalente
+        Bet expected = new Bet(100.0);
+        for (int remaining = 6; remaining >= 1; remaining--) {
+            expected.increaseMultiplier(remaining, 1);
+        }
+        assertTrue(safe);
+        assertEquals(6, game.getSafeCellsRevealed());
+        assertFalse(board.isRevealed(1, 0), "(1,0) não encosta em nenhuma casa zero");
+        assertFalse(game.checkGameOver());
+        assertEquals(expected.getCurrentMultiplier(), game.getBet().getCurrentMultiplier(), 1e-9);
+    }
+
+    @Test
+    void revealCell_WithoutCascade_ShouldRevealSingleCell() {
+        // Arrange
+        Board board = new Board(2, 4, 1, new FixedMineGenerationStrategy(new int[][] {{0, 0}}));
+        Game game = new Game(board, new Player(1000.0));
+        game.startGame(100.0);
+
+        // Act
+        game.revealCell(0, 3);
+
+        // Assert
+        assertEquals(1, game.getSafeCellsRevealed());
+        assertFalse(board.isRevealed(0, 2));
+    }
+
+    @Test
+    void revealCells_ShouldMatchSequentialRevealsWithSingleNotification() {
+        // Arrange: dois jogos idênticos, um jogado célula a célula e outro em lote
+        int[][] mines = {{0, 0}, {3, 3}};
+        Game sequential = new Game(new Board(4, 4, 2, new FixedMineGenerationStrategy(mines)), new Player(1000.0));
+        Game batched = new Game(new Board(4, 4, 2, new FixedMineGenerationStrategy(mines)), new Player(1000.0));
+        sequential.startGame(100.0);
+        batched.startGame(100.0);
+        int[] notifications = {0};
+        batched.addObserver(() -> notifications[0]++);
+        int[] rows = {0, 1, 2, 1, 2};
+        int[] cols = {1, 1, 2, 1, 0}; // (1,1) repetida é ignorada
+
+        // Act
+        for (int i = 0; i < rows.length; i++) {
+            sequential.revealCell(rows[i], cols[i]);
+        }
+        boolean safe = batched.revealCells(rows, cols);
+
+        // Assert
+        assertTrue(safe);
+        assertEquals(1, notifications[0], "Lote deve gerar uma única notificação");
+        assertEquals(sequential.getSafeCellsRevealed(), batched.getSafeCellsRevealed());
+        assertEquals(sequential.getBet().getCurrentMultiplier(), batched.getBet().getCurrentMultiplier(), 1e-9);
+    }
+
+    @Test
+    void revealCells_ShouldStopAtFirstMine() {
+        // Arrange: mina em (0,0); índices lineares num tabuleiro 3x3
+        Game game = new Game(new Board(3, 3, 1,
+            new FixedMineGenerationStrategy(new int[][] {{0, 0}})), new Player(1000.0));
+        game.startGame(100.0);
+
+        // Act: 4 = (1,1), 0 = mina, 8 = (2,2) não deve ser aberta
+        boolean safe = game.revealCells(new int[] {4, 0, 8});
+
+        // Assert
+        assertFalse(safe);
+        assertTrue(game.checkGameOver());
+        assertEquals(1, game.getSafeCellsRevealed());
+        assertTrue(game.getBoard().isRevealed(0, 0));
+        assertFalse(game.getBoard().isRevealed(2, 2), "Células após a mina não são reveladas");
+    }
+
+    @Test
+    void revealCells_WithInvalidCoordinate_ShouldNotChangeState() {
+        // Arrange
+        Game game = new Game(new Board(3, 3, 1,
+            new FixedMineGenerationStrategy(new int[][] {{0, 0}})), new Player(1000.0));
+        game.startGame(100.0);
+
+        // Act + Assert: validação acontece antes de qualquer revelação
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> game.revealCells(new int[] {1, 9}, new int[] {1, 0}));
+        assertFalse(game.getBoard().isRevealed(1, 1));
+    }
+
+    @Test
+    void revealCell_WithFirstClickSafe_ShouldMoveMineAndPatchCounts() {
+        // Arrange: única mina exatamente sob o primeiro clique
+        Board board = new Board(3, 3, 1, new FixedMineGenerationStrategy(new int[][] {{1, 1}}));
+        Game game = new Game(board, new Player(1000.0));
+        game.setFirstClickSafe(true);
+        game.startGame(10.0);
+
+        // Act
+        boolean safe = game.revealCell(1, 1);
+
+        // Assert: jogada segura, mina preservada em outra célula e contagens coerentes
+        assertTrue(safe, "Primeiro clique não deve perder");
+        assertFalse(game.checkGameOver());
+        assertFalse(board.hasMine(1, 1));
+        assertEquals(1, board.getRemainingMines());
+        assertEquals(1, board.getAdjacentMines(1, 1), "A mina foi para um vizinho do centro");
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 3; c++) {
+                int expected = 0;
+                for (int rr = Math.max(0, r - 1); rr <= Math.min(2, r + 1); rr++) {
+                    for (int cc = Math.max(0, c - 1); cc <= Math.min(2, c + 1); cc++) {
+                        if ((rr != r || cc != c) && board.hasMine(rr, cc)) expected++;
+                    }
+                }
+                assertEquals(expected, board.getAdjacentMines(r, c), "Contagem em (" + r + "," + c + ")");
+            }
+        }
+    }
+
+    @Test
+    void revealCell_WithFirstClickSafe_ShouldNeverLoseOnFirstClick() {
+        // Arrange: tabuleiro denso, em que quase todo primeiro clique cairia numa mina
+        Game game = new Game(new Board(4, 4, 12, new FloydMineGenerationStrategy(9L)), new Player(1e9));
+        game.setFirstClickSafe(true);
+        int losses = 0;
+
+        for (int round = 0; round < 500; round++) {
+            // Act: primeiro clique em qualquer célula, depois um segundo clique
+            game.startGame(1.0);
+            assertTrue(game.revealCell(round % 4, round / 4 % 4), "Rodada " + round);
+            if (!game.checkGameOver() && !game.revealCell((round + 1) % 4, 3)) {
+                losses++;
+            }
+            if (!game.isLost()) {
+                game.cashOut();
+            }
+        }
+
+        // Assert: a proteção vale só para a primeira jogada
+        assertTrue(losses > 0, "Segundo clique continua podendo perder");
+    }
+
+    @Test
+    void useHint_ShouldReturnHiddenNeighborsWithTheirMineState() {
+        // Arrange: mina acima da célula central, que já foi revelada
+        Game game = new Game(new Board(3, 3, 1,
+            new FixedMineGenerationStrategy(new int[][] {{0, 1}})), new Player(1000.0));
+        game.startGame(10.0);
+        game.revealCell(1, 1);
+        game.revealCell(1, 2);
+        long payout = game.getBet().getCurrentPayoutMinor();
+
+        // Act
+        assertThrows(IndexOutOfBoundsException.class, () -> game.useHint(3, 0));
+        Hint hint = game.useHint(1, 1);
+
+        // Assert: cima (mina), baixo e esquerda; a direita já está revelada
+        assertEquals(3, hint.getCellCount());
+        assertEquals(1, hint.getCell(0));
+        assertTrue(hint.isMine(0));
+        assertEquals(7, hint.getCell(1));
+        assertFalse(hint.isMine(1));
+        assertEquals(3, hint.getCell(2));
+        assertFalse(hint.isMine(2));
+        assertEquals(game.getBet().getCurrentPayout(), hint.getPayout());
+        assertEquals(payout - game.getBet().getCurrentPayoutMinor(), Money.toMinor(hint.getFee()),
+            "Só a dica válida deve ser cobrada");
+        assertThrows(IllegalStateException.class, () -> game.useHint(1, 1));
+    }
+
+    @Test
+    void snapshot_ShouldResumeRoundIdentically() {
+        for (Board.StorageType type : Board.StorageType.values()) {
+            // Arrange: rodada em andamento com cascata, dica e algumas casas reveladas
+            Game original = new Game(new Board(12, 9, 15, new FloydMineGenerationStrategy(5L), type),
+                new Player(500.0));
+            original.setCascadeEnabled(true);
+            original.startGame(20.0, 1234L);
+            int cell = 0;
+            while (original.getSafeCellsRevealed() < 10) {
+                if (!original.getBoard().hasMine(cell / 9, cell % 9)) {
+                    original.revealCell(cell / 9, cell % 9);
+                }
+                cell++;
+            }
+            original.useHint();
+
+            // Act: snapshot num buffer direto e restauração em outro processo (jogo novo)
+            ByteBuffer buffer = ByteBuffer.allocateDirect(original.snapshotSize());
+            original.writeSnapshot(buffer);
+            buffer.flip();
+            Game restored = Game.fromSnapshot(buffer);
+
+            // Assert: mesmo estado e mesma continuação da rodada
+            assertFalse(buffer.hasRemaining(), "Snapshot deve ser lido por inteiro");
+            assertEquals(original.getPlayer().getBalanceMinor(), restored.getPlayer().getBalanceMinor());
+            assertEquals(original.getBet().getCurrentPayoutMinor(), restored.getBet().getCurrentPayoutMinor());
+            assertEquals(original.getSafeCellsRevealed(), restored.getSafeCellsRevealed());
+            assertTrue(restored.isHintUsed());
+            assertTrue(restored.isCascadeEnabled());
+            assertEquals(1234L, restored.getBoard().getSeed());
+            assertEquals(original.getBoard().getRemainingSafeCells(), restored.getBoard().getRemainingSafeCells());
+            for (int i = cell; i < 12 * 9 && !original.checkGameOver(); i++) {
+                int r = i / 9, c = i % 9;
+                assertEquals(original.getBoard().getAdjacentMines(r, c), restored.getBoard().getAdjacentMines(r, c));
+                assertEquals(original.revealCell(r, c), restored.revealCell(r, c));
+                assertEquals(original.getBet().getCurrentPayoutMinor(), restored.getBet().getCurrentPayoutMinor());
+            }
+            assertEquals(original.isLost(), restored.isLost());
+        }
+    }
+
+    @Test
+    void snapshot_OnLargeBoard_ShouldNotAllocatePerCell() {
+        // Arrange: tabuleiro 512x512 e buffer reaproveitado
+        com.sun.management.ThreadMXBean mx =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+        Game game = new Game(new Board(512, 512, 30_000, new FloydMineGenerationStrategy(1L),
+            Board.StorageType.PACKED), new Player(100.0));
+        game.startGame(1.0);
+        game.revealCell(0, 0);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(game.snapshotSize());
+        for (int i = 0; i < 20; i++) {
+            buffer.clear();
+            game.writeSnapshot(buffer);
+            buffer.flip();
+            game.restoreSnapshot(buffer);
+        }
+
+        // Act: 20 ciclos de grava/restaura
+        long start = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < 20; i++) {
+            buffer.clear();
+            game.writeSnapshot(buffer);
+            buffer.flip();
+            game.restoreSnapshot(buffer);
+        }
+        long perCycle = (mx.getThreadAllocatedBytes(tid) - start) / 20;
+
+        // Assert: nada por célula; um objeto por célula custaria 16 B ou mais cada,
+        // então o limite de 1/16 de byte por célula deixa folga de 256x para o JIT
+        // (o valor absoluto é medido em SnapshotBenchmark com o profiler gc)
+        int cells = 512 * 512;
+        assertEquals(72 + 16 * 4096, game.snapshotSize());
+        assertTrue(perCycle * 16 < cells, "Snapshot alocou " + perCycle + " B por ciclo para " + cells + " células");
+    }
+
+    @Test
+    void restoreSnapshot_WithOtherConfig_ShouldThrowAndKeepState() {
+        // Arrange
+        Game source = new Game(new Board(5, 5, 3), new Player(10.0));
+        source.startGame(1.0);
+        ByteBuffer buffer = ByteBuffer.allocate(source.snapshotSize());
+        source.writeSnapshot(buffer);
+        buffer.flip();
+        Game other = new Game(new Board(5, 5, 4), new Player(10.0));
+        other.startGame(2.0);
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> other.restoreSnapshot(buffer));
+        assertEquals(800, other.getPlayer().getBalanceMinor(), "Jogo não deve ser alterado");
+        buffer.putInt(0, 0);
+        assertThrows(IllegalArgumentException.class, () -> Game.fromSnapshot(buffer));
+    }
+
+    @Test
+    void restoreSnapshot_WithCorruptFields_ShouldThrowBeforeChangingAnything() {
+        // Arrange: snapshot válido de uma rodada com uma casa revelada
+        Game source = new Game(new Board(5, 5, 3, new FixedMineGenerationStrategy(new int[][] {{0, 0}, {0, 1}, {0, 2}})),
+            new Player(10.0));
+        source.startGame(1.0);
+        source.revealCell(4, 4);
+        ByteBuffer valid = ByteBuffer.allocate(source.snapshotSize()).order(ByteOrder.LITTLE_ENDIAN);
+        source.writeSnapshot(valid);
+        Player wallet = new Player(50.0); // carteira compartilhada com outras mesas
+        Game target = new Game(new Board(5, 5, 3), wallet);
+        target.startGame(2.0);
+        long payout = target.getBet().getCurrentPayoutMinor();
+
+        // Act + Assert: casas reveladas, escala da dica e multiplicador fora da faixa
+        int[] offsets = {24, 60, 52};
+        for (int offset : offsets) {
+            ByteBuffer corrupt = ByteBuffer.allocate(valid.capacity()).order(ByteOrder.LITTLE_ENDIAN);
+            corrupt.put(valid.array()).flip();
+            if (offset == 24) {
+                corrupt.putInt(offset, 23);
+            } else {
+                corrupt.putDouble(offset, offset == 60 ? 0.3 : Double.NaN);
+            }
+            assertThrows(IllegalArgumentException.class, () -> target.restoreSnapshot(corrupt));
+            assertEquals(payout, target.getBet().getCurrentPayoutMinor(), "Jogo não deve ser alterado");
+            assertEquals(0, target.getSafeCellsRevealed());
+        }
+
+        // Assert: um snapshot válido restaura a rodada, mas não o saldo da carteira compartilhada
+        target.restoreSnapshot(valid.flip());
+        assertEquals(1, target.getSafeCellsRevealed());
+        assertEquals(4800, wallet.getBalanceMinor());
+    }
+
+    @Test
+    void fromSnapshot_WithInvalidBoard_ShouldKeepTheBufferByteOrder() {
+        // Arrange: cabeçalho com linhas negativas
+        Game source = new Game(new Board(5, 5, 3), new Player(10.0));
+        ByteBuffer buffer = ByteBuffer.allocate(source.snapshotSize());
+        source.writeSnapshot(buffer);
+        buffer.flip();
+        buffer.order(ByteOrder.LITTLE_ENDIAN).putInt(8, -1).order(ByteOrder.BIG_ENDIAN);
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> Game.fromSnapshot(buffer));
+        assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+    }
+}
@@ -0,0 +1,131 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes das implementações de MineGenerationStrategy.
+ */
+class MineGenerationStrategyTest {
+
+    @Test
+    void floyd_ShouldPlaceExactMineCountAtAnyDensity() {
+        // Arrange: densidades baixa, média e máxima permitida
+        int size = 50;
+        int cells = size * size;
+        for (int mines : new int[] {cells / 10, cells / 2, cells - 1}) {
+            Board board = new Board(size, size, mines, new FloydMineGenerationStrategy(),
+                Board.StorageType.PACKED);
+
+            // Act
+            board.generateBoard();
+
+            // Assert: contadores e contagem direta batem com o pedido
+            int counted = 0;
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (board.hasMine(r, c)) counted++;
+                }
+            }
+            assertEquals(mines, counted, "Floyd deve posicionar exatamente " + mines + " minas");
+            assertEquals(mines, board.getRemainingMines());
+            assertEquals(cells - mines, board.getRemainingSafeCells());
+        }
+    }
+
+    @Test
+    void floyd_ShouldReachEveryCell() {
+        // Arrange: 1 mina em tabuleiro 3x3, muitas rodadas
+        Board board = new Board(3, 3, 1, new FloydMineGenerationStrategy());
+        int[] hits = new int[9];
+
+        // Act
+        for (int i = 0; i < 9_000; i++) {
+            board.generateBoard();
+            for (int k = 0; k < 9; k++) {
+                if (board.hasMine(k / 3, k % 3)) hits[k]++;
+            }
+        }
+
+        // Assert: todas as posições recebem minas com frequência parecida
+        for (int k = 0; k < 9; k++) {
+            assertTrue(hits[k] > 700 && hits[k] < 1300,
+                "Posição " + k + " sorteada " + hits[k] + " vezes");
+        }
+    }
+
+    @Test
+    void random_ShouldRemainSelectable() {
+        // Arrange + Act
+        Board board = new Board(10, 10, 30, new RandomMineGenerationStrategy());
+        board.generateBoard();
+
+        // Assert
+        assertEquals(30, board.getRemainingMines());
+    }
+
+    @Test
+    void fixed_ShouldRejectPositionOutsideBoard() {
+        // Arrange
+        Board board = new Board(2, 2, 1, new FixedMineGenerationStrategy(new int[][] {{5, 5}}));
+
+        // Act + Assert
+        assertThrows(IllegalArgumentException.class, board::generateBoard);
+    }
+
+    @Test
+    void sameSeed_ShouldReproduceSameBoard() {
+        // Arrange: dois tabuleiros independentes, com estratégias diferentes de semente
+        for (MineGenerationStrategy[] pair : new MineGenerationStrategy[][] {
+                {new FloydMineGenerationStrategy(), new FloydMineGenerationStrategy()},
+                {new RandomMineGenerationStrategy(), new RandomMineGenerationStrategy()}}) {
+            Board a = new Board(20, 20, 80, pair[0], Board.StorageType.PACKED);
+            Board b = new Board(20, 20, 80, pair[1], Board.StorageType.OBJECTS);
+
+            // Act: mesma semente de rodada
+            a.generateBoard(123456789L);
+            b.generateBoard(123456789L);
+
+            // Assert: minas nas mesmas posições e semente registrada
+            assertSameMines(a, b);
+            assertEquals(123456789L, a.getSeed());
+        }
+    }
+
+    @Test
+    void seededStrategy_ShouldReproduceSequenceOfRounds() {
+        // Arrange: duas estratégias com a mesma semente inicial
+        Board a = new Board(10, 10, 20, new FloydMineGenerationStrategy(7L));
+        Board b = new Board(10, 10, 20, new FloydMineGenerationStrategy(7L));
+
+        // Act + Assert: rodadas sucessivas coincidem e podem ser refeitas pela semente
+        for (int round = 0; round < 5; round++) {
+            a.generateBoard();
+            b.generateBoard();
+            assertSameMines(a, b);
+
+            Board replay = new Board(10, 10, 20, new FloydMineGenerationStrategy());
+            replay.generateBoard(a.getSeed());
+            assertSameMines(a, replay);
+        }
+    }
+
+    @Test
+    void split_ShouldProduceIndependentStreams() {
+        // Arrange
+        FloydMineGenerationStrategy parent = new FloydMineGenerationStrategy(1L);
+        FloydMineGenerationStrategy child = parent.split();
+
+        // Act + Assert: as sementes geradas divergem
+        assertNotEquals(parent.nextSeed(), child.nextSeed(), "split deve gerar fluxo independente");
+    }
+
+    private static void assertSameMines(Board a, Board b) {
+        for (int r = 0; r < a.getRows(); r++) {
+            for (int c = 0; c < a.getCols(); c++) {
+                assertEquals(a.hasMine(r, c), b.hasMine(r, c), "Minas diferentes em " + r + "," + c);
+            }
+        }
+    }
+}
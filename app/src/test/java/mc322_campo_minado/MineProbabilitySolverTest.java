@@ -0,0 +1,198 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa o cálculo das probabilidades de mina por célula a partir das
+ * contagens reveladas.
+ */
+class MineProbabilitySolverTest {
+
+    @Test
+    void getMineProbability_ShouldMatchBruteForceOnSmallBoards() {
+        for (long seed = 1; seed <= 20; seed++) {
+            // Arrange: tabuleiro 5x5 com algumas casas seguras reveladas
+            Board board = new Board(5, 5, 6, new FloydMineGenerationStrategy(seed));
+            board.generateBoard(seed);
+            revealSafe(board, seed, 4);
+            MineProbabilitySolver solver = new MineProbabilitySolver(board);
+
+            // Act
+            double[] expected = bruteForce(board);
+
+            // Assert
+            assertTrue(solver.isExact(), "Tabuleiro pequeno deve ser resolvido de forma exata");
+            for (int index = 0; index < 25; index++) {
+                assertEquals(expected[index], solver.getMineProbability(index / 5, index % 5), 1e-9,
+                    "seed " + seed + ", célula " + index);
+            }
+            solver.close();
+        }
+    }
+
+    @Test
+    void reveal_ShouldUpdateIncrementallyAndReuseUnchangedComponents() {
+        // Arrange: duas regiões reveladas em cantos opostos
+        Board board = new Board(40, 40, 200, new FloydMineGenerationStrategy(7L));
+        board.generateBoard(7L);
+        MineProbabilitySolver solver = new MineProbabilitySolver(board);
+        revealSafeNear(board, 0, 0);
+        revealSafeNear(board, 39, 39);
+        solver.solve();
+        int components = solver.getComponentCount();
+
+        // Act: nova revelação perto de apenas um dos cantos
+        revealSafeNear(board, 2, 2);
+        solver.solve();
+
+        // Assert: só o que mudou é enumerado, e o resultado é igual ao de um solver novo
+        assertTrue(components >= 2, "Esperados componentes nos dois cantos");
+        assertTrue(solver.getEnumeratedCount() < solver.getComponentCount(),
+            "Componentes do canto oposto devem vir do cache");
+        MineProbabilitySolver fresh = new MineProbabilitySolver(board);
+        for (int r = 0; r < 40; r++) {
+            for (int c = 0; c < 40; c++) {
+                assertEquals(fresh.getMineProbability(r, c), solver.getMineProbability(r, c), 1e-9);
+            }
+        }
+        solver.close();
+        fresh.close();
+    }
+
+    @Test
+    void getMineProbability_ShouldSumToRemainingMinesOnLargeFrontier() {
+        // Arrange: cascata num tabuleiro grande, fronteira acima do limite exato
+        Board board = new Board(300, 300, 9000, new FloydMineGenerationStrategy(3L),
+            Board.StorageType.PACKED);
+        board.generateBoard(3L);
+        MineProbabilitySolver solver = new MineProbabilitySolver(board);
+        for (int index = 0; index < 300 * 300; index += 97) {
+            if (!board.hasMineAt(index) && board.adjacentMinesAt(index) == 0) {
+                board.revealCascade(index / 300, index % 300);
+            }
+        }
+
+        // Act
+        double sum = 0;
+        for (int r = 0; r < 300; r++) {
+            for (int c = 0; c < 300; c++) {
+                double p = solver.getMineProbability(r, c);
+                assertTrue(p >= 0 && p <= 1, "Probabilidade fora de [0, 1]");
+                if (!board.isRevealed(r, c)) {
+                    sum += p;
+                }
+            }
+        }
+
+        // Assert: o número esperado de minas é o restante
+        assertTrue(solver.getFrontierSize() > MineProbabilitySolver.EXACT_FRONTIER);
+        assertEquals(board.getRemainingMines(), sum, 1e-3 * board.getRemainingMines());
+        solver.close();
+    }
+
+    @Test
+    void newRound_ShouldResetToUniformProbability() {
+        // Arrange
+        Board board = new Board(10, 10, 20, new FloydMineGenerationStrategy(5L));
+        board.generateBoard(5L);
+        MineProbabilitySolver solver = new MineProbabilitySolver(board);
+        revealSafeNear(board, 5, 5);
+        solver.solve();
+
+        // Act: nova rodada
+        board.generateBoard(6L);
+
+        // Assert: sem revelações, toda célula tem minas / células
+        assertEquals(0, solver.getFrontierSize());
+        assertEquals(0.2, solver.getMineProbability(3, 3), 1e-12);
+        solver.close();
+    }
+
+    /** Revela até count casas seguras escolhidas pela semente. */
+    private static void revealSafe(Board board, long seed, int count) {
+        Random random = new Random(seed);
+        int cells = board.getRows() * board.getCols();
+        for (int i = 0; i < count; i++) {
+            int index = random.nextInt(cells);
+            if (!board.hasMineAt(index)) {
+                board.revealAt(index);
+            }
+        }
+    }
+
+    /** Revela a casa segura mais próxima de (row, col) na mesma linha. */
+    private static void revealSafeNear(Board board, int row, int col) {
+        for (int d = 0; d < board.getCols(); d++) {
+            int c = col + (col < board.getCols() / 2 ? d : -d);
+            if (!board.hasMine(row, c) && !board.isRevealed(row, c)) {
+                board.revealCascade(row, c);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Probabilidade de mina por célula contando todas as distribuições das
+     * minas restantes nas células ocultas compatíveis com as contagens reveladas.
+     */
+    private static double[] bruteForce(Board board) {
+        int rows = board.getRows(), cols = board.getCols(), n = rows * cols;
+        int[] hidden = new int[n];
+        int h = 0;
+        for (int index = 0; index < n; index++) {
+            if (!board.isRevealedAt(index)) hidden[h++] = index;
+        }
+        int mines = board.getRemainingMines();
+        double[] hits = new double[n];
+        long[] total = new long[1];
+        boolean[] mine = new boolean[n];
+        for (int index = 0; index < n; index++) {
+            mine[index] = board.isRevealedAt(index) && board.hasMineAt(index);
+        }
+        enumerate(board, hidden, h, 0, mines, mine, hits, total);
+        double[] result = new double[n];
+        for (int index = 0; index < n; index++) {
+            result[index] = board.isRevealedAt(index)
+                ? (board.hasMineAt(index) ? 1 : 0)
+                : hits[index] / total[0];
+        }
+        return result;
+    }
+
+    private static void enumerate(Board board, int[] hidden, int h, int from, int left,
+                                  boolean[] mine, double[] hits, long[] total) {
+        if (left == 0) {
+            if (consistent(board, mine)) {
+                total[0]++;
+                for (int i = 0; i < mine.length; i++) {
+                    if (mine[i] && !board.isRevealedAt(i)) hits[i]++;
+                }
+            }
+            return;
+        }
+        for (int i = from; i <= h - left; i++) {
+            mine[hidden[i]] = true;
+            enumerate(board, hidden, h, i + 1, left - 1, mine, hits, total);
+            mine[hidden[i]] = false;
+        }
+    }
+
+    private static boolean consistent(Board board, boolean[] mine) {
+        int rows = board.getRows(), cols = board.getCols();
+        for (int index = 0; index < rows * cols; index++) {
+            if (!board.isRevealedAt(index) || board.hasMineAt(index)) continue;
+            int r = index / cols, c = index % cols, count = 0;
+            for (int rr = Math.max(0, r - 1); rr <= Math.min(rows - 1, r + 1); rr++) {
+                for (int cc = Math.max(0, c - 1); cc <= Math.min(cols - 1, c + 1); cc++) {
+                    if (mine[rr * cols + cc]) count++;
+                }
+            }
+            if (count != board.adjacentMinesAt(index)) return false;
+        }
+        return true;
+    }
+}
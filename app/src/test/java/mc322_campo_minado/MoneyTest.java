@@ -0,0 +1,90 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa a aritmética em centavos de Money e seu uso por Player.
+ */
+class MoneyTest {
+
+    @Test
+    void toMinor_ShouldRoundHalfEven() {
+        // Assert: valores exatos e desempates para o par mais próximo
+        assertEquals(1234, Money.toMinor(12.34));
+        assertEquals(2, Money.toMinor(0.025));
+        assertEquals(4, Money.toMinor(0.035));
+        assertEquals(-1234, Money.toMinor(-12.34));
+        assertEquals(12.34, Money.toMajor(1234), 0.0);
+    }
+
+    @Test
+    void toMinor_ShouldRoundTheTypedDecimalNotTheBinaryProduct() {
+        // Arrange: 2.675 * 100 == 267.49999999999997 e 1.005 * 100 == 100.49999999999999 em double
+        // Assert: o desempate é aplicado ao meio centavo digitado
+        assertEquals(268, Money.toMinor(2.675));
+        assertEquals(-268, Money.toMinor(-2.675));
+        assertEquals(100, Money.toMinor(1.005));
+        assertEquals(102, Money.toMinor(1.015));
+        assertThrows(ArithmeticException.class, () -> Money.toMinor(Double.NaN));
+        assertThrows(ArithmeticException.class, () -> Money.toMinor(1e300));
+    }
+
+    @Test
+    void multiply_ShouldHonorRoundingMode() {
+        // Arrange: 5 centavos × 0.5 = 2.5 centavos
+        long minor = 5;
+
+        // Assert
+        assertEquals(2, Money.multiply(minor, 0.5, RoundingMode.DOWN));
+        assertEquals(3, Money.multiply(minor, 0.5, RoundingMode.UP));
+        assertEquals(3, Money.multiply(minor, 0.5, RoundingMode.HALF_UP));
+        assertEquals(2, Money.multiply(minor, 0.5, RoundingMode.HALF_DOWN));
+        assertEquals(2, Money.multiply(minor, 0.5, RoundingMode.HALF_EVEN));
+        assertEquals(-3, Money.multiply(-minor, 0.5, RoundingMode.FLOOR));
+        assertEquals(-2, Money.multiply(-minor, 0.5, RoundingMode.CEILING));
+        assertEquals(-3, Money.multiply(-minor, 0.5, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(minor, 0.5, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> Money.multiply(Long.MAX_VALUE, 2.0, RoundingMode.DOWN));
+    }
+
+    @Test
+    void format_ShouldPrintTwoDecimals() {
+        assertEquals("12.05", Money.format(1205));
+        assertEquals("-0.07", Money.format(-7));
+    }
+
+    @Test
+    void player_ShouldKeepExactBalanceOverManyOperations() {
+        // Arrange: 0.10 não é representável em double; em centavos é exato
+        Player player = new Player(0.0);
+
+        // Act: mil ganhos de 0.10 e uma aposta de 100
+        for (int i = 0; i < 1000; i++) {
+            player.addWinnings(0.10);
+        }
+        player.placeBet(100.0);
+
+        // Assert
+        assertEquals(0, player.getBalanceMinor(), "Saldo em centavos deve fechar exatamente");
+        assertEquals(0.0, player.getBalance(), 0.0);
+    }
+
+    @Test
+    void hintFee_PlusRemainingPayout_ShouldEqualPayoutBeforeHint() {
+        // Arrange: aposta de 0.07 gera payouts fracionários em centavos
+        Bet bet = new Bet(0.07, 25, 5);
+        bet.increaseMultiplier(17, 5);
+        long before = bet.getCurrentPayoutMinor();
+        long fee = bet.getHintFeeMinor();
+
+        // Act
+        bet.applyHintFee();
+
+        // Assert: taxa + payout restante reconciliam ao centavo
+        assertEquals(before, fee + bet.getCurrentPayoutMinor());
+    }
+}
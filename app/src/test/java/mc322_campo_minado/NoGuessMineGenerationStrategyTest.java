@@ -0,0 +1,181 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa a geração de tabuleiros sem chute e o solver que os valida.
+ */
+class NoGuessMineGenerationStrategyTest {
+
+    @Test
+    void generate_ShouldProduceBoardsSolvableFromTheCenter() {
+        for (long seed = 1; seed <= 10; seed++) {
+            // Arrange: dificuldade intermediária clássica
+            NoGuessMineGenerationStrategy strategy = new NoGuessMineGenerationStrategy(seed, ForkJoinPool.commonPool(), 0);
+            Board board = new Board(16, 16, 40, strategy);
+
+            // Act
+            board.generateBoard(seed);
+
+            // Assert: centro abre cascata e o solver resolve sem chute
+            int start = strategy.startIndex(16, 16);
+            assertFalse(board.hasMineAt(start));
+            assertEquals(0, board.adjacentMinesAt(start));
+            assertEquals(40, board.getRemainingMines());
+            assertTrue(new NoGuessSolver(16, 16).solve(minesOf(board), 40, start, () -> false),
+                "seed " + seed + " gerou tabuleiro que exige chute");
+        }
+    }
+
+    @Test
+    void generate_SameSeedShouldReproduceTheBoard() {
+        // Arrange: estratégias independentes, uma delas num pool com mais workers
+        ForkJoinPool pool = new ForkJoinPool(4);
+        Board first = new Board(16, 30, 99, new NoGuessMineGenerationStrategy(1L, pool, 0));
+        Board second = new Board(16, 30, 99, new NoGuessMineGenerationStrategy(2L));
+
+        // Act
+        first.generateBoard(42L);
+        second.generateBoard(42L);
+
+        // Assert: o resultado não depende do escalonamento dos candidatos
+        assertArrayEquals(minesOf(first), minesOf(second));
+        pool.shutdown();
+    }
+
+    @Test
+    void solve_ShouldRejectFiftyFifty() {
+        // Arrange: 2x4 com uma mina em (0, 3); sobram duas casas ocultas indistinguíveis
+        long[] mines = {1L << 3};
+
+        // Act
+        boolean solvable = new NoGuessSolver(2, 4).solve(mines, 1, 0, () -> false);
+
+        // Assert
+        assertFalse(solvable);
+    }
+
+    @Test
+    void nextSeed_ShouldServePreparedBoardsFromTheReadyQueue() throws Exception {
+        // Arrange: fila aquecida antes da primeira rodada
+        NoGuessMineGenerationStrategy strategy = new NoGuessMineGenerationStrategy(9L, ForkJoinPool.commonPool(),
+            NoGuessMineGenerationStrategy.DEFAULT_READY_CAPACITY);
+        strategy.prepare(9, 9, 10).get();
+        Board board = new Board(9, 9, 10, strategy);
+
+        // Act
+        board.generateBoard();
+
+        // Assert: nada foi validado na hora, e o tabuleiro entregue é o que a semente regenera
+        assertEquals(0, strategy.getSearchedOnDemand());
+        Board replay = new Board(9, 9, 10, new NoGuessMineGenerationStrategy(0L, ForkJoinPool.commonPool(), 0));
+        replay.generateBoard(board.getSeed());
+        assertArrayEquals(minesOf(replay), minesOf(board));
+        assertEquals(RoundJournal.GENERATOR_NO_GUESS, RoundJournal.generatorCode(strategy));
+    }
+
+    @Test
+    void prepare_ImpossibleConfigurationShouldFailAndBeRemembered() {
+        // Arrange: 3x3 não tem casa fora da vizinhança inicial
+        NoGuessMineGenerationStrategy strategy = new NoGuessMineGenerationStrategy(5L, ForkJoinPool.commonPool(),
+            NoGuessMineGenerationStrategy.DEFAULT_READY_CAPACITY);
+
+        // Act
+        ExecutionException first = assertThrows(ExecutionException.class, () -> strategy.prepare(3, 3, 1).get());
+        long seed = strategy.nextSeed(3, 3, 1);
+
+        // Assert: a falha chega pelo futuro e a configuração não volta para a fila
+        assertInstanceOf(IllegalArgumentException.class, first.getCause());
+        assertTrue(strategy.prepare(3, 3, 1).isCompletedExceptionally());
+        assertEquals(0, strategy.getReadyCount(3, 3, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> strategy.generate(new Board(3, 3, 1, strategy), 1, seed));
+    }
+
+    @Test
+    void firstReveal_ShouldRegenerateTheBoardFromTheClickedCell() {
+        // Arrange: duas mesas com a mesma semente, como o jogo e o seu replay
+        Game game = new Game(new Board(16, 16, 40, new NoGuessMineGenerationStrategy(3L)), new Player(1000.0));
+        Game replay = new Game(new Board(16, 16, 40, new NoGuessMineGenerationStrategy(4L)), new Player(1000.0));
+        game.setCascadeEnabled(true);
+        replay.setCascadeEnabled(true);
+        game.startGame(10.0, 77L);
+        replay.startGame(10.0, 77L);
+
+        // Act: começa no canto, longe do centro suposto na geração
+        boolean safe = game.revealCell(0, 0);
+        replay.revealCell(0, 0);
+
+        // Assert: o canto abre cascata, o tabuleiro é sem chute a partir dele e a semente o reproduz
+        Board board = game.getBoard();
+        assertTrue(safe);
+        assertEquals(0, board.adjacentMinesAt(0));
+        assertEquals(40, board.getRemainingMines());
+        assertTrue(new NoGuessSolver(16, 16).solve(minesOf(board), 40, 0, () -> false));
+        assertArrayEquals(minesOf(board), minesOf(replay.getBoard()));
+        assertEquals(-1, board.getStartIndex());
+    }
+
+    @Test
+    void useHint_BeforeFirstReveal_ShouldKeepTheBoard() {
+        // Arrange
+        Game game = new Game(new Board(9, 9, 10, new NoGuessMineGenerationStrategy(6L)), new Player(1000.0));
+        game.startGame(10.0, 21L);
+        long[] before = minesOf(game.getBoard());
+
+        // Act: a dica mostra minas do tabuleiro atual antes do primeiro clique
+        game.useHint(0, 1);
+        game.revealCell(8, 8);
+
+        // Assert: o clique não troca as minas que a dica já mostrou
+        assertArrayEquals(before, minesOf(game.getBoard()));
+    }
+
+    @Test
+    void nextSeed_ShouldKeepOnlyTheLastUnusedReservation() throws Exception {
+        // Arrange
+        NoGuessMineGenerationStrategy strategy = new NoGuessMineGenerationStrategy(8L, ForkJoinPool.commonPool(),
+            NoGuessMineGenerationStrategy.DEFAULT_READY_CAPACITY);
+        strategy.prepare(9, 9, 10).get();
+
+        // Act: sementes pedidas e nunca geradas não se acumulam
+        strategy.nextSeed(9, 9, 10);
+        strategy.nextSeed(9, 9, 10);
+        long last = strategy.nextSeed(9, 9, 10);
+        int reserved = strategy.getClaimedCount();
+        strategy.generate(new Board(9, 9, 10, strategy), 10, last);
+
+        // Assert: uma reserva por configuração, consumida pelo generate sem validar na hora
+        assertEquals(1, reserved);
+        assertEquals(0, strategy.getClaimedCount());
+        assertEquals(0, strategy.getSearchedOnDemand());
+    }
+
+    @Test
+    void nextSeed_SeededStrategyShouldRepeatTheSequence() {
+        // Arrange
+        NoGuessMineGenerationStrategy first = new NoGuessMineGenerationStrategy(11L);
+        NoGuessMineGenerationStrategy second = new NoGuessMineGenerationStrategy(11L);
+
+        // Act + Assert: sem fila de prontos, a sequência não depende de escalonamento
+        for (int i = 0; i < 5; i++) {
+            assertEquals(first.nextSeed(9, 9, 10), second.nextSeed(9, 9, 10));
+        }
+    }
+
+    private static long[] minesOf(Board board) {
+        int n = board.getRows() * board.getCols();
+        long[] mines = new long[(n + 63) >>> 6];
+        for (int index = 0; index < n; index++) {
+            if (board.hasMineAt(index)) {
+                mines[index >>> 6] |= 1L << index;
+            }
+        }
+        return mines;
+    }
+}
@@ -0,0 +1,99 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa o registro central de observadores por índice de célula.
+ */
+class ObserverRegistryTest {
+
+    @Test
+    void notifyCell_ShouldReachOnlyObserversOfThatCellInRegistrationOrder() {
+        // Arrange: muitas células, forçando o crescimento da tabela
+        ObserverRegistry registry = new ObserverRegistry();
+        List<String> calls = new ArrayList<>();
+        List<Observer> keepAlive = new ArrayList<>();
+        for (int cell = 0; cell < 1000; cell++) {
+            int id = cell;
+            Observer o = () -> calls.add("c" + id);
+            keepAlive.add(o);
+            registry.add(cell, o);
+        }
+        Observer first = () -> calls.add("first");
+        Observer second = () -> calls.add("second");
+        registry.add(500, first);
+        registry.add(500, second);
+
+        // Act
+        registry.notifyCell(500);
+        registry.remove(500, first);
+        registry.notifyCell(500);
+        registry.notifyCell(5000); // célula sem observadores
+
+        // Assert
+        assertEquals(List.of("c500", "first", "second", "c500", "second"), calls);
+        assertEquals(1001, registry.size());
+        Reference.reachabilityFence(keepAlive);
+        Reference.reachabilityFence(second);
+    }
+
+    @Test
+    void unreachableObserver_ShouldBeCollectedAndExpunged() throws Exception {
+        // Arrange: observador só alcançável pelo registro (botão descartado)
+        ObserverRegistry registry = new ObserverRegistry();
+        WeakReference<Observer> probe = registerDroppedObserver(registry, 42);
+        Observer live = () -> { };
+        registry.add(7, live);
+
+        // Act: força coletas até o observador sumir
+        for (int i = 0; i < 50 && probe.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        registry.expunge();
+        registry.notifyCell(42);
+
+        // Assert: entrada descartada, observador vivo preservado
+        assertNull(probe.get(), "Registro não deve manter o observador vivo");
+        assertEquals(1, registry.size());
+        assertNotNull(live);
+    }
+
+    private static WeakReference<Observer> registerDroppedObserver(ObserverRegistry registry, int cell) {
+        Observer dropped = new Observer() {
+            private final byte[] pixels = new byte[1 << 20];
+
+            @Override
+            public void update() {
+                fail("Observador coletado não pode ser notificado " + pixels.length);
+            }
+        };
+        registry.add(cell, dropped);
+        return new WeakReference<>(dropped);
+    }
+
+    @Test
+    void newRound_ShouldDropCellObservers() {
+        // Arrange
+        Board board = new Board(4, 4, 0);
+        board.generateBoard(1L);
+        int[] notifications = {0};
+        Observer observer = () -> notifications[0]++;
+        board.getCell(1, 1).addObserver(observer);
+
+        // Act
+        board.generateBoard(2L);
+        board.reveal(1, 1);
+
+        // Assert
+        assertEquals(0, notifications[0]);
+        assertEquals(0, board.observerRegistry().size());
+    }
+}
@@ -0,0 +1,153 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa a carteira do Player sob acesso concorrente de várias threads.
+ */
+class PlayerTest {
+    private static final int THREADS = 8;
+
+    /**
+     * Executa a mesma tarefa em THREADS threads liberadas ao mesmo tempo
+     * e devolve os resultados de cada uma.
+     */
+    private static List<long[]> runConcurrently(Callable<long[]> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<long[]> results = new ArrayList<>();
+            for (Future<long[]> f : futures) {
+                results.add(f.get());
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentBetsAndWinnings_ShouldNotLoseUpdates() throws Exception {
+        // Arrange: saldo pequeno para forçar disputa e rejeições por saldo insuficiente
+        Player player = new Player(10.0);
+        AtomicBoolean sawNegative = new AtomicBoolean();
+        AtomicLong notifications = new AtomicLong();
+        player.addObserver(() -> {
+            notifications.incrementAndGet();
+            if (player.getBalanceMinor() < 0) {
+                sawNegative.set(true);
+            }
+        });
+        AtomicLong seeds = new AtomicLong(1);
+
+        // Act: cada thread alterna apostas e ganhos aleatórios, contando o que foi aceito
+        List<long[]> results = runConcurrently(() -> {
+            SplittableRandom random = new SplittableRandom(seeds.getAndIncrement());
+            long debited = 0;
+            long credited = 0;
+            long operations = 0;
+            for (int i = 0; i < 20_000; i++) {
+                long amount = 1 + random.nextInt(500);
+                if (random.nextBoolean()) {
+                    try {
+                        player.placeBetMinor(amount);
+                        debited += amount;
+                        operations++;
+                    } catch (IllegalArgumentException e) {
+                        // saldo insuficiente: rejeição válida
+                    }
+                } else {
+                    player.addWinningsMinor(amount);
+                    credited += amount;
+                    operations++;
+                }
+            }
+            return new long[] {debited, credited, operations};
+        });
+
+        // Assert: saldo final = inicial - débitos aceitos + créditos
+        long expected = 1000;
+        long operations = 0;
+        for (long[] r : results) {
+            expected += r[1] - r[0];
+            operations += r[2];
+        }
+        assertEquals(expected, player.getBalanceMinor(), "Nenhuma atualização de saldo deve se perder");
+        assertFalse(sawNegative.get(), "Saldo nunca pode ficar negativo");
+        assertEquals(operations, notifications.get(), "Cada operação aceita notifica uma vez");
+    }
+
+    @Test
+    void concurrentBets_ShouldNeverOverdraw() throws Exception {
+        // Arrange: saldo exato para 1000 apostas de 1 centavo
+        Player player = new Player(10.0);
+
+        // Act: 8 threads tentam 1000 apostas cada
+        List<long[]> results = runConcurrently(() -> {
+            long accepted = 0;
+            for (int i = 0; i < 1000; i++) {
+                try {
+                    player.placeBetMinor(1);
+                    accepted++;
+                } catch (IllegalArgumentException e) {
+                    // saldo esgotado
+                }
+            }
+            return new long[] {accepted};
+        });
+
+        // Assert: exatamente 1000 apostas aceitas no total
+        long accepted = 0;
+        for (long[] r : results) {
+            accepted += r[0];
+        }
+        assertEquals(1000, accepted);
+        assertEquals(0, player.getBalanceMinor());
+    }
+
+    @Test
+    void observers_ShouldTolerateConcurrentRegistration() throws Exception {
+        // Arrange
+        Player player = new Player(0.0);
+
+        // Act: metade das threads registra/remove observadores enquanto a outra notifica
+        AtomicLong ids = new AtomicLong();
+        runConcurrently(() -> {
+            boolean writer = ids.getAndIncrement() % 2 == 0;
+            for (int i = 0; i < 2000; i++) {
+                if (writer) {
+                    Observer o = () -> { };
+                    player.addObserver(o);
+                    player.removeObserver(o);
+                } else {
+                    player.addWinningsMinor(1);
+                }
+            }
+            return new long[0];
+        });
+
+        // Assert: sem ConcurrentModificationException e com todos os créditos aplicados
+        assertEquals(THREADS / 2 * 2000L, player.getBalanceMinor());
+    }
+}
@@ -0,0 +1,100 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa o replay paralelo de rodadas gravadas no journal.
+ */
+class ReplayEngineTest {
+
+    @Test
+    void replay_ShouldMatchEveryRecordedRound() throws Exception {
+        Path file = Files.createTempFile("rounds", ".cmj");
+        Files.delete(file);
+        try {
+            // Arrange: 20 mil rodadas em duas configurações, com cascata, dica e primeira jogada segura
+            try (RoundJournal journal = new RoundJournal(file)) {
+                Game[] games = {
+                    new Game(new Board(5, 5, 3), new Player(1e9)),
+                    new Game(new Board(9, 9, 10), new Player(1e9))
+                };
+                SplittableRandom random = new SplittableRandom(3L);
+                for (Game game : games) {
+                    game.setJournal(journal);
+                }
+                for (int r = 0; r < 20_000; r++) {
+                    Game game = games[r % 2];
+                    game.setCascadeEnabled(r % 5 == 0);
+                    game.setFirstClickSafe(r % 3 == 0);
+                    game.startGame(0.5 + r % 4);
+                    int cells = game.getBoard().getRows() * game.getBoard().getCols();
+                    for (int m = 0; m < 4 && !game.checkGameOver(); m++) {
+                        int cell = random.nextInt(cells);
+                        game.revealCell(cell / game.getBoard().getCols(), cell % game.getBoard().getCols());
+                        if (m == 1 && !game.isLost() && !game.isHintUsed() && random.nextInt(3) == 0) {
+                            game.useHint();
+                        }
+                    }
+                    if (!game.isLost()) {
+                        game.cashOut();
+                    }
+                }
+            }
+
+            // Act
+            ReplayReport report = new ReplayEngine(new ForkJoinPool(4)).run(file);
+
+            // Assert
+            assertEquals(20_000, report.getRounds());
+            assertEquals(20_000, report.getReplayed());
+            assertEquals(20_000, report.getMatched());
+            assertEquals(0, report.getMismatches(), report.toString());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void replay_ShouldReportMismatchesAndSkipUnverifiableRounds() throws Exception {
+        Path file = Files.createTempFile("rounds", ".cmj");
+        Files.delete(file);
+        try {
+            // Arrange: saque adulterado, rodada aberta e rodada com minas fixas
+            try (RoundJournal journal = new RoundJournal(file)) {
+                Board board = new Board(5, 5, 3);
+                board.generateBoard(99L);
+                long tampered = journal.recordStart(board, 1000, false);
+                journal.recordCashOut(tampered, 12_345);
+
+                journal.recordStart(board, 1000, false);
+
+                Board fixed = new Board(2, 2, 1,
+                    new FixedMineGenerationStrategy(new int[][] {{0, 0}}));
+                fixed.generateBoard();
+                long manual = journal.recordStart(fixed, 1000, false);
+                journal.recordCashOut(manual, 400);
+            }
+
+            // Act
+            ReplayReport report = new ReplayEngine().run(file);
+
+            // Assert: payout sem jogadas é 0.4 × 10.00 = 4.00, não 123.45
+            assertEquals(3, report.getRounds());
+            assertEquals(1, report.getMismatches());
+            assertEquals(1, report.getOpen());
+            assertEquals(1, report.getUnreproducible());
+            ReplayReport.Mismatch mismatch = report.getSamples().get(0);
+            assertEquals(12_345, mismatch.getRecordedMinor());
+            assertEquals(400, mismatch.getReplayedMinor());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa a gravação de rodadas no RoundJournal e a reconstrução
+ * das rodadas a partir da semente e das jogadas.
+ */
+class RoundJournalTest {
+
+    /**
+     * Joga rodadas aleatórias (revelações simples e em lote, dica e saque)
+     * e retorna o total pago em centavos.
+     */
+    private static long playRounds(Game game, int rounds, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int cells = game.getBoard().getRows() * game.getBoard().getCols();
+        long paid = 0;
+        for (int r = 0; r < rounds; r++) {
+            game.setCascadeEnabled(r % 3 == 0);
+            game.startGame(1.0 + r % 7);
+            int moves = 1 + random.nextInt(6);
+            for (int m = 0; m < moves && !game.checkGameOver(); m++) {
+                if (m == 2 && random.nextBoolean()) {
+                    game.revealCells(new int[] {random.nextInt(cells), random.nextInt(cells)});
+                } else {
+                    int cell = random.nextInt(cells);
+                    game.revealCell(cell / game.getBoard().getCols(), cell % game.getBoard().getCols());
+                }
+                if (m == 0 && !game.isLost() && random.nextInt(4) == 0) {
+                    game.useHint();
+                }
+            }
+            if (!game.isLost()) {
+                paid += game.cashOutMinor();
+            }
+        }
+        return paid;
+    }
+
+    @Test
+    void recordedRounds_ShouldReplayToTheSamePayout() throws Exception {
+        Path file = Files.createTempFile("rounds", ".cmj");
+        Files.delete(file);
+        try {
+            // Arrange: dois jogos (mesas) compartilhando o journal
+            long paid;
+            try (RoundJournal journal = new RoundJournal(file)) {
+                Game a = new Game(new Board(6, 6, 5), new Player(1e9));
+                Game b = new Game(new Board(8, 5, 12), new Player(1e9));
+                a.setJournal(journal);
+                b.setJournal(journal);
+                paid = playRounds(a, 500, 1L) + playRounds(b, 500, 2L);
+            }
+
+            // Act
+            List<RecordedRound> rounds;
+            try (JournalReader reader = new JournalReader(file)) {
+                rounds = reader.readRounds();
+            }
+
+            // Assert: todas as rodadas fechadas e cada replay reproduz o payout gravado
+            assertEquals(1000, rounds.size());
+            long recorded = 0;
+            for (RecordedRound round : rounds) {
+                assertNotEquals(RecordedRound.Status.OPEN, round.getStatus());
+                recorded += round.getRecordedPayoutMinor();
+                assertEquals(round.getRecordedPayoutMinor(), round.replay(),
+                    "Rodada " + round.getId() + " deve ser reconstruída pela semente");
+            }
+            assertEquals(paid, recorded);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void reopenedJournal_ShouldAppendAfterLastRecord() throws Exception {
+        Path file = Files.createTempFile("rounds", ".cmj");
+        Files.delete(file);
+        try {
+            // Arrange: primeira sessão deixa uma rodada aberta e só faz flush (sem truncar)
+            RoundJournal first = new RoundJournal(file);
+            Game game = new Game(new Board(5, 5, 3), new Player(100.0));
+            game.setJournal(first);
+            game.startGame(2.0);
+            first.flush();
+            assertTrue(Files.size(file) > 1 << 20, "Janela mapeada ainda não truncada");
+
+            // Act: leitura com cauda zerada e, depois de fechar, nova sessão no mesmo arquivo
+            List<RecordedRound> beforeClose;
+            try (JournalReader reader = new JournalReader(file)) {
+                beforeClose = reader.readRounds();
+            }
+            first.close();
+            try (RoundJournal second = new RoundJournal(file)) {
+                game.setJournal(second);
+                game.startGame(3.0);
+                game.cashOut();
+            }
+            List<RecordedRound> all;
+            try (JournalReader reader = new JournalReader(file)) {
+                all = reader.readRounds();
+            }
+
+            // Assert
+            assertEquals(1, beforeClose.size());
+            assertEquals(RecordedRound.Status.OPEN, beforeClose.get(0).getStatus());
+            assertEquals(2, all.size());
+            assertEquals(300, all.get(0).getBetMinor(), "Rodada sacada é entregue primeiro");
+            assertEquals(2, all.get(0).getId(), "Identificadores continuam após reabrir");
+            assertEquals(RecordedRound.Status.OPEN, all.get(1).getStatus());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void writerFailure_ShouldBeReportedInsteadOfHanging() throws Exception {
+        Path file = Files.createTempFile("rounds", ".cmj");
+        Files.delete(file);
+        // Arrange: janelas de 64 bytes; a troca de janela (novo map) falha
+        FailingMapChannel channel = new FailingMapChannel(FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE));
+        RoundJournal journal = new RoundJournal(channel, 4, 1, 64);
+        try {
+            // Act + Assert: produtores não ficam presos no anel cheio
+            assertThrows(UncheckedIOException.class, () -> {
+                for (int i = 0; i < 1_000; i++) {
+                    journal.recordReveal(1, i, true);
+                }
+            });
+            // flush não confirma uma durabilidade que não aconteceu
+            assertThrows(UncheckedIOException.class, journal::flush);
+            assertThrows(UncheckedIOException.class, journal::close);
+            assertFalse(channel.isOpen(), "close deve liberar o arquivo mesmo após a falha");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void flush_UnderContinuousPublishing_ShouldNotStarve() throws Exception {
+        Path file = Files.createTempFile("rounds", ".cmj");
+        Files.delete(file);
+        // Arrange: anel pequeno mantido cheio por vários produtores e commit por prazo bem longo
+        RoundJournal journal = new RoundJournal(file, 4, 60_000);
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread[] producers = new Thread[4];
+        for (int p = 0; p < producers.length; p++) {
+            producers[p] = new Thread(() -> {
+                for (int i = 0; !stop.get(); i++) {
+                    journal.recordReveal(1, i & 1023, true);
+                }
+            });
+            producers[p].start();
+        }
+        try {
+            // Act: flush enquanto o produtor continua publicando
+            Thread flusher = new Thread(journal::flush);
+            flusher.start();
+            flusher.join(10_000);
+
+            // Assert: o commit pedido acontece entre escritas, sem esperar o anel esvaziar
+            assertFalse(flusher.isAlive(), "flush não deve esperar a publicação parar");
+        } finally {
+            stop.set(true);
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            journal.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /** Canal que delega ao arquivo real, mas falha a partir do segundo map. */
+    private static final class FailingMapChannel extends FileChannel {
+        private final FileChannel delegate;
+        private int maps;
+
+        FailingMapChannel(FileChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            if (++maps > 1) {
+                throw new UncheckedIOException(new IOException("Disco cheio"));
+            }
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return delegate.write(src);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.ImageIcon;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa o cache de imagens redimensionadas compartilhado pelas células.
+ */
+class ScaledIconCacheTest {
+
+    private static ScaledIconCache newCache(int capacity) {
+        return new ScaledIconCache(new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB), capacity);
+    }
+
+    @Test
+    void get_SameSize_ShouldShareOneScaledIcon() {
+        // Arrange
+        ScaledIconCache cache = newCache(4);
+
+        // Act: mil células do mesmo tamanho pedem o ícone
+        ImageIcon first = cache.get(40);
+        for (int i = 0; i < 1000; i++) {
+            assertSame(first, cache.get(40));
+        }
+
+        // Assert
+        assertEquals(40, first.getIconWidth());
+        assertEquals(40, first.getIconHeight());
+        assertEquals(1, cache.getScaleCount(), "Redimensiona uma única vez por tamanho");
+    }
+
+    @Test
+    void get_BeyondCapacity_ShouldEvictLeastRecentlyUsed() {
+        // Arrange
+        ScaledIconCache cache = newCache(2);
+        ImageIcon small = cache.get(10);
+        cache.get(20);
+
+        // Act: acessa 10 (fica mais recente) e pede um terceiro tamanho
+        cache.get(10);
+        cache.get(30);
+
+        // Assert: 20 foi descartado, 10 continua em cache
+        assertEquals(2, cache.size());
+        assertSame(small, cache.get(10));
+        assertEquals(3, cache.getScaleCount());
+        cache.get(20);
+        assertEquals(4, cache.getScaleCount(), "Tamanho descartado é redimensionado de novo");
+    }
+
+    @Test
+    void get_NonPositiveSize_ShouldReturnNull() {
+        // Botão ainda sem layout tem largura 0
+        ScaledIconCache cache = newCache(2);
+        assertNull(cache.get(0));
+        assertEquals(0, cache.size());
+    }
+}
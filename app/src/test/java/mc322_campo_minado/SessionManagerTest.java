@@ -0,0 +1,87 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa o servidor de sessões: serialização das jogadas por sessão,
+ * erros de regra e carga com milhares de mesas.
+ */
+class SessionManagerTest {
+
+    @Test
+    void concurrentMovesOnOneSession_ShouldBeSerialized() throws Exception {
+        try (SessionManager manager = new SessionManager()) {
+            // Arrange: mesa 10x10 sem minas
+            long id = manager.openSession(10, 10, 0, new Player(100.0));
+            manager.start(id, 1.0).join();
+
+            // Act: 8 threads revelam todas as células da mesma sessão ao mesmo tempo
+            List<Thread> threads = new ArrayList<>();
+            List<CompletableFuture<Boolean>> moves = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                Thread thread = new Thread(() -> {
+                    for (int cell = 0; cell < 100; cell++) {
+                        CompletableFuture<Boolean> move = manager.reveal(id, cell / 10, cell % 10);
+                        synchronized (moves) {
+                            moves.add(move);
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            CompletableFuture.allOf(moves.toArray(CompletableFuture<?>[]::new)).join();
+
+            // Assert: cada célula contada exatamente uma vez
+            Game game = manager.game(id);
+            assertEquals(100, game.getSafeCellsRevealed());
+            assertEquals(0, game.getBoard().getRemainingSafeCells());
+        }
+    }
+
+    @Test
+    void cashOutWithoutRound_ShouldFailTheFuture() {
+        try (SessionManager manager = new SessionManager()) {
+            // Arrange
+            long id = manager.openSession(5, 5, 3, new Player(10.0));
+
+            // Act
+            CompletableFuture<Double> cashOut = manager.cashOut(id);
+
+            // Assert: erro de regra vem pelo futuro; sessão inexistente falha na chamada
+            ExecutionException e = assertThrows(ExecutionException.class, cashOut::get);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertThrows(IllegalArgumentException.class, () -> manager.reveal(id + 1, 0, 0));
+        }
+    }
+
+    @Test
+    void loadGenerator_ShouldRunThousandsOfSessionsOnOneWallet() {
+        try (SessionManager manager = new SessionManager()) {
+            // Arrange: 2000 mesas apostando da mesma carteira
+            Player player = new Player(1_000_000.0);
+            SessionLoadGenerator generator = new SessionLoadGenerator(2000, 3, 5, 3, 3);
+
+            // Act
+            LoadReport report = generator.run(manager, player, 42L);
+
+            // Assert: todas as rodadas jogadas, ao menos start + uma revelação por rodada
+            assertEquals(2000, manager.getSessionCount());
+            assertEquals(6000, report.getRounds());
+            assertTrue(report.getMoves() >= 2 * 6000);
+            assertTrue(report.getP50Nanos() > 0);
+            assertTrue(report.getP99Nanos() >= report.getP50Nanos());
+            assertTrue(player.getBalance() < 1_000_000.0, "Apostas debitadas da carteira compartilhada");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do motor de simulação headless.
+ */
+class SimulationEngineTest {
+
+    @Test
+    void run_ShouldMatchTheoreticalRtpOfRevealThenCashOut() {
+        // Arrange: 5x5, 3 minas, revela 3 casas e saca.
+        // RTP teórico = 0.4 * S * (N - k) / (N * (S - k)) com N = 25, S = 22, k = 3
+        double expected = 0.4 * 22 * 22 / (25.0 * 19);
+        SimulationEngine engine = new SimulationEngine(5, 5, 3, 10.0,
+            new RevealThenCashOutPolicy(3, false));
+
+        // Act
+        SimulationReport report = engine.run(200_000, 2, 42L);
+
+        // Assert
+        assertEquals(200_000, report.getRounds());
+        assertEquals(expected, report.getRtp(), 0.01, "RTP empírico deve seguir a fórmula do multiplicador");
+        assertEquals(1.0 - report.getRtp(), report.getHouseEdge(), 1e-12);
+        long histogramTotal = 0;
+        for (long count : report.getHistogram()) {
+            histogramTotal += count;
+        }
+        assertEquals(report.getRounds(), histogramTotal, "Histograma deve cobrir todas as rodadas");
+        assertEquals(report.getLosses(), report.getHistogram()[0], "Faixa zero são as perdas");
+    }
+
+    @Test
+    void run_WithSameSeedAndThreads_ShouldBeReproducible() {
+        // Arrange
+        SimulationEngine engine = new SimulationEngine(4, 4, 4, 1.0, new RevealThenCashOutPolicy(2, true));
+
+        // Act
+        SimulationReport a = engine.run(10_000, 3, 7L);
+        SimulationReport b = engine.run(10_000, 3, 7L);
+
+        // Assert
+        assertEquals(a.getReturned(), b.getReturned(), 1e-9);
+        assertEquals(a.getLosses(), b.getLosses());
+    }
+
+    @Test
+    void hintPolicy_ShouldPayHintFee() {
+        // Arrange: sem minas, toda rodada sobrevive; a dica custa 75% do payout
+        SimulationEngine withHint = new SimulationEngine(3, 3, 0, 1.0, new RevealThenCashOutPolicy(2, true));
+        SimulationEngine withoutHint = new SimulationEngine(3, 3, 0, 1.0, new RevealThenCashOutPolicy(2, false));
+
+        // Act
+        double rtpHint = withHint.run(100, 1, 1L).getRtp();
+        double rtpPlain = withoutHint.run(100, 1, 1L).getRtp();
+
+        // Assert
+        assertEquals(0.4, rtpPlain, 1e-9);
+        assertEquals(0.4 * 0.25, rtpHint, 1e-9);
+    }
+}
@@ -0,0 +1,118 @@
+package mc322_campo_minado;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testa a entrega em lote dos eventos do engine e as jogadas compostas
+ * da GameSession usadas pela interface.
+ */
+class UiEventBusTest {
+
+    @Test
+    void post_ManyEvents_ShouldApplyInOrderInFewBatches() {
+        // Arrange: "EDT" manual, que só roda quando o teste manda
+        Queue<Runnable> edt = new ArrayDeque<>();
+        UiEventBus bus = new UiEventBus(edt::add);
+        List<Integer> applied = new ArrayList<>();
+
+        // Act: 3000 eventos publicados antes de a EDT rodar
+        for (int i = 0; i < 3000; i++) {
+            int value = i;
+            bus.post(() -> applied.add(value));
+        }
+        int scheduledBeforeRun = edt.size();
+        while (!edt.isEmpty()) {
+            edt.poll().run();
+        }
+
+        // Assert: um único invokeLater pendente; lotes limitados a 1024 eventos
+        assertEquals(1, scheduledBeforeRun);
+        assertEquals(3, bus.getBatchCount());
+        assertEquals(3000, applied.size());
+        for (int i = 0; i < applied.size(); i++) {
+            assertEquals(i, applied.get(i).intValue());
+        }
+    }
+
+    @Test
+    void post_DuringDrain_ShouldNotBeLost() {
+        // Arrange
+        Queue<Runnable> edt = new ArrayDeque<>();
+        UiEventBus bus = new UiEventBus(edt::add);
+        List<String> applied = new ArrayList<>();
+
+        // Act: um evento publica outro enquanto o lote é aplicado
+        bus.post(() -> {
+            applied.add("a");
+            bus.post(() -> applied.add("b"));
+        });
+        while (!edt.isEmpty()) {
+            edt.poll().run();
+        }
+
+        // Assert
+        assertEquals(List.of("a", "b"), applied);
+    }
+
+    @Test
+    void play_ShouldRunOffCallerThreadAndEndRoundOnCashOut() throws Exception {
+        // Arrange: sessão com engine próprio, como na interface
+        ExecutorService engine = Executors.newSingleThreadExecutor();
+        try {
+            Board board = new Board(5, 5, 3, new FloydMineGenerationStrategy(), Board.StorageType.PACKED);
+            GameSession session = new GameSession(1, new Game(board, new Player(100.0)), engine);
+            session.start(10.0).get(5, TimeUnit.SECONDS);
+
+            // Act
+            Thread caller = Thread.currentThread();
+            Thread ran = session.play(game -> Thread.currentThread()).get(5, TimeUnit.SECONDS);
+            double available = session.play(game -> game.getBet().getCurrentPayout()).get(5, TimeUnit.SECONDS);
+            double payout = session.play(Game::cashOut).get(5, TimeUnit.SECONDS);
+
+            // Assert: o Game rodou no engine e a rodada deixou de estar ativa
+            assertNotSame(caller, ran);
+            assertEquals(available, payout, 1e-9);
+            Exception ex = assertThrows(Exception.class,
+                () -> session.play(game -> game.revealCell(0, 0)).get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        } finally {
+            engine.shutdownNow();
+        }
+    }
+
+    @Test
+    void play_WinningWithoutCashOut_ShouldKeepPayoutCollectable() throws Exception {
+        // Arrange: 2x2 com mina em (0,0); três casas seguras
+        ExecutorService engine = Executors.newSingleThreadExecutor();
+        try {
+            Board board = new Board(2, 2, 1, new FixedMineGenerationStrategy(new int[][] {{0, 0}}));
+            GameSession session = new GameSession(1, new Game(board, new Player(100.0)), engine);
+            session.start(10.0).get(5, TimeUnit.SECONDS);
+
+            // Act: uma jogada composta abre todas as casas seguras, sem sacar
+            double available = session.play(game -> {
+                game.revealCells(new int[] {1, 2, 3});
+                return game.getBet().getCurrentPayout();
+            }).get(5, TimeUnit.SECONDS);
+            double payout = session.cashOut().get(5, TimeUnit.SECONDS);
+
+            // Assert: a vitória não encerrou a rodada antes do saque
+            assertTrue(available > 10.0);
+            assertEquals(available, payout, 1e-9);
+            Exception ex = assertThrows(Exception.class, () -> session.cashOut().get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        } finally {
+            engine.shutdownNow();
+        }
+    }
+}